@@ -107,6 +107,20 @@ public interface OpenApiConfig {
                 Collections::emptyList);
     }
 
+    /**
+     * @return the servers of all paths having servers configured, keyed by path
+     */
+    default Map<String, List<String>> pathServers() {
+        return getConfigValueMap(OASConfig.SERVERS_PATH_PREFIX, String[].class, this::toList);
+    }
+
+    /**
+     * @return the servers of all operations having servers configured, keyed by operationId
+     */
+    default Map<String, List<String>> operationServers() {
+        return getConfigValueMap(OASConfig.SERVERS_OPERATION_PREFIX, String[].class, this::toList);
+    }
+
     default boolean scanDependenciesDisable() {
         return getConfigValue(OpenApiConstants.SMALLRYE_SCAN_DEPENDENCIES_DISABLE, Boolean.class,
                 () -> getConfigValue(OpenApiConstants.SCAN_DEPENDENCIES_DISABLE, Boolean.class,
@@ -229,10 +243,51 @@ public interface OpenApiConfig {
         return getConfigValue(OpenApiConstants.SCAN_EXCLUDE_PROFILES, String[].class, this::toSet, Collections::emptySet);
     }
 
+    default boolean retainScanProfiles() {
+        return getConfigValue(OpenApiConstants.SCAN_PROFILES_RETAIN, Boolean.class, () -> Boolean.FALSE);
+    }
+
     default Map<String, String> getScanResourceClasses() {
         return getConfigValueMap(OpenApiConstants.SCAN_RESOURCE_CLASS_PREFIX, String.class, Function.identity());
     }
 
+    default boolean parallelScannersEnable() {
+        return getConfigValue(OpenApiConstants.SCAN_PARALLEL_SCANNERS, Boolean.class, () -> Boolean.FALSE);
+    }
+
+    default boolean parallelResourcesEnable() {
+        return getConfigValue(OpenApiConstants.SCAN_PARALLEL_RESOURCES, Boolean.class, () -> Boolean.FALSE);
+    }
+
+    default boolean parallelSchemasEnable() {
+        return getConfigValue(OpenApiConstants.SCAN_PARALLEL_SCHEMAS, Boolean.class, () -> Boolean.FALSE);
+    }
+
+    /**
+     * @return the number of threads, and of groups of resource classes or schemas, used when
+     *         scanning in parallel. Defaults to the number of available processors.
+     */
+    default int scanParallelism() {
+        return getConfigValue(OpenApiConstants.SCAN_PARALLELISM, Integer.class,
+                () -> Runtime.getRuntime().availableProcessors());
+    }
+
+    default String scanCacheDirectory() {
+        return getConfigValue(OpenApiConstants.SCAN_CACHE_DIRECTORY, String.class, () -> null);
+    }
+
+    default boolean reflectiveFallbackDisable() {
+        return getConfigValue(OpenApiConstants.SCAN_REFLECTIVE_FALLBACK_DISABLE, Boolean.class, () -> Boolean.FALSE);
+    }
+
+    default String scanListener() {
+        return getConfigValue(OpenApiConstants.SCAN_LISTENER, String.class, () -> null);
+    }
+
+    default boolean fusedFiltersEnable() {
+        return getConfigValue(OpenApiConstants.FILTERS_FUSED, Boolean.class, () -> Boolean.FALSE);
+    }
+
     default boolean removeUnusedSchemas() {
         return getConfigValue(OpenApiConstants.SMALLRYE_REMOVE_UNUSED_SCHEMAS, Boolean.class, () -> Boolean.FALSE);
     }
@@ -1,12 +1,11 @@
 package io.smallrye.openapi.api;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 import org.eclipse.microprofile.config.Config;
 
@@ -19,7 +18,8 @@ import org.eclipse.microprofile.config.Config;
 public class OpenApiConfigImpl implements OpenApiConfig {
 
     private Config config;
-    private Map<String, Object> cache = new HashMap<>();
+    // Synchronized, the configuration may be read concurrently when scanning in parallel
+    private Map<String, Object> cache = Collections.synchronizedMap(new HashMap<>());
     private Optional<Boolean> allowNakedPathParameter = Optional.empty();
 
     /**
@@ -77,17 +77,7 @@ public class OpenApiConfigImpl implements OpenApiConfig {
         }
 
         T value = getOptionalValue(propertyName, type)
-                .filter(configValue -> {
-                    /*
-                     * configValue can be "" if optional {@link org.eclipse.microprofile.config.spi.Converter}s are used.
-                     * Enforce a null value if we get an empty string back.
-                     */
-                    if (String.class.equals(type)) {
-                        return !configValue.toString().trim().isEmpty();
-                    }
-
-                    return true;
-                })
+                .filter(configValue -> hasValue(type, configValue))
                 .map(converter)
                 .orElseGet(defaultValue);
 
@@ -103,14 +93,32 @@ public class OpenApiConfigImpl implements OpenApiConfig {
             return (Map<String, T>) cache.get(propertyNamePrefix);
         }
 
-        Map<String, T> valueMap = StreamSupport.stream(getPropertyNames().spliterator(), false)
-                .filter(propertyName -> propertyName.startsWith(propertyNamePrefix))
-                .collect(Collectors.toMap(
-                        name -> name.substring(propertyNamePrefix.length()),
-                        name -> converter.apply(getValue(name, type))));
+        Map<String, T> valueMap = new HashMap<>();
+
+        for (String propertyName : getPropertyNames()) {
+            if (propertyName.startsWith(propertyNamePrefix)) {
+                // Properties without a value (e.g. clearing the value of another profile) are ignored
+                getOptionalValue(propertyName, type)
+                        .filter(configValue -> hasValue(type, configValue))
+                        .ifPresent(configValue -> valueMap.put(propertyName.substring(propertyNamePrefix.length()),
+                                converter.apply(configValue)));
+            }
+        }
 
         cache.put(propertyNamePrefix, valueMap);
 
         return valueMap;
     }
+
+    private static boolean hasValue(Class<?> type, Object configValue) {
+        /*
+         * configValue can be "" if optional {@link org.eclipse.microprofile.config.spi.Converter}s are used.
+         * Enforce a null value if we get an empty string back.
+         */
+        if (String.class.equals(type)) {
+            return !configValue.toString().trim().isEmpty();
+        }
+
+        return true;
+    }
 }
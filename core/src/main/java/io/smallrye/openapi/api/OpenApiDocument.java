@@ -1,7 +1,9 @@
 package io.smallrye.openapi.api;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.microprofile.openapi.OASFilter;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
@@ -10,10 +12,14 @@ import io.smallrye.openapi.api.constants.OpenApiConstants;
 import io.smallrye.openapi.api.models.OpenAPIImpl;
 import io.smallrye.openapi.api.models.PathsImpl;
 import io.smallrye.openapi.api.models.info.InfoImpl;
+import io.smallrye.openapi.api.util.ClassLoaderUtil;
 import io.smallrye.openapi.api.util.ConfigUtil;
 import io.smallrye.openapi.api.util.FilterUtil;
 import io.smallrye.openapi.api.util.MergeUtil;
 import io.smallrye.openapi.api.util.UnusedSchemaFilter;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.scanner.spi.ScanListener;
+import io.smallrye.openapi.runtime.scanner.spi.ScanListener.Measurement;
 
 /**
  * Holds the final OpenAPI document produced during the startup of the app.
@@ -36,8 +42,11 @@ public class OpenApiDocument {
     private transient Map<String, OASFilter> filters = new LinkedHashMap<>();
     private transient String archiveName;
     private transient String version;
+    private transient ScanListener scanListener;
 
     private transient OpenAPI model;
+    // Serialized forms of the final model, replaced whenever the model changes
+    private transient Map<String, SerializedDocument> serialized = new ConcurrentHashMap<>();
 
     private OpenApiDocument() {
     }
@@ -65,6 +74,45 @@ public class OpenApiDocument {
      */
     public synchronized void set(OpenAPI model) {
         this.model = model;
+        serialized = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Retrieve the final OpenAPI document serialized in the given format and
+     * encoding. Each form is computed once, when first requested, and reused
+     * until the model is replaced or reset. The model must not be modified
+     * once it has been serialized.
+     *
+     * @param format the serialization format
+     * @param pretty whether JSON should be indented, ignored for YAML
+     * @param encoding the content encoding to apply
+     * @return the serialized document
+     * @throws IllegalStateException If the final model is not initialized yet
+     */
+    public SerializedDocument serialized(Format format, boolean pretty, SerializedDocument.Encoding encoding) {
+        final OpenAPI current;
+        final Map<String, SerializedDocument> cache;
+
+        synchronized (this) {
+            current = get();
+            cache = serialized;
+        }
+
+        // Compact and pretty YAML are identical, share a single instance
+        boolean indent = pretty && format == Format.JSON;
+        SerializedDocument document = cache.computeIfAbsent(key(format, indent, SerializedDocument.Encoding.IDENTITY),
+                k -> SerializedDocument.of(current, format, indent));
+
+        if (encoding != SerializedDocument.Encoding.IDENTITY) {
+            SerializedDocument identity = document;
+            document = cache.computeIfAbsent(key(format, indent, encoding), k -> identity.encode(encoding));
+        }
+
+        return document;
+    }
+
+    private static String key(Format format, boolean pretty, SerializedDocument.Encoding encoding) {
+        return format.name() + '/' + pretty + '/' + encoding.name();
     }
 
     /**
@@ -72,6 +120,7 @@ public class OpenApiDocument {
      */
     public synchronized void reset() {
         model = null;
+        serialized = new ConcurrentHashMap<>();
         clear();
     }
 
@@ -104,6 +153,17 @@ public class OpenApiDocument {
         }
     }
 
+    /**
+     * Set the listener receiving the measurements of the initialization, e.g. the
+     * listener that already received the measurements of the annotation scan. By
+     * default, the listener given by the configuration is created.
+     *
+     * @param scanListener the listener
+     */
+    public void scanListener(ScanListener scanListener) {
+        set(() -> this.scanListener = scanListener);
+    }
+
     public void archiveName(String archiveName) {
         set(() -> this.archiveName = archiveName);
     }
@@ -121,6 +181,10 @@ public class OpenApiDocument {
             throw ApiMessages.msg.configMustBeSet();
         }
 
+        ScanListener listener = scanListener != null ? scanListener
+                : ScanListener.of(config, ClassLoaderUtil.getDefaultClassLoader());
+        Measurement measurement = listener.start();
+
         // Phase 1: Use OASModelReader
         OpenAPI merged = readerModel;
 
@@ -130,8 +194,10 @@ public class OpenApiDocument {
         // Phase 3: Merge annotations
         merged = MergeUtil.mergeObjects(merged, annotationsModel);
 
+        listener.phase(ScanListener.PHASE_MERGE, measurement.stop());
+
         // Phase 4: Filter model via OASFilter
-        merged = filterModel(merged);
+        merged = filterModel(merged, listener);
 
         // Phase 5: Default empty document if model == null
         if (merged == null) {
@@ -154,9 +220,13 @@ public class OpenApiDocument {
         }
 
         // Phase 7: Use Config values to add Servers (global, pathItem, operation)
+        measurement = listener.start();
         ConfigUtil.applyConfig(config, merged);
+        listener.phase(ScanListener.PHASE_CONFIG, measurement.stop());
+        listener.completed();
 
         model = merged;
+        serialized = new ConcurrentHashMap<>();
         clear();
     }
 
@@ -165,20 +235,35 @@ public class OpenApiDocument {
      * simply return the model unchanged.
      *
      * @param model
+     * @param listener listener receiving the measurement of each filter
      */
-    private OpenAPI filterModel(OpenAPI model) {
+    private OpenAPI filterModel(OpenAPI model, ScanListener listener) {
         if (model == null) {
             return model;
         }
         if (config.removeUnusedSchemas()) {
-            model = FilterUtil.applyFilter(new UnusedSchemaFilter(), model);
+            model = applyFilter(new UnusedSchemaFilter(), model, listener);
+        }
+        if (config.fusedFiltersEnable()) {
+            // Apply all filters using a single traversal of the model
+            Measurement measurement = listener.start();
+            model = FilterUtil.applyFilters(new ArrayList<>(filters.values()), model);
+            listener.phase(ScanListener.PHASE_FILTERS_FUSED, measurement.stop());
+            return model;
         }
         for (OASFilter filter : filters.values()) {
-            model = FilterUtil.applyFilter(filter, model);
+            model = applyFilter(filter, model, listener);
         }
         return model;
     }
 
+    private static OpenAPI applyFilter(OASFilter filter, OpenAPI model, ScanListener listener) {
+        Measurement measurement = listener.start();
+        model = FilterUtil.applyFilter(filter, model);
+        listener.phase(ScanListener.PHASE_FILTER_PREFIX + filter.getClass().getName(), measurement.stop());
+        return model;
+    }
+
     private synchronized void set(Runnable action) {
         if (model != null) {
             modelAlreadyInitialized();
@@ -197,6 +282,7 @@ public class OpenApiDocument {
         staticFileModel = null;
         filters.clear();
         archiveName = null;
+        scanListener = null;
     }
 
 }
@@ -0,0 +1,179 @@
+package io.smallrye.openapi.api;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+import io.smallrye.openapi.runtime.OpenApiRuntimeException;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+
+/**
+ * An immutable, serialized form of an OpenAPI document, e.g. compact JSON or
+ * gzip-compressed YAML, together with a strong entity tag derived from the
+ * content. Instances are obtained from
+ * {@link OpenApiDocument#serialized(Format, boolean, Encoding)} and may be used
+ * to respond to requests for the document without serializing the model again.
+ */
+public final class SerializedDocument {
+
+    /**
+     * Content encoding applied to the serialized document.
+     */
+    public enum Encoding {
+        IDENTITY(null),
+        GZIP("gzip");
+
+        private final String contentEncoding;
+
+        Encoding(String contentEncoding) {
+            this.contentEncoding = contentEncoding;
+        }
+
+        /**
+         * @return the value of the HTTP {@code Content-Encoding} header for this encoding,
+         *         or null when the content is not encoded
+         */
+        public String getContentEncoding() {
+            return contentEncoding;
+        }
+    }
+
+    private final Format format;
+    private final boolean pretty;
+    private final Encoding encoding;
+    private final byte[] content;
+    private final String etag;
+
+    private SerializedDocument(Format format, boolean pretty, Encoding encoding, byte[] content) {
+        this.format = format;
+        this.pretty = pretty;
+        this.encoding = encoding;
+        this.content = content;
+        this.etag = etag(content);
+    }
+
+    /**
+     * Serialize the model using the given format.
+     *
+     * @param model the model to serialize
+     * @param format the serialization format
+     * @param pretty whether JSON should be indented, ignored for YAML
+     * @return the serialized (not encoded) document
+     */
+    static SerializedDocument of(OpenAPI model, Format format, boolean pretty) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        try {
+            OpenApiSerializer.serialize(model, format, pretty, output);
+        } catch (IOException e) {
+            throw new OpenApiRuntimeException(e);
+        }
+
+        return new SerializedDocument(format, pretty, Encoding.IDENTITY, output.toByteArray());
+    }
+
+    /**
+     * Create the encoded form of this (not encoded) document.
+     *
+     * @param encoding the content encoding to apply
+     * @return the encoded document
+     */
+    SerializedDocument encode(Encoding encoding) {
+        if (encoding == this.encoding) {
+            return this;
+        }
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream(content.length / 4);
+
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(content);
+        } catch (IOException e) {
+            throw new OpenApiRuntimeException(e);
+        }
+
+        return new SerializedDocument(format, pretty, encoding, output.toByteArray());
+    }
+
+    public Format getFormat() {
+        return format;
+    }
+
+    public boolean isPretty() {
+        return pretty;
+    }
+
+    public Encoding getEncoding() {
+        return encoding;
+    }
+
+    /**
+     * @return the media type of the document, e.g. {@code application/json}
+     */
+    public String getMediaType() {
+        return format.getMimeType();
+    }
+
+    /**
+     * @return the value of the HTTP {@code Content-Encoding} header for the document,
+     *         or null when the content is not encoded
+     */
+    public String getContentEncoding() {
+        return encoding.getContentEncoding();
+    }
+
+    /**
+     * @return the strong entity tag of the document (including the enclosing quotes),
+     *         derived from a SHA-256 hash of the content
+     */
+    public String getETag() {
+        return etag;
+    }
+
+    /**
+     * @return length of the content in bytes
+     */
+    public int getLength() {
+        return content.length;
+    }
+
+    /**
+     * @return read-only view of the content, shared with (and not copied from) this instance
+     */
+    public ByteBuffer getContent() {
+        return ByteBuffer.wrap(content).asReadOnlyBuffer();
+    }
+
+    /**
+     * @return a copy of the content
+     */
+    public byte[] toByteArray() {
+        return content.clone();
+    }
+
+    /**
+     * Write the content to the given stream. The stream is not closed.
+     *
+     * @param output the stream to write to
+     * @throws IOException Errors writing to the stream
+     */
+    public void writeTo(OutputStream output) throws IOException {
+        output.write(content);
+    }
+
+    private static String etag(byte[] content) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(content);
+            return '"' + Base64.getUrlEncoder().withoutPadding().encodeToString(hash) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            throw new OpenApiRuntimeException(e);
+        }
+    }
+}
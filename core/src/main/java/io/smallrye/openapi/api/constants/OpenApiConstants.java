@@ -46,7 +46,16 @@ public final class OpenApiConstants {
     public static final String SMALLRYE_REMOVE_UNUSED_SCHEMAS = SMALLRYE_PREFIX + SUFFIX_REMOVE_UNUSED_SCHEMAS_ENABLE;
     public static final String SCAN_PROFILES = SMALLRYE_PREFIX + "scan.profiles";
     public static final String SCAN_EXCLUDE_PROFILES = SMALLRYE_PREFIX + "scan.exclude.profiles";
+    public static final String SCAN_PROFILES_RETAIN = SMALLRYE_PREFIX + "scan.profiles.retain";
     public static final String SCAN_RESOURCE_CLASS_PREFIX = SMALLRYE_PREFIX + "scan.resource-class.";
+    public static final String SCAN_PARALLEL_SCANNERS = SMALLRYE_PREFIX + "scan.parallel-scanners.enable";
+    public static final String SCAN_PARALLEL_RESOURCES = SMALLRYE_PREFIX + "scan.parallel-resources.enable";
+    public static final String SCAN_PARALLEL_SCHEMAS = SMALLRYE_PREFIX + "scan.parallel-schemas.enable";
+    public static final String SCAN_PARALLELISM = SMALLRYE_PREFIX + "scan.parallelism";
+    public static final String SCAN_CACHE_DIRECTORY = SMALLRYE_PREFIX + "scan.cache.directory";
+    public static final String SCAN_REFLECTIVE_FALLBACK_DISABLE = SMALLRYE_PREFIX + "scan.reflective-fallback.disable";
+    public static final String SCAN_LISTENER = SMALLRYE_PREFIX + "scan.listener";
+    public static final String FILTERS_FUSED = SMALLRYE_PREFIX + "filters.fused.enable";
 
     public static final String VERSION = SMALLRYE_PREFIX + "openapi";
     public static final String INFO_TITLE = SMALLRYE_PREFIX + "info.title";
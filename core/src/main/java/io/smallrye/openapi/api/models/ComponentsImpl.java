@@ -15,6 +15,7 @@ import org.eclipse.microprofile.openapi.models.responses.APIResponse;
 import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
 
 import io.smallrye.openapi.runtime.util.ModelUtil;
+import io.smallrye.openapi.runtime.util.ReferenceIndex;
 
 /**
  * An implementation of the {@link Components} OpenAPI model interface.
@@ -31,6 +32,38 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
     private Map<String, Link> links;
     private Map<String, Callback> callbacks;
 
+    // Non-standard
+    private int modCount;
+    private ReferenceIndex referenceIndex;
+
+    public static int getModCount(Components components) {
+        return components instanceof ComponentsImpl ? ((ComponentsImpl) components).modCount : -1;
+    }
+
+    /**
+     * Returns the index of the references to the given components. The index is
+     * retained by the components and rebuilt once any component has been added,
+     * replaced or removed.
+     *
+     * @param components the components, may be null
+     * @return the reference index of the components
+     */
+    public static ReferenceIndex getReferenceIndex(Components components) {
+        if (!(components instanceof ComponentsImpl)) {
+            return new ReferenceIndex(components);
+        }
+
+        ComponentsImpl impl = (ComponentsImpl) components;
+        ReferenceIndex index = impl.referenceIndex;
+
+        if (index == null || index.getModCount() != impl.modCount) {
+            index = new ReferenceIndex(components, impl.modCount);
+            impl.referenceIndex = index;
+        }
+
+        return index;
+    }
+
     /**
      * @see org.eclipse.microprofile.openapi.models.Components#getSchemas()
      */
@@ -44,6 +77,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public void setSchemas(Map<String, Schema> schemas) {
+        modCount++;
         this.schemas = ModelUtil.replace(schemas, LinkedHashMap<String, Schema>::new);
     }
 
@@ -53,6 +87,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public Components addSchema(String key, Schema schema) {
+        modCount++;
         this.schemas = ModelUtil.add(key, schema, this.schemas, LinkedHashMap<String, Schema>::new);
         return this;
     }
@@ -62,6 +97,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public void removeSchema(String key) {
+        modCount++;
         ModelUtil.remove(this.schemas, key);
     }
 
@@ -78,6 +114,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public void setResponses(Map<String, APIResponse> responses) {
+        modCount++;
         this.responses = ModelUtil.replace(responses, LinkedHashMap<String, APIResponse>::new);
     }
 
@@ -87,6 +124,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public Components addResponse(String key, APIResponse response) {
+        modCount++;
         this.responses = ModelUtil.add(key, response, this.responses, LinkedHashMap<String, APIResponse>::new);
         return this;
     }
@@ -96,6 +134,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public void removeResponse(String key) {
+        modCount++;
         ModelUtil.remove(this.responses, key);
     }
 
@@ -112,6 +151,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public void setParameters(Map<String, Parameter> parameters) {
+        modCount++;
         this.parameters = ModelUtil.replace(parameters, LinkedHashMap<String, Parameter>::new);
     }
 
@@ -121,6 +161,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public Components addParameter(String key, Parameter parameter) {
+        modCount++;
         this.parameters = ModelUtil.add(key, parameter, this.parameters, LinkedHashMap<String, Parameter>::new);
         return this;
     }
@@ -130,6 +171,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public void removeParameter(String key) {
+        modCount++;
         ModelUtil.remove(this.parameters, key);
     }
 
@@ -146,6 +188,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public void setExamples(Map<String, Example> examples) {
+        modCount++;
         this.examples = ModelUtil.replace(examples, LinkedHashMap<String, Example>::new);
     }
 
@@ -155,6 +198,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public Components addExample(String key, Example example) {
+        modCount++;
         this.examples = ModelUtil.add(key, example, this.examples, LinkedHashMap<String, Example>::new);
         return this;
     }
@@ -164,6 +208,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public void removeExample(String key) {
+        modCount++;
         ModelUtil.remove(this.examples, key);
     }
 
@@ -180,6 +225,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public void setRequestBodies(Map<String, RequestBody> requestBodies) {
+        modCount++;
         this.requestBodies = ModelUtil.replace(requestBodies, LinkedHashMap<String, RequestBody>::new);
     }
 
@@ -189,6 +235,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public Components addRequestBody(String key, RequestBody requestBody) {
+        modCount++;
         this.requestBodies = ModelUtil.add(key, requestBody, this.requestBodies, LinkedHashMap<String, RequestBody>::new);
         return this;
     }
@@ -198,6 +245,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public void removeRequestBody(String key) {
+        modCount++;
         ModelUtil.remove(this.requestBodies, key);
     }
 
@@ -214,6 +262,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public void setHeaders(Map<String, Header> headers) {
+        modCount++;
         this.headers = ModelUtil.replace(headers, LinkedHashMap<String, Header>::new);
     }
 
@@ -223,6 +272,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public Components addHeader(String key, Header header) {
+        modCount++;
         this.headers = ModelUtil.add(key, header, this.headers, LinkedHashMap<String, Header>::new);
         return this;
     }
@@ -232,6 +282,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public void removeHeader(String key) {
+        modCount++;
         ModelUtil.remove(this.headers, key);
     }
 
@@ -248,6 +299,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public void setSecuritySchemes(Map<String, SecurityScheme> securitySchemes) {
+        modCount++;
         this.securitySchemes = ModelUtil.replace(securitySchemes, LinkedHashMap<String, SecurityScheme>::new);
     }
 
@@ -257,6 +309,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public Components addSecurityScheme(String key, SecurityScheme securityScheme) {
+        modCount++;
         this.securitySchemes = ModelUtil.add(key, securityScheme, this.securitySchemes,
                 LinkedHashMap<String, SecurityScheme>::new);
         return this;
@@ -267,6 +320,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public void removeSecurityScheme(String key) {
+        modCount++;
         ModelUtil.remove(this.securitySchemes, key);
     }
 
@@ -283,6 +337,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public void setLinks(Map<String, Link> links) {
+        modCount++;
         this.links = ModelUtil.replace(links, LinkedHashMap<String, Link>::new);
     }
 
@@ -292,6 +347,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public Components addLink(String key, Link link) {
+        modCount++;
         this.links = ModelUtil.add(key, link, this.links, LinkedHashMap<String, Link>::new);
         return this;
     }
@@ -301,6 +357,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public void removeLink(String key) {
+        modCount++;
         ModelUtil.remove(this.links, key);
     }
 
@@ -317,6 +374,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public void setCallbacks(Map<String, Callback> callbacks) {
+        modCount++;
         this.callbacks = ModelUtil.replace(callbacks, LinkedHashMap<String, Callback>::new);
     }
 
@@ -326,6 +384,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public Components addCallback(String key, Callback callback) {
+        modCount++;
         this.callbacks = ModelUtil.add(key, callback, this.callbacks, LinkedHashMap<String, Callback>::new);
         return this;
     }
@@ -335,6 +394,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public void removeCallback(String key) {
+        modCount++;
         ModelUtil.remove(this.callbacks, key);
     }
 
@@ -3,6 +3,7 @@ package io.smallrye.openapi.api.util;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.eclipse.microprofile.openapi.models.Operation;
@@ -95,67 +96,60 @@ public class ConfigUtil {
             }
         }
 
-        // Now the PathItem and Operation servers
+        // Now the PathItem and Operation servers, only those having servers configured are visited
         Map<String, PathItem> pathItems = oai.getPaths().getPathItems();
-        if (pathItems != null) {
-            pathItems.entrySet().forEach(entry -> configureServers(config, entry.getKey(), entry.getValue()));
+        if (pathItems == null || pathItems.isEmpty()) {
+            return;
+        }
+
+        config.pathServers().forEach((pathName, pathServers) -> configureServers(pathItems.get(pathName), pathServers));
+
+        Map<String, List<String>> operationServers = config.operationServers();
+        if (!operationServers.isEmpty()) {
+            pathItems.values()
+                    .stream()
+                    .filter(Objects::nonNull)
+                    .flatMap(pathItem -> pathItem.getOperations().values().stream())
+                    .filter(operation -> operation.getOperationId() != null)
+                    .forEach(operation -> configureServers(operation, operationServers.get(operation.getOperationId())));
         }
     }
 
     /**
      * Configures the servers for a PathItem.
      *
-     * @param config OpenApiConfig
-     * @param pathName String representing the pathName
-     * @param pathItem String representing the pathItem
+     * @param pathItem the PathItem, may be null
+     * @param pathServers the servers configured for the path
      */
-    protected static void configureServers(OpenApiConfig config, String pathName, PathItem pathItem) {
-        if (pathItem == null) {
+    protected static void configureServers(PathItem pathItem, List<String> pathServers) {
+        if (pathItem == null || pathServers == null || pathServers.isEmpty()) {
             return;
         }
 
-        List<String> pathServers = config.pathServers(pathName);
-        if (pathServers != null && !pathServers.isEmpty()) {
-            pathItem.servers(new ArrayList<>());
-            for (String pathServer : pathServers) {
-                Server server = new ServerImpl();
-                server.setUrl(pathServer);
-                pathItem.addServer(server);
-            }
+        pathItem.servers(new ArrayList<>());
+        for (String pathServer : pathServers) {
+            Server server = new ServerImpl();
+            server.setUrl(pathServer);
+            pathItem.addServer(server);
         }
-
-        configureServers(config, pathItem.getGET());
-        configureServers(config, pathItem.getPUT());
-        configureServers(config, pathItem.getPOST());
-        configureServers(config, pathItem.getDELETE());
-        configureServers(config, pathItem.getHEAD());
-        configureServers(config, pathItem.getOPTIONS());
-        configureServers(config, pathItem.getPATCH());
-        configureServers(config, pathItem.getTRACE());
     }
 
     /**
      * Configures the servers for an Operation.
      *
-     * @param config OpenApiConfig
      * @param operation Operation
+     * @param operationServers the servers configured for the operation, may be null
      */
-    protected static void configureServers(OpenApiConfig config, Operation operation) {
-        if (operation == null) {
-            return;
-        }
-        if (operation.getOperationId() == null) {
+    protected static void configureServers(Operation operation, List<String> operationServers) {
+        if (operationServers == null || operationServers.isEmpty()) {
             return;
         }
 
-        List<String> operationServers = config.operationServers(operation.getOperationId());
-        if (operationServers != null && !operationServers.isEmpty()) {
-            operation.servers(new ArrayList<>());
-            for (String operationServer : operationServers) {
-                Server server = new ServerImpl();
-                server.setUrl(operationServer);
-                operation.addServer(server);
-            }
+        operation.servers(new ArrayList<>());
+        for (String operationServer : operationServers) {
+            Server server = new ServerImpl();
+            server.setUrl(operationServer);
+            operation.addServer(server);
         }
     }
 
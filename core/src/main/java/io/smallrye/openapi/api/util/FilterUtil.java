@@ -1,14 +1,13 @@
 package io.smallrye.openapi.api.util;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Collections;
 import java.util.IdentityHashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
-import java.util.function.UnaryOperator;
 
 import org.eclipse.microprofile.openapi.OASFilter;
 import org.eclipse.microprofile.openapi.models.Components;
@@ -28,14 +27,27 @@ import org.eclipse.microprofile.openapi.models.responses.APIResponse;
 import org.eclipse.microprofile.openapi.models.responses.APIResponses;
 
 /**
+ * Applies {@link OASFilter}s to an OpenAPI model.
+ *
+ * <p>
+ * The model is traversed depth-first using an explicit stack of pending
+ * elements rather than recursion. The children of each element are visited
+ * before the element itself is passed to the filters. Elements removed by a
+ * filter are only removed once all of their siblings have been scheduled, so the
+ * model's collections are not copied.
+ * </p>
+ *
  * @author eric.wittmann@gmail.com
  *
  */
 public class FilterUtil {
 
+    private final List<OASFilter> filters;
     private final Map<Object, Object> stack = new IdentityHashMap<>();
+    private final List<Frame<?, ?>> work = new ArrayList<>();
 
-    private FilterUtil() {
+    private FilterUtil(List<OASFilter> filters) {
+        this.filters = filters;
     }
 
     /**
@@ -48,46 +60,82 @@ public class FilterUtil {
      * @return Filtered OpenAPI model
      */
     public static final OpenAPI applyFilter(OASFilter filter, OpenAPI model) {
-        return new FilterUtil().filter(filter, model);
+        return new FilterUtil(Collections.singletonList(filter)).filter(model);
+    }
+
+    /**
+     * Apply the given filters to the given model using a single traversal of the
+     * model. Each element of the model is passed to the filters in the order given,
+     * an element removed by one filter is not passed to the filters that follow.
+     * Finally, {@link OASFilter#filterOpenAPI(OpenAPI)} of each filter is called
+     * in the order given.
+     *
+     * <p>
+     * As with {@link #applyFilter(OASFilter, OpenAPI)}, the children of an element
+     * are filtered before the element itself. Applying each filter in turn, an
+     * element removed or replaced by a filter is no longer visible to the filters
+     * that follow, nor are its children. Here, the children have already been passed
+     * to all filters when an earlier filter removes or replaces the element: later
+     * filters see the children of the removed element, and do not see the children
+     * of the replacement. The result is otherwise the same unless a filter depends on
+     * the complete model having been filtered by a preceding filter, e.g. on changes
+     * made by the preceding filter's {@link OASFilter#filterOpenAPI(OpenAPI)}.
+     * </p>
+     *
+     * @param filters
+     *        OASFilters to apply, in order
+     * @param model
+     *        OpenAPI model
+     * @return Filtered OpenAPI model
+     */
+    public static final OpenAPI applyFilters(List<OASFilter> filters, OpenAPI model) {
+        if (filters.isEmpty()) {
+            return model;
+        }
+        return new FilterUtil(filters).filter(model);
     }
 
-    private OpenAPI filter(OASFilter filter, OpenAPI model) {
-        filterComponents(filter, model.getComponents());
+    private OpenAPI filter(OpenAPI model) {
+        int mark = work.size();
+
+        filterComponents(model.getComponents());
 
         if (model.getPaths() != null) {
-            filter(filter,
-                    model.getPaths().getPathItems(),
-                    this::filterPathItem,
-                    filter::filterPathItem,
+            filter(model.getPaths().getPathItems(),
+                    FilterUtil::filterPathItem,
+                    OASFilter::filterPathItem,
                     model.getPaths()::removePathItem);
         }
 
-        filter(filter, model.getServers(), null, filter::filterServer, model::removeServer);
-        filter(filter, model.getTags(), null, filter::filterTag, model::removeTag);
+        filter(model.getServers(), null, OASFilter::filterServer, model::removeServer);
+        filter(model.getTags(), null, OASFilter::filterTag, model::removeTag);
+
+        inOrder(mark);
+        run();
 
-        filter.filterOpenAPI(model);
+        for (OASFilter filter : filters) {
+            filter.filterOpenAPI(model);
+        }
 
         return model;
     }
 
     /**
-     * Filters the given model.
-     *
-     * @param filter
-     * @param model
+     * Process the pending elements until none remain.
      */
-    private void filterComponents(OASFilter filter, Components model) {
-        if (model != null) {
-            filter(filter, model.getCallbacks(), this::filterCallback, filter::filterCallback, model::removeCallback);
-            filter(filter, model.getHeaders(), this::filterHeader, filter::filterHeader, model::removeHeader);
-            filter(filter, model.getLinks(), this::filterLink, filter::filterLink, model::removeLink);
-            filter(filter, model.getParameters(), this::filterParameter, filter::filterParameter, model::removeParameter);
-            filter(filter, model.getRequestBodies(), this::filterRequestBody, filter::filterRequestBody,
-                    model::removeRequestBody);
-            filter(filter, model.getResponses(), this::filterAPIResponse, filter::filterAPIResponse,
-                    model::removeResponse);
-            filter(filter, model.getSchemas(), this::filterSchema, filter::filterSchema, model::removeSchema);
-            filter(filter, model.getSecuritySchemes(), null, filter::filterSecurityScheme, model::removeSecurityScheme);
+    private void run() {
+        while (!work.isEmpty()) {
+            work.remove(work.size() - 1).run(this);
+        }
+    }
+
+    /**
+     * Reverse the elements scheduled since the given mark, such that they are
+     * processed in the order they were scheduled.
+     */
+    private void inOrder(int mark) {
+        if (work.size() - mark > 1) {
+            Collections.reverse(work.subList(mark, work.size()));
         }
     }
 
@@ -103,40 +151,107 @@ public class FilterUtil {
         return !cyclicReference;
     }
 
+    /**
+     * A model element pending traversal. A frame is processed twice: first to
+     * schedule the element's children, then (once the children are complete)
+     * to pass the element to the filters.
+     *
+     * @param <K> type of the key identifying the element within its parent
+     * @param <V> type of the element
+     */
+    private static final class Frame<K, V> {
+        final K key;
+        final V model;
+        final BiConsumer<FilterUtil, V> contentFilter;
+        final BiFunction<OASFilter, V, V> modelFilter;
+        final BiConsumer<K, V> result;
+        boolean entered;
+
+        Frame(K key, V model, BiConsumer<FilterUtil, V> contentFilter, BiFunction<OASFilter, V, V> modelFilter,
+                BiConsumer<K, V> result) {
+            this.key = key;
+            this.model = model;
+            this.contentFilter = contentFilter;
+            this.modelFilter = modelFilter;
+            this.result = result;
+        }
+
+        void run(FilterUtil util) {
+            if (entered) {
+                util.stack.remove(model);
+
+                if (modelFilter != null) {
+                    result.accept(key, util.apply(modelFilter, model));
+                }
+            } else if (util.push(model)) {
+                entered = true;
+                util.work.add(this);
+
+                if (contentFilter != null) {
+                    int mark = util.work.size();
+                    contentFilter.accept(util, model);
+                    util.inOrder(mark);
+                }
+            }
+        }
+    }
+
+    /**
+     * Pass the model to each of the filters, stopping when the model is removed.
+     */
+    private <V> V apply(BiFunction<OASFilter, V, V> modelFilter, V model) {
+        V filtered = model;
+
+        for (int i = 0, m = filters.size(); i < m && filtered != null; i++) {
+            filtered = modelFilter.apply(filters.get(i), filtered);
+        }
+
+        return filtered;
+    }
+
+    /**
+     * Filters the given model.
+     *
+     * @param model
+     */
+    private void filterComponents(Components model) {
+        if (model != null) {
+            filter(model.getCallbacks(), FilterUtil::filterCallback, OASFilter::filterCallback, model::removeCallback);
+            filter(model.getHeaders(), FilterUtil::filterHeader, OASFilter::filterHeader, model::removeHeader);
+            filter(model.getLinks(), FilterUtil::filterLink, OASFilter::filterLink, model::removeLink);
+            filter(model.getParameters(), FilterUtil::filterParameter, OASFilter::filterParameter, model::removeParameter);
+            filter(model.getRequestBodies(), FilterUtil::filterRequestBody, OASFilter::filterRequestBody,
+                    model::removeRequestBody);
+            filter(model.getResponses(), FilterUtil::filterAPIResponse, OASFilter::filterAPIResponse,
+                    model::removeResponse);
+            filter(model.getSchemas(), FilterUtil::filterSchema, OASFilter::filterSchema, model::removeSchema);
+            filter(model.getSecuritySchemes(), null, OASFilter::filterSecurityScheme, model::removeSecurityScheme);
+        }
+    }
+
     /**
      * Filters the given models.
      *
-     * @param filter OASFilter
      * @param models map of models to be filtered
      * @param contentFilter a filter method to be applied over the properties of each model
      * @param modelFilter a filter method - reference to method of OASFilter
      * @param remover
      *        reference to the containing model's method for removing models
      */
-    private <K, V> void filter(OASFilter filter,
-            Map<K, V> models,
-            BiConsumer<OASFilter, V> contentFilter,
-            UnaryOperator<V> modelFilter,
+    private <K, V> void filter(Map<K, V> models,
+            BiConsumer<FilterUtil, V> contentFilter,
+            BiFunction<OASFilter, V, V> modelFilter,
             Consumer<K> remover) {
 
-        if (models != null) {
-            // The collection must be copied since the original may be modified via the remover
-            for (Map.Entry<K, V> entry : new LinkedHashSet<>(models.entrySet())) {
-                V model = entry.getValue();
-
-                if (!push(model)) {
-                    continue;
+        if (models != null && !models.isEmpty()) {
+            BiConsumer<K, V> result = (key, filtered) -> {
+                if (filtered == null) {
+                    remover.accept(key);
                 }
+            };
 
-                if (contentFilter != null) {
-                    contentFilter.accept(filter, model);
-                }
-
-                if (modelFilter.apply(model) == null) {
-                    remover.accept(entry.getKey());
-                }
-
-                stack.remove(model);
+            for (Map.Entry<K, V> entry : models.entrySet()) {
+                schedule(entry.getKey(), entry.getValue(), contentFilter, modelFilter, result);
             }
         }
     }
@@ -144,35 +259,26 @@ public class FilterUtil {
     /**
      * Filters the given models.
      *
-     * @param filter OASFilter
      * @param models list of models to be filtered
      * @param contentFilter a filter method to be applied over the properties of each model
      * @param modelFilter a filter method - reference to method of OASFilter
      * @param remover
      *        reference to the containing model's method for removing models
      */
-    private <T> void filter(OASFilter filter,
-            List<T> models,
-            BiConsumer<OASFilter, T> contentFilter,
-            UnaryOperator<T> modelFilter,
+    private <T> void filter(List<T> models,
+            BiConsumer<FilterUtil, T> contentFilter,
+            BiFunction<OASFilter, T, T> modelFilter,
             Consumer<T> remover) {
 
-        if (models != null) {
-            // The collection must be copied since the original may be modified via the remover
-            for (T model : new ArrayList<>(models)) {
-                if (!push(model)) {
-                    continue;
-                }
-
-                if (contentFilter != null) {
-                    contentFilter.accept(filter, model);
-                }
-
-                if (modelFilter.apply(model) == null) {
+        if (models != null && !models.isEmpty()) {
+            BiConsumer<T, T> result = (model, filtered) -> {
+                if (filtered == null) {
                     remover.accept(model);
                 }
+            };
 
-                stack.remove(model);
+            for (T model : models) {
+                schedule(model, model, contentFilter, modelFilter, result);
             }
         }
     }
@@ -180,126 +286,95 @@ public class FilterUtil {
     /**
      * Filters a given model
      *
-     * @param filter OASFilter
-     * @param models model to be filtered
+     * @param model model to be filtered
      * @param contentFilter a filter method to be applied over the properties the model
      * @param modelFilter a filter method - reference to method of OASFilter
      * @param mutator
      *        reference to the containing model's method for updating the model
      */
-    private <T> void filter(OASFilter filter,
-            T model,
-            BiConsumer<OASFilter, T> contentFilter,
-            UnaryOperator<T> modelFilter,
+    private <T> void filter(T model,
+            BiConsumer<FilterUtil, T> contentFilter,
+            BiFunction<OASFilter, T, T> modelFilter,
             Consumer<T> mutator) {
 
-        if (model != null) {
-            if (!push(model)) {
-                return;
-            }
-
-            if (contentFilter != null) {
-                contentFilter.accept(filter, model);
-            }
+        schedule(null, model, contentFilter, modelFilter, (key, filtered) -> mutator.accept(filtered));
+    }
 
-            mutator.accept(modelFilter.apply(model));
-            stack.remove(model);
+    private <K, V> void schedule(K key, V model, BiConsumer<FilterUtil, V> contentFilter,
+            BiFunction<OASFilter, V, V> modelFilter, BiConsumer<K, V> result) {
+        if (model != null) {
+            work.add(new Frame<>(key, model, contentFilter, modelFilter, result));
         }
     }
 
     /**
      * Filters the given model.
      *
-     * @param filter
      * @param model
      */
-    private void filterCallback(OASFilter filter, Callback model) {
-        if (model != null) {
-            Collection<String> keys = new ArrayList<>(model.getPathItems().keySet());
-            for (String key : keys) {
-                PathItem childModel = model.getPathItem(key);
-                filterPathItem(filter, childModel);
-
-                if (filter.filterPathItem(childModel) == null) {
-                    model.removePathItem(key);
-                }
-            }
-        }
+    private void filterCallback(Callback model) {
+        filter(model.getPathItems(), FilterUtil::filterPathItem, OASFilter::filterPathItem, model::removePathItem);
     }
 
     /**
      * Filters the given model.
      *
-     * @param filter
      * @param model
      */
-    private void filterPathItem(OASFilter filter, PathItem model) {
-        if (model != null) {
-            filter(filter, model.getParameters(), this::filterParameter, filter::filterParameter, model::removeParameter);
-
-            filterOperation(filter, model.getDELETE(), model::setDELETE);
-            filterOperation(filter, model.getGET(), model::setGET);
-            filterOperation(filter, model.getHEAD(), model::setHEAD);
-            filterOperation(filter, model.getOPTIONS(), model::setOPTIONS);
-            filterOperation(filter, model.getPATCH(), model::setPATCH);
-            filterOperation(filter, model.getPOST(), model::setPOST);
-            filterOperation(filter, model.getPUT(), model::setPUT);
-            filterOperation(filter, model.getTRACE(), model::setTRACE);
-
-            filter(filter, model.getServers(), null, filter::filterServer, model::removeServer);
-        }
+    private void filterPathItem(PathItem model) {
+        filter(model.getParameters(), FilterUtil::filterParameter, OASFilter::filterParameter, model::removeParameter);
+
+        filter(model.getDELETE(), FilterUtil::filterOperation, OASFilter::filterOperation, model::setDELETE);
+        filter(model.getGET(), FilterUtil::filterOperation, OASFilter::filterOperation, model::setGET);
+        filter(model.getHEAD(), FilterUtil::filterOperation, OASFilter::filterOperation, model::setHEAD);
+        filter(model.getOPTIONS(), FilterUtil::filterOperation, OASFilter::filterOperation, model::setOPTIONS);
+        filter(model.getPATCH(), FilterUtil::filterOperation, OASFilter::filterOperation, model::setPATCH);
+        filter(model.getPOST(), FilterUtil::filterOperation, OASFilter::filterOperation, model::setPOST);
+        filter(model.getPUT(), FilterUtil::filterOperation, OASFilter::filterOperation, model::setPUT);
+        filter(model.getTRACE(), FilterUtil::filterOperation, OASFilter::filterOperation, model::setTRACE);
+
+        filter(model.getServers(), null, OASFilter::filterServer, model::removeServer);
     }
 
     /**
      * Filters the given model.
      *
-     * @param filter
      * @param model
      */
-    private void filterOperation(OASFilter filter, Operation model, Consumer<Operation> mutator) {
-        if (model != null) {
-            filter(filter, model.getCallbacks(), this::filterCallback, filter::filterCallback, model::removeCallback);
-            filter(filter, model.getParameters(), this::filterParameter, filter::filterParameter, model::removeParameter);
-            filter(filter, model.getRequestBody(), this::filterRequestBody, filter::filterRequestBody,
-                    model::setRequestBody);
-
-            if (model.getResponses() != null) {
-                APIResponses responses = model.getResponses();
-                filter(filter, responses.getAPIResponses(), this::filterAPIResponse, filter::filterAPIResponse,
-                        responses::removeAPIResponse);
-            }
-
-            filter(filter, model.getServers(), null, filter::filterServer, model::removeServer);
-
-            mutator.accept(filter.filterOperation(model));
+    private void filterOperation(Operation model) {
+        filter(model.getCallbacks(), FilterUtil::filterCallback, OASFilter::filterCallback, model::removeCallback);
+        filter(model.getParameters(), FilterUtil::filterParameter, OASFilter::filterParameter, model::removeParameter);
+        filter(model.getRequestBody(), FilterUtil::filterRequestBody, OASFilter::filterRequestBody,
+                model::setRequestBody);
+
+        if (model.getResponses() != null) {
+            APIResponses responses = model.getResponses();
+            filter(responses.getAPIResponses(), FilterUtil::filterAPIResponse, OASFilter::filterAPIResponse,
+                    responses::removeAPIResponse);
         }
+
+        filter(model.getServers(), null, OASFilter::filterServer, model::removeServer);
     }
 
     /**
      * Filters the given model.
      *
-     * @param filter
      * @param model
      */
-    private void filterHeader(OASFilter filter, Header model) {
-        if (model != null) {
-            filterContent(filter, model.getContent());
-            filter(filter, model.getSchema(), this::filterSchema, filter::filterSchema, model::setSchema);
-        }
+    private void filterHeader(Header model) {
+        filterContent(model.getContent());
+        filter(model.getSchema(), FilterUtil::filterSchema, OASFilter::filterSchema, model::setSchema);
     }
 
     /**
-     * Filters the given model.
+     * Filters the given model. Media types are not filtered themselves, only their contents.
      *
-     * @param filter
      * @param model
      */
-    private void filterContent(OASFilter filter, Content model) {
+    private void filterContent(Content model) {
         if (model != null && model.getMediaTypes() != null) {
-            Collection<String> keys = new ArrayList<>(model.getMediaTypes().keySet());
-            for (String key : keys) {
-                MediaType childModel = model.getMediaType(key);
-                filterMediaType(filter, childModel);
+            for (MediaType childModel : model.getMediaTypes().values()) {
+                schedule(null, childModel, FilterUtil::filterMediaType, null, null);
             }
         }
     }
@@ -307,111 +382,78 @@ public class FilterUtil {
     /**
      * Filters the given model.
      *
-     * @param filter
      * @param model
      */
-    private void filterMediaType(OASFilter filter, MediaType model) {
-        if (model != null) {
-            filterEncoding(filter, model.getEncoding());
-            filter(filter, model.getSchema(), this::filterSchema, filter::filterSchema, model::setSchema);
-        }
-    }
-
-    /**
-     * Filters the given models.
-     *
-     * @param filter
-     * @param models
-     */
-    private void filterEncoding(OASFilter filter, Map<String, Encoding> models) {
-        if (models != null) {
-            Collection<String> keys = new ArrayList<>(models.keySet());
-            for (String key : keys) {
-                Encoding model = models.get(key);
-                filterEncoding(filter, model);
+    private void filterMediaType(MediaType model) {
+        if (model.getEncoding() != null) {
+            for (Encoding encoding : model.getEncoding().values()) {
+                schedule(null, encoding, FilterUtil::filterEncoding, null, null);
             }
         }
+        filter(model.getSchema(), FilterUtil::filterSchema, OASFilter::filterSchema, model::setSchema);
     }
 
     /**
      * Filters the given model.
      *
-     * @param filter
      * @param model
      */
-    private void filterEncoding(OASFilter filter, Encoding model) {
-        if (model != null) {
-            filter(filter, model.getHeaders(), this::filterHeader, filter::filterHeader, model::removeHeader);
-        }
+    private void filterEncoding(Encoding model) {
+        filter(model.getHeaders(), FilterUtil::filterHeader, OASFilter::filterHeader, model::removeHeader);
     }
 
     /**
      * Filters the given model.
      *
-     * @param filter
      * @param model
      */
-    private void filterLink(OASFilter filter, Link model) {
-        if (model != null && model.getServer() != null) {
-            model.setServer(filter.filterServer(model.getServer()));
-        }
+    private void filterLink(Link model) {
+        filter(model.getServer(), null, OASFilter::filterServer, model::setServer);
     }
 
     /**
      * Filters the given model.
      *
-     * @param filter
      * @param model
      */
-    private void filterParameter(OASFilter filter, Parameter model) {
-        if (model != null) {
-            filterContent(filter, model.getContent());
-            filter(filter, model.getSchema(), this::filterSchema, filter::filterSchema, model::setSchema);
-        }
+    private void filterParameter(Parameter model) {
+        filterContent(model.getContent());
+        filter(model.getSchema(), FilterUtil::filterSchema, OASFilter::filterSchema, model::setSchema);
     }
 
     /**
      * Filters the given model.
      *
-     * @param filter
      * @param model
      */
-    private void filterRequestBody(OASFilter filter, RequestBody model) {
-        if (model != null) {
-            filterContent(filter, model.getContent());
-        }
+    private void filterRequestBody(RequestBody model) {
+        filterContent(model.getContent());
     }
 
     /**
      * Filters the given model.
      *
-     * @param filter
      * @param model
      */
-    private void filterAPIResponse(OASFilter filter, APIResponse model) {
-        if (model != null) {
-            filterContent(filter, model.getContent());
-            filter(filter, model.getHeaders(), this::filterHeader, filter::filterHeader, model::removeHeader);
-            filter(filter, model.getLinks(), this::filterLink, filter::filterLink, model::removeLink);
-        }
+    private void filterAPIResponse(APIResponse model) {
+        filterContent(model.getContent());
+        filter(model.getHeaders(), FilterUtil::filterHeader, OASFilter::filterHeader, model::removeHeader);
+        filter(model.getLinks(), FilterUtil::filterLink, OASFilter::filterLink, model::removeLink);
     }
 
     /**
      * Filters the given model.
      *
-     * @param filter
      * @param model
      */
-    private void filterSchema(OASFilter filter, Schema model) {
-        if (model != null) {
-            filter(filter, model.getAdditionalPropertiesSchema(), this::filterSchema, filter::filterSchema,
-                    model::setAdditionalPropertiesSchema);
-            filter(filter, model.getAllOf(), this::filterSchema, filter::filterSchema, model::removeAllOf);
-            filter(filter, model.getAnyOf(), this::filterSchema, filter::filterSchema, model::removeAnyOf);
-            filter(filter, model.getOneOf(), this::filterSchema, filter::filterSchema, model::removeOneOf);
-            filter(filter, model.getItems(), this::filterSchema, filter::filterSchema, model::setItems);
-            filter(filter, model.getNot(), this::filterSchema, filter::filterSchema, model::setNot);
-            filter(filter, model.getProperties(), this::filterSchema, filter::filterSchema, model::removeProperty);
-        }
+    private void filterSchema(Schema model) {
+        filter(model.getAdditionalPropertiesSchema(), FilterUtil::filterSchema, OASFilter::filterSchema,
+                model::setAdditionalPropertiesSchema);
+        filter(model.getAllOf(), FilterUtil::filterSchema, OASFilter::filterSchema, model::removeAllOf);
+        filter(model.getAnyOf(), FilterUtil::filterSchema, OASFilter::filterSchema, model::removeAnyOf);
+        filter(model.getOneOf(), FilterUtil::filterSchema, OASFilter::filterSchema, model::removeOneOf);
+        filter(model.getItems(), FilterUtil::filterSchema, OASFilter::filterSchema, model::setItems);
+        filter(model.getNot(), FilterUtil::filterSchema, OASFilter::filterSchema, model::setNot);
+        filter(model.getProperties(), FilterUtil::filterSchema, OASFilter::filterSchema, model::removeProperty);
     }
 }
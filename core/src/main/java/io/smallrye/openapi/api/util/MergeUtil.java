@@ -3,11 +3,12 @@ package io.smallrye.openapi.api.util;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.util.AbstractMap;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -47,6 +48,17 @@ public class MergeUtil {
         EXCLUDED_PROPERTIES.add("openapi");
     }
 
+    /**
+     * Table of the mergeable properties of each model class, created once per
+     * class rather than introspecting the class for each pair of objects merged.
+     */
+    private static final ClassValue<MergeProperty[]> PROPERTIES = new ClassValue<MergeProperty[]>() {
+        @Override
+        protected MergeProperty[] computeValue(Class<?> type) {
+            return mergeProperties(type);
+        }
+    };
+
     private MergeUtil() {
     }
 
@@ -94,54 +106,133 @@ public class MergeUtil {
             return object2;
         }
 
+        for (MergeProperty property : PROPERTIES.get(object1.getClass())) {
+            property.merge(object1, object2);
+        }
+
+        return object1;
+    }
+
+    static MergeProperty[] mergeProperties(Class<?> type) {
+        final PropertyDescriptor[] descriptors;
+
         try {
-            Arrays.stream(Introspector.getBeanInfo(object1.getClass()).getPropertyDescriptors())
-                    .filter(descriptor -> !EXCLUDED_PROPERTIES.contains(descriptor.getName()))
-                    .filter(descriptor -> Objects.nonNull(descriptor.getWriteMethod()))
-                    .forEach(descriptor -> {
-                        try {
-                            mergeProperty(object1, object2, descriptor);
-                        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-                            throw new OpenApiRuntimeException(e);
-                        }
-                    });
+            descriptors = Introspector.getBeanInfo(type).getPropertyDescriptors();
         } catch (IntrospectionException e) {
-            UtilLogging.logger.failedToIntrospectBeanInfo(object1.getClass(), e);
+            UtilLogging.logger.failedToIntrospectBeanInfo(type, e);
+            return new MergeProperty[0];
         }
 
-        return object1;
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        List<MergeProperty> properties = new ArrayList<>(descriptors.length);
+
+        for (PropertyDescriptor descriptor : descriptors) {
+            Method readMethod = descriptor.getReadMethod();
+            Method writeMethod = descriptor.getWriteMethod();
+
+            if (EXCLUDED_PROPERTIES.contains(descriptor.getName()) || readMethod == null || writeMethod == null) {
+                continue;
+            }
+
+            try {
+                properties.add(new MergeProperty(descriptor.getName(),
+                        MergeKind.of(descriptor.getPropertyType()),
+                        lookup.unreflect(readMethod).asType(MethodType.methodType(Object.class, Object.class)),
+                        lookup.unreflect(writeMethod).asType(MethodType.methodType(void.class, Object.class, Object.class))));
+            } catch (IllegalAccessException e) {
+                throw new OpenApiRuntimeException(e);
+            }
+        }
+
+        return properties.toArray(new MergeProperty[0]);
     }
 
-    @SuppressWarnings({ "rawtypes" })
-    static <T> void mergeProperty(T object1, T object2, PropertyDescriptor descriptor)
-            throws IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+    /**
+     * How the values of a property are merged, determined by the property's type.
+     */
+    enum MergeKind {
+        CONSTRUCTIBLE,
+        MAP,
+        LIST,
+        VALUE;
+
+        static MergeKind of(Class<?> ptype) {
+            if (Constructible.class.isAssignableFrom(ptype)) {
+                return CONSTRUCTIBLE;
+            }
+            if (Map.class.isAssignableFrom(ptype)) {
+                return MAP;
+            }
+            if (List.class.isAssignableFrom(ptype)) {
+                return LIST;
+            }
+            return VALUE;
+        }
+    }
 
-        Class<?> ptype = descriptor.getPropertyType();
-        Method writeMethod = descriptor.getWriteMethod();
+    /**
+     * Accessors of a single mergeable property of a model class.
+     */
+    static final class MergeProperty {
+        final String name;
+        final MergeKind kind;
+        final MethodHandle getter;
+        final MethodHandle setter;
+
+        MergeProperty(String name, MergeKind kind, MethodHandle getter, MethodHandle setter) {
+            this.name = name;
+            this.kind = kind;
+            this.getter = getter;
+            this.setter = setter;
+        }
 
-        if (Constructible.class.isAssignableFrom(ptype)) {
-            Object val1 = descriptor.getReadMethod().invoke(object1);
-            Object val2 = descriptor.getReadMethod().invoke(object2);
-            if (!cycleDetected(descriptor.getName(), object1, val1, object2, val2)) {
-                Object newValue = mergeObjects(val1, val2);
-                if (newValue != null) {
-                    writeMethod.invoke(object1, newValue);
+        @SuppressWarnings({ "rawtypes" })
+        <T> void merge(T object1, T object2) {
+            switch (kind) {
+                case CONSTRUCTIBLE: {
+                    Object val1 = get(object1);
+                    Object val2 = get(object2);
+                    if (!cycleDetected(name, object1, val1, object2, val2)) {
+                        Object newValue = mergeObjects(val1, val2);
+                        if (newValue != null) {
+                            set(object1, newValue);
+                        }
+                    }
+                    break;
+                }
+                case MAP:
+                    set(object1, mergeMaps((Map) get(object1), (Map) get(object2)));
+                    break;
+                case LIST:
+                    set(object1, mergeLists((List) get(object1), (List) get(object2)));
+                    break;
+                default: {
+                    Object newValue = get(object2);
+                    if (newValue != null) {
+                        set(object1, newValue);
+                    }
+                    break;
                 }
             }
-        } else if (Map.class.isAssignableFrom(ptype)) {
-            Map values1 = (Map) descriptor.getReadMethod().invoke(object1);
-            Map values2 = (Map) descriptor.getReadMethod().invoke(object2);
-            Map newValues = mergeMaps(values1, values2);
-            writeMethod.invoke(object1, newValues);
-        } else if (List.class.isAssignableFrom(ptype)) {
-            List values1 = (List) descriptor.getReadMethod().invoke(object1);
-            List values2 = (List) descriptor.getReadMethod().invoke(object2);
-            List newValues = mergeLists(values1, values2);
-            writeMethod.invoke(object1, newValues);
-        } else {
-            Object newValue = descriptor.getReadMethod().invoke(object2);
-            if (newValue != null) {
-                writeMethod.invoke(object1, newValue);
+        }
+
+        Object get(Object target) {
+            try {
+                return (Object) getter.invokeExact(target);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new OpenApiRuntimeException(t);
+            }
+        }
+
+        void set(Object target, Object value) {
+            try {
+                setter.invokeExact(target, value);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new OpenApiRuntimeException(t);
             }
         }
     }
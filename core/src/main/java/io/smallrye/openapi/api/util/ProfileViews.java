@@ -0,0 +1,357 @@
+package io.smallrye.openapi.api.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.Extensible;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.Paths;
+import org.eclipse.microprofile.openapi.models.callbacks.Callback;
+
+import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.api.models.ComponentsImpl;
+import io.smallrye.openapi.api.models.OpenAPIImpl;
+import io.smallrye.openapi.api.models.PathsImpl;
+import io.smallrye.openapi.runtime.OpenApiRuntimeException;
+
+/**
+ * Derives per-profile views of a model that was scanned with the profile
+ * extensions ({@code x-smallrye-profile-*}) retained, see
+ * {@link OpenApiConstants#SCAN_PROFILES_RETAIN}. A single scan of an application
+ * can then be published as several documents, e.g. an internal and a public
+ * variant of the same API.
+ *
+ * <p>
+ * An operation is included in a view using the same rules as
+ * {@link OpenApiConstants#SCAN_PROFILES} and
+ * {@link OpenApiConstants#SCAN_EXCLUDE_PROFILES} are applied during a scan, this
+ * includes the operations of callbacks declared by an operation. Path items and
+ * the entries of the components are evaluated only when they have profiles of
+ * their own. The profile extensions are absent from the view, and a path item is
+ * omitted when all of its operations are excluded.
+ * </p>
+ *
+ * <p>
+ * Views are copies of the tagged model only where they differ from it, all
+ * other elements are shared with the tagged model and with other views. Views
+ * are cached per distinct pair of profile sets and must therefore be treated as
+ * read-only, the same applies to the tagged model once views have been derived
+ * from it.
+ * </p>
+ */
+public class ProfileViews {
+
+    private final OpenAPI model;
+    private final Map<List<Set<String>>, OpenAPI> views = new ConcurrentHashMap<>();
+
+    public ProfileViews(OpenAPI model) {
+        this.model = model;
+    }
+
+    /**
+     * Returns the view of the model for the given profiles, derived when first
+     * requested.
+     *
+     * @param profiles profiles to include, all elements are included when empty
+     * @param excludeProfiles profiles to exclude, takes precedence over {@code profiles} when not empty
+     * @return the view of the model
+     */
+    public OpenAPI view(Set<String> profiles, Set<String> excludeProfiles) {
+        List<Set<String>> key = Arrays.asList(new TreeSet<>(profiles), new TreeSet<>(excludeProfiles));
+        return views.computeIfAbsent(key, k -> new View(k.get(0), k.get(1)).openAPI(model));
+    }
+
+    /**
+     * @return the names of all profiles present in the tagged model
+     */
+    public Set<String> getProfiles() {
+        Set<String> profiles = new TreeSet<>();
+        Consumer<Extensible<?>> collector = e -> profiles.addAll(profiles(e));
+
+        if (model.getPaths() != null && model.getPaths().getPathItems() != null) {
+            model.getPaths().getPathItems().values().forEach(pathItem -> visit(pathItem, collector));
+        }
+
+        forEachComponentMap(model.getComponents(), components -> components.values().forEach(collector));
+
+        return profiles;
+    }
+
+    private static void visit(PathItem pathItem, Consumer<Extensible<?>> visitor) {
+        visitor.accept(pathItem);
+        pathItem.getOperations().values().forEach(operation -> {
+            visitor.accept(operation);
+            if (operation.getCallbacks() != null) {
+                operation.getCallbacks()
+                        .values()
+                        .stream()
+                        .filter(callback -> callback.getPathItems() != null)
+                        .flatMap(callback -> callback.getPathItems().values().stream())
+                        .forEach(callbackPathItem -> visit(callbackPathItem, visitor));
+            }
+        });
+    }
+
+    private static void forEachComponentMap(Components components,
+            Consumer<Map<String, ? extends Extensible<?>>> action) {
+        if (components == null) {
+            return;
+        }
+        Arrays.asList(components.getSchemas(),
+                components.getResponses(),
+                components.getParameters(),
+                components.getExamples(),
+                components.getRequestBodies(),
+                components.getHeaders(),
+                components.getSecuritySchemes(),
+                components.getLinks(),
+                components.getCallbacks())
+                .stream()
+                .filter(map -> map != null)
+                .forEach(action);
+    }
+
+    /**
+     * Retrieve the profile names present in the extensions of the given element.
+     *
+     * @param extensible the model element
+     * @return the set of profile names, empty if the element has no profiles
+     */
+    public static Set<String> profiles(Extensible<?> extensible) {
+        Map<String, Object> extensions = extensible.getExtensions();
+
+        if (extensions == null || extensions.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Set<String> profiles = new TreeSet<>();
+
+        for (String name : extensions.keySet()) {
+            if (name.startsWith(OpenApiConstants.EXTENSION_PROFILE_PREFIX)) {
+                profiles.add(name.substring(OpenApiConstants.EXTENSION_PROFILE_PREFIX.length()));
+            }
+        }
+
+        return profiles;
+    }
+
+    /**
+     * Determines whether an element with the given profiles is included.
+     *
+     * @param profiles profiles of the element
+     * @param includeProfiles profiles to include, all elements are included when empty
+     * @param excludeProfiles profiles to exclude, takes precedence over {@code includeProfiles} when not empty
+     * @return true if the element is included, otherwise false
+     */
+    public static boolean isIncluded(Set<String> profiles, Set<String> includeProfiles, Set<String> excludeProfiles) {
+        if (!excludeProfiles.isEmpty()) {
+            return excludeProfiles.stream().noneMatch(profiles::contains);
+        }
+
+        if (includeProfiles.isEmpty()) {
+            return true;
+        }
+
+        return includeProfiles.stream().anyMatch(profiles::contains);
+    }
+
+    /**
+     * Derivation of a single view.
+     */
+    static class View {
+        final Set<String> includeProfiles;
+        final Set<String> excludeProfiles;
+
+        View(Set<String> includeProfiles, Set<String> excludeProfiles) {
+            this.includeProfiles = includeProfiles;
+            this.excludeProfiles = excludeProfiles;
+        }
+
+        OpenAPI openAPI(OpenAPI model) {
+            OpenAPI view = MergeUtil.mergeObjects(new OpenAPIImpl(), model);
+            view.setOpenapi(model.getOpenapi());
+            view.setPaths(paths(model.getPaths()));
+            view.setComponents(components(model.getComponents()));
+            return view;
+        }
+
+        Paths paths(Paths paths) {
+            if (paths == null || paths.getPathItems() == null) {
+                return paths;
+            }
+
+            Map<String, PathItem> pathItems = paths.getPathItems();
+            Map<String, PathItem> viewPathItems = filter(pathItems, this::pathItem);
+
+            if (viewPathItems == pathItems) {
+                return paths;
+            }
+
+            Paths view = new PathsImpl();
+            view.setExtensions(paths.getExtensions());
+            view.setPathItems(viewPathItems);
+            return view;
+        }
+
+        PathItem pathItem(PathItem pathItem) {
+            PathItem view = filter(pathItem);
+
+            if (view == null) {
+                return null;
+            }
+
+            Map<PathItem.HttpMethod, Operation> operations = pathItem.getOperations();
+            Map<PathItem.HttpMethod, Operation> viewOperations = filter(operations, this::operation);
+
+            if (viewOperations == operations) {
+                return view;
+            }
+            if (viewOperations.isEmpty()) {
+                return null;
+            }
+            if (view == pathItem) {
+                view = copy(pathItem);
+            }
+            for (PathItem.HttpMethod method : operations.keySet()) {
+                view.setOperation(method, viewOperations.get(method));
+            }
+
+            return view;
+        }
+
+        Operation operation(Operation operation) {
+            if (!isIncluded(Collections.emptySet(), includeProfiles, excludeProfiles) && profiles(operation).isEmpty()) {
+                // Operations without profiles are only included when no specific profiles are requested
+                return null;
+            }
+
+            Operation view = filter(operation);
+
+            if (view == null || operation.getCallbacks() == null) {
+                return view;
+            }
+
+            Map<String, Callback> callbacks = operation.getCallbacks();
+            Map<String, Callback> viewCallbacks = filter(callbacks,
+                    callback -> {
+                        Map<String, PathItem> pathItems = callback.getPathItems();
+                        Map<String, PathItem> viewPathItems = filter(pathItems, this::pathItem);
+                        if (viewPathItems == pathItems) {
+                            return callback;
+                        }
+                        Callback callbackView = copy(callback);
+                        callbackView.setPathItems(viewPathItems);
+                        return callbackView;
+                    });
+
+            if (viewCallbacks != callbacks) {
+                if (view == operation) {
+                    view = copy(operation);
+                }
+                view.setCallbacks(viewCallbacks);
+            }
+
+            return view;
+        }
+
+        Components components(Components components) {
+            if (components == null) {
+                return null;
+            }
+
+            Components view = new ComponentsImpl();
+            view.setExtensions(components.getExtensions());
+            view.setSchemas(filter(components.getSchemas(), this::filter));
+            view.setResponses(filter(components.getResponses(), this::filter));
+            view.setParameters(filter(components.getParameters(), this::filter));
+            view.setExamples(filter(components.getExamples(), this::filter));
+            view.setRequestBodies(filter(components.getRequestBodies(), this::filter));
+            view.setHeaders(filter(components.getHeaders(), this::filter));
+            view.setSecuritySchemes(filter(components.getSecuritySchemes(), this::filter));
+            view.setLinks(filter(components.getLinks(), this::filter));
+            view.setCallbacks(filter(components.getCallbacks(), this::filter));
+            return view;
+        }
+
+        /**
+         * Apply the view to each value of the map.
+         *
+         * @return the original map when no value differs in the view, otherwise a new map
+         *         without the excluded values
+         */
+        <K, V> Map<K, V> filter(Map<K, V> values, Function<V, V> filter) {
+            if (values == null) {
+                return null;
+            }
+
+            Map<K, V> view = null;
+
+            for (Map.Entry<K, V> entry : values.entrySet()) {
+                V value = entry.getValue();
+                V viewValue = value != null ? filter.apply(value) : null;
+
+                if (view == null && viewValue != value) {
+                    view = new LinkedHashMap<>();
+                    for (Map.Entry<K, V> previous : values.entrySet()) {
+                        if (previous.getKey() == entry.getKey()) {
+                            break;
+                        }
+                        view.put(previous.getKey(), previous.getValue());
+                    }
+                }
+                if (view != null && viewValue != null) {
+                    view.put(entry.getKey(), viewValue);
+                }
+            }
+
+            return view != null ? view : values;
+        }
+
+        /**
+         * @return null if the element is excluded, the element itself when it has no
+         *         profiles, otherwise a copy without the profile extensions
+         */
+        <T extends Extensible<?>> T filter(T extensible) {
+            Set<String> profiles = profiles(extensible);
+
+            if (profiles.isEmpty()) {
+                return extensible;
+            }
+            if (!isIncluded(profiles, includeProfiles, excludeProfiles)) {
+                return null;
+            }
+
+            Map<String, Object> extensions = new LinkedHashMap<>(extensible.getExtensions());
+            extensions.keySet().removeIf(name -> name.startsWith(OpenApiConstants.EXTENSION_PROFILE_PREFIX));
+
+            T view = copy(extensible);
+            view.setExtensions(extensions.isEmpty() ? null : extensions);
+            return view;
+        }
+
+        /**
+         * Shallow copy of a model element, properties of the copy refer to the
+         * same values as those of the original.
+         */
+        @SuppressWarnings("unchecked")
+        static <T> T copy(T model) {
+            try {
+                T copy = (T) model.getClass().getDeclaredConstructor().newInstance();
+                return MergeUtil.mergeObjects(copy, model);
+            } catch (ReflectiveOperationException e) {
+                throw new OpenApiRuntimeException(e);
+            }
+        }
+    }
+}
@@ -1,11 +1,10 @@
 package io.smallrye.openapi.api.util;
 
-import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.eclipse.microprofile.openapi.OASFilter;
@@ -14,46 +13,63 @@ import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.eclipse.microprofile.openapi.models.media.Schema;
 
 import io.smallrye.openapi.runtime.util.ModelUtil;
+import io.smallrye.openapi.runtime.util.ReferenceIndex;
 
 public class UnusedSchemaFilter implements OASFilter {
 
     /**
-     * Map of schemas present in {@code /components/schemas} with a list of the
-     * schemas that refer to them.
+     * Map of schemas present in {@code /components/schemas} with the number of
+     * schemas that refer to them. Names of schemas that are not referenced are
+     * absent.
      */
-    Map<String, List<Schema>> references = new HashMap<>();
+    Map<String, Integer> references = new HashMap<>();
 
     @Override
     public Schema filterSchema(Schema schema) {
         String name = referencedName(schema);
 
         if (name != null) {
-            references.computeIfAbsent(name, k -> new ArrayList<>()).add(schema);
+            references.merge(name, 1, Integer::sum);
         }
 
         return schema;
     }
 
+    /**
+     * Remove the unused schemas in a single pass. Removing a schema removes
+     * the references held by its direct children, as given by the model's
+     * {@link ReferenceIndex}. Any schema whose last reference is removed is then
+     * added to the schemas to be removed.
+     */
     @Override
     public void filterOpenAPI(OpenAPI openAPI) {
         final Components components = openAPI.getComponents();
 
-        Optional.ofNullable(components)
-                .map(Components::getSchemas)
-                .map(Map::keySet)
-                .ifPresent(schemaNames -> {
-                    Set<String> unusedNames = unusedSchemaNames(schemaNames);
-
-                    while (!unusedNames.isEmpty()) {
-                        unusedNames.forEach(name -> remove(name, components));
-                        unusedNames = unusedSchemaNames(schemaNames);
-                    }
-                });
+        if (components == null || components.getSchemas() == null) {
+            return;
+        }
+
+        Map<String, Schema> schemas = components.getSchemas();
+        ReferenceIndex index = ReferenceIndex.of(openAPI);
+        Deque<String> unusedNames = schemas.keySet()
+                .stream()
+                .filter(this::notUsed)
+                .collect(Collectors.toCollection(ArrayDeque::new));
+
+        while (!unusedNames.isEmpty()) {
+            String name = unusedNames.pop();
+
+            if (schemas.containsKey(name)) {
+                remove(name, index.getSchemaReferences(name), components, unusedNames);
+            }
+        }
     }
 
     String referencedName(Schema schema) {
-        final String ref = schema.getRef();
+        return referencedName(schema.getRef());
+    }
 
+    String referencedName(String ref) {
         if (ref != null && ref.startsWith("#/components/schemas/")) {
             return ModelUtil.nameFromRef(ref);
         }
@@ -65,45 +81,21 @@ public class UnusedSchemaFilter implements OASFilter {
         return !references.containsKey(schemaName);
     }
 
-    Set<String> unusedSchemaNames(Set<String> allSchemaNames) {
-        return allSchemaNames.stream().filter(this::notUsed).collect(Collectors.toSet());
-    }
-
-    void remove(String schemaName, Components components) {
-        Schema unusedSchema = components.getSchemas().get(schemaName);
-        removeReference(unusedSchema.getAdditionalPropertiesSchema());
-        removeReferences(unusedSchema.getAllOf());
-        removeReferences(unusedSchema.getAnyOf());
-        removeReferences(unusedSchema.getOneOf());
-        removeReference(unusedSchema.getItems());
-        removeReference(unusedSchema.getNot());
-        removeReferences(unusedSchema.getProperties());
+    void remove(String schemaName, List<String> schemaReferences, Components components, Deque<String> unusedNames) {
+        schemaReferences.forEach(ref -> removeReference(ref, unusedNames));
         components.removeSchema(schemaName);
         UtilLogging.logger.unusedSchemaRemoved(schemaName);
     }
 
-    void removeReference(Schema schema) {
-        if (schema != null) {
-            String name = referencedName(schema);
-
-            if (name != null) {
-                references.computeIfPresent(name, (k, v) -> {
-                    v.remove(schema);
-                    return v.isEmpty() ? null : v;
-                });
-            }
-        }
-    }
-
-    void removeReferences(Map<String, Schema> schemas) {
-        if (schemas != null) {
-            schemas.values().forEach(this::removeReference);
-        }
-    }
+    /**
+     * Remove a reference to a schema, adding the referenced schema's name to
+     * the unused names if the reference was the last one.
+     */
+    void removeReference(String ref, Deque<String> unusedNames) {
+        String name = referencedName(ref);
 
-    void removeReferences(List<Schema> schemas) {
-        if (schemas != null) {
-            schemas.forEach(this::removeReference);
+        if (name != null && references.computeIfPresent(name, (k, count) -> count > 1 ? count - 1 : null) == null) {
+            unusedNames.push(name);
         }
     }
 }
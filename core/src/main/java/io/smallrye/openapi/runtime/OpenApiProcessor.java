@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.eclipse.microprofile.config.Config;
@@ -18,7 +19,9 @@ import io.smallrye.openapi.api.OpenApiDocument;
 import io.smallrye.openapi.api.util.ClassLoaderUtil;
 import io.smallrye.openapi.runtime.io.Format;
 import io.smallrye.openapi.runtime.io.OpenApiParser;
+import io.smallrye.openapi.runtime.scanner.AnnotationScannerExtension;
 import io.smallrye.openapi.runtime.scanner.OpenApiAnnotationScanner;
+import io.smallrye.openapi.runtime.scanner.spi.ScanListener;
 
 /**
  * Provides some core archive processing functionality.
@@ -53,35 +56,23 @@ public class OpenApiProcessor {
 
     public static OpenAPI bootstrap(OpenApiConfig config, IndexView index, ClassLoader classLoader,
             OpenApiStaticFile... staticFiles) {
-        OpenApiDocument.INSTANCE.reset();
-
-        // Set the config
-        if (config != null) {
-            OpenApiDocument.INSTANCE.config(config);
-        }
-        // Load all static files
-        if (staticFiles != null && staticFiles.length > 0) {
-            for (OpenApiStaticFile staticFile : staticFiles) {
-                OpenApiDocument.INSTANCE.modelFromStaticFile(modelFromStaticFile(config, staticFile));
-            }
-        }
-        // Scan annotations
-        if (config != null && index != null) {
-            OpenApiDocument.INSTANCE.modelFromAnnotations(modelFromAnnotations(config, classLoader, index));
-        }
-        // Filter and model
-        if (config != null && classLoader != null) {
-            OpenApiDocument.INSTANCE.modelFromReader(modelFromReader(config, classLoader));
-            OpenApiDocument.INSTANCE.filter(getFilter(config, classLoader));
-        }
-
-        OpenApiDocument.INSTANCE.initialize();
-
-        OpenAPI openAPI = OpenApiDocument.INSTANCE.get();
-
-        OpenApiDocument.INSTANCE.reset();
+        return builder()
+                .config(config)
+                .index(index)
+                .classLoader(classLoader)
+                .staticFiles(staticFiles)
+                .build();
+    }
 
-        return openAPI;
+    /**
+     * Create a builder for an {@link OpenAPI} model. Each builder uses its own
+     * {@link OpenApiDocument} rather than the shared {@link OpenApiDocument#INSTANCE},
+     * allowing the models of independent applications to be built concurrently.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
     }
 
     /**
@@ -135,6 +126,18 @@ public class OpenApiProcessor {
         return scanner.scan();
     }
 
+    private static OpenAPI modelFromAnnotations(OpenApiConfig config, ClassLoader loader, IndexView index,
+            ScanListener listener) {
+        if (config.scanDisable()) {
+            return null;
+        }
+
+        OpenApiAnnotationScanner scanner = new OpenApiAnnotationScanner(config, loader, index,
+                Collections.singletonList(new AnnotationScannerExtension() {
+                }), listener);
+        return scanner.scan();
+    }
+
     /**
      * Instantiate the configured {@link OASModelReader} and invoke it. If no reader is configured,
      * then return null. If a class is configured but there is an error either instantiating or invoking
@@ -201,4 +204,163 @@ public class OpenApiProcessor {
         }
         return apiStaticFiles;
     }
+
+    /**
+     * Builds the final {@link OpenAPI} model of an application from its
+     * configuration, static files, annotations, {@link OASModelReader} and
+     * {@link OASFilter} in the same way as {@link OpenApiProcessor#bootstrap}, without
+     * using any state shared with other builders.
+     */
+    public static class Builder {
+
+        private OpenApiConfig config;
+        private IndexView index;
+        private ClassLoader classLoader = ClassLoaderUtil.getDefaultClassLoader();
+        private final List<OpenApiStaticFile> staticFiles = new ArrayList<>();
+        private boolean defaultStaticFiles;
+        private final List<OASFilter> filters = new ArrayList<>();
+        private String archiveName;
+        private String version;
+
+        Builder() {
+        }
+
+        /**
+         * @param config the configuration of the application, required
+         * @return this builder
+         */
+        public Builder config(OpenApiConfig config) {
+            this.config = config;
+            return this;
+        }
+
+        /**
+         * @param index the index of the application to be scanned for annotations,
+         *        no scan is performed when null
+         * @return this builder
+         */
+        public Builder index(IndexView index) {
+            this.index = index;
+            return this;
+        }
+
+        /**
+         * @param classLoader the class loader used to load the configured
+         *        {@link OASModelReader} and {@link OASFilter} and the default static
+         *        files; defaults to the current thread's context class loader
+         * @return this builder
+         */
+        public Builder classLoader(ClassLoader classLoader) {
+            this.classLoader = classLoader;
+            return this;
+        }
+
+        /**
+         * Add static files to be merged into the model. The builder does not close
+         * the resources of the static files, the caller is responsible for that.
+         *
+         * @param staticFiles static files to add
+         * @return this builder
+         */
+        public Builder staticFiles(OpenApiStaticFile... staticFiles) {
+            if (staticFiles != null) {
+                for (OpenApiStaticFile staticFile : staticFiles) {
+                    this.staticFiles.add(staticFile);
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Also merge the static files found at the default locations (e.g.
+         * {@code META-INF/openapi.yaml}) of the class loader into the model.
+         *
+         * @return this builder
+         */
+        public Builder defaultStaticFiles() {
+            this.defaultStaticFiles = true;
+            return this;
+        }
+
+        /**
+         * Add a filter to be applied to the model in addition to the filter
+         * given by the configuration.
+         *
+         * @param filter the filter to apply
+         * @return this builder
+         */
+        public Builder filter(OASFilter filter) {
+            if (filter != null) {
+                filters.add(filter);
+            }
+            return this;
+        }
+
+        /**
+         * @param archiveName the name of the application, used for the default title of the model
+         * @return this builder
+         */
+        public Builder archiveName(String archiveName) {
+            this.archiveName = archiveName;
+            return this;
+        }
+
+        /**
+         * @param version the version of the application, used for the default version of the model
+         * @return this builder
+         */
+        public Builder version(String version) {
+            this.version = version;
+            return this;
+        }
+
+        /**
+         * Build the model.
+         *
+         * @return the final model of the application
+         * @throws IllegalStateException If no configuration has been set
+         */
+        public OpenAPI build() {
+            OpenApiDocument document = OpenApiDocument.newInstance();
+            ScanListener listener = null;
+
+            // Set the config, the listener receives the measurements of both the scan and the document
+            if (config != null) {
+                listener = ScanListener.of(config, classLoader != null ? classLoader : ClassLoaderUtil.getDefaultClassLoader());
+                document.config(config);
+                document.scanListener(listener);
+            }
+            // Load all static files
+            if (config != null) {
+                for (OpenApiStaticFile staticFile : staticFiles) {
+                    document.modelFromStaticFile(modelFromStaticFile(config, staticFile));
+                }
+                if (defaultStaticFiles && classLoader != null) {
+                    for (OpenApiStaticFile staticFile : loadOpenApiStaticFiles(classLoader)) {
+                        try (OpenApiStaticFile file = staticFile) {
+                            document.modelFromStaticFile(modelFromStaticFile(config, file));
+                        } catch (IOException e) {
+                            throw new OpenApiRuntimeException(e);
+                        }
+                    }
+                }
+            }
+            // Scan annotations
+            if (config != null && index != null) {
+                document.modelFromAnnotations(modelFromAnnotations(config, classLoader, index, listener));
+            }
+            // Filter and model
+            if (config != null && classLoader != null) {
+                document.modelFromReader(modelFromReader(config, classLoader));
+                document.filter(getFilter(config, classLoader));
+            }
+            filters.forEach(document::filter);
+
+            document.archiveName(archiveName);
+            document.version(version);
+            document.initialize();
+
+            return document.get();
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package io.smallrye.openapi.runtime.io;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
@@ -10,6 +11,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -71,6 +73,23 @@ public final class JsonUtil {
         node.set(propertyName, factory.textNode(propertyValue));
     }
 
+    /**
+     * Writes the value of a property to the given generator. If the value is null,
+     * then the property is not written.
+     *
+     * @param generator the generator
+     * @param propertyName Property to be written
+     * @param propertyValue Value to be written
+     * @throws IOException Errors writing the property
+     */
+    public static void stringProperty(JsonGenerator generator, String propertyName, String propertyValue)
+            throws IOException {
+        if (propertyValue == null) {
+            return;
+        }
+        generator.writeStringField(propertyName, propertyValue);
+    }
+
     /**
      * Sets the value of a property for a given json node. If the value is null,
      * then the property is not written.
@@ -87,6 +106,24 @@ public final class JsonUtil {
         node.set(propertyName, factory.textNode(propertyValue.toString()));
     }
 
+    /**
+     * Writes the value of a property to the given generator. If the value is null,
+     * then the property is not written.
+     *
+     * @param generator the generator
+     * @param propertyName Property to be written
+     * @param propertyValue Value to be written
+     * @param <E> Type of the property value
+     * @throws IOException Errors writing the property
+     */
+    public static <E extends Enum<E>> void enumProperty(JsonGenerator generator, String propertyName, E propertyValue)
+            throws IOException {
+        if (propertyValue == null) {
+            return;
+        }
+        generator.writeStringField(propertyName, propertyValue.toString());
+    }
+
     /**
      * Extract a boolean property from the given json tree. Returns null if no
      * property exists or is not a boolean node.
@@ -118,6 +155,23 @@ public final class JsonUtil {
         node.set(propertyName, factory.booleanNode(propertyValue));
     }
 
+    /**
+     * Writes the value of a property to the given generator. If the value is null,
+     * then the property is not written.
+     *
+     * @param generator the generator
+     * @param propertyName Property to be written
+     * @param propertyValue Boolean value to be written
+     * @throws IOException Errors writing the property
+     */
+    public static void booleanProperty(JsonGenerator generator, String propertyName, Boolean propertyValue)
+            throws IOException {
+        if (propertyValue == null) {
+            return;
+        }
+        generator.writeBooleanField(propertyName, propertyValue);
+    }
+
     /**
      * Extract a integer property from the given json tree. Returns null if no
      * property exists or is not a boolean node.
@@ -149,6 +203,23 @@ public final class JsonUtil {
         node.set(propertyName, factory.numberNode(propertyValue));
     }
 
+    /**
+     * Writes the value of a property to the given generator. If the value is null,
+     * then the property is not written.
+     *
+     * @param generator the generator
+     * @param propertyName Property to be written
+     * @param propertyValue Integer value to be written
+     * @throws IOException Errors writing the property
+     */
+    public static void intProperty(JsonGenerator generator, String propertyName, Integer propertyValue)
+            throws IOException {
+        if (propertyValue == null) {
+            return;
+        }
+        generator.writeNumberField(propertyName, propertyValue);
+    }
+
     /**
      * Extract a BigDecimal property from the given json tree. Returns null if no
      * property exists or is not a boolean node.
@@ -184,6 +255,40 @@ public final class JsonUtil {
         }
     }
 
+    /**
+     * Writes the value of a property to the given generator. If the value is null,
+     * then the property is not written.
+     *
+     * @param generator the generator
+     * @param propertyName Property to be written
+     * @param propertyValue BigDecimal value to be written
+     * @throws IOException Errors writing the property
+     */
+    public static void bigDecimalProperty(JsonGenerator generator, String propertyName, BigDecimal propertyValue)
+            throws IOException {
+        if (propertyValue == null) {
+            return;
+        }
+        generator.writeFieldName(propertyName);
+        if (isIntegerValue(propertyValue)) {
+            generator.writeNumber(propertyValue.toBigInteger());
+        } else {
+            writeNumber(generator, propertyValue);
+        }
+    }
+
+    /**
+     * Writes a decimal number to the generator in the same form as the number
+     * node of a JSON tree, which may normalize the value.
+     *
+     * @param generator the generator
+     * @param value the number
+     * @throws IOException Errors writing the number
+     */
+    public static void writeNumber(JsonGenerator generator, BigDecimal value) throws IOException {
+        generator.writeNumber(factory.numberNode(value).decimalValue());
+    }
+
     private static boolean isIntegerValue(BigDecimal bd) {
         return bd.signum() == 0 || bd.scale() <= 0 || bd.stripTrailingZeros().scale() <= 0;
     }
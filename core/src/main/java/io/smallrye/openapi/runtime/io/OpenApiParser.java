@@ -4,6 +4,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.eclipse.microprofile.openapi.models.media.Schema;
@@ -12,6 +14,7 @@ import org.yaml.snakeyaml.LoaderOptions;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactoryBuilder;
 
@@ -27,6 +30,11 @@ import io.smallrye.openapi.runtime.io.schema.SchemaReader;
  */
 public class OpenApiParser {
 
+    private static final ObjectReader JSON_READER = new ObjectMapper().reader();
+    // Key used for the reader with the default code point limit of the YAML loader
+    private static final Integer DEFAULT_FILE_SIZE = -1;
+    private static final Map<Integer, ObjectReader> YAML_READERS = new ConcurrentHashMap<>();
+
     /**
      * Parses the resource found at the given URL. This method accepts resources
      * either in JSON or YAML format. It will parse the input and, assuming it is
@@ -73,17 +81,7 @@ public class OpenApiParser {
      */
     public static final OpenAPI parse(InputStream stream, Format format, final Integer maximumStaticFileSize)
             throws IOException {
-        ObjectMapper mapper;
-        if (format == Format.JSON) {
-            mapper = new ObjectMapper();
-        } else {
-            LoaderOptions loaderOptions = new LoaderOptions();
-            if (maximumStaticFileSize != null) {
-                loaderOptions.setCodePointLimit(maximumStaticFileSize);
-            }
-            mapper = new ObjectMapper(new YAMLFactoryBuilder(new YAMLFactory()).loaderOptions(loaderOptions).build());
-        }
-        JsonNode tree = mapper.readTree(stream);
+        JsonNode tree = reader(format, maximumStaticFileSize).readTree(stream);
 
         OpenApiParser parser = new OpenApiParser(tree);
         return parser.parse();
@@ -102,16 +100,36 @@ public class OpenApiParser {
      * @throws OpenApiRuntimeException Errors in reading the String
      */
     public static final Schema parseSchema(String schemaJson) {
-        ObjectMapper mapper = new ObjectMapper();
         JsonNode tree;
         try {
-            tree = mapper.readTree(schemaJson);
+            tree = JSON_READER.readTree(schemaJson);
         } catch (JsonProcessingException e) {
             throw new OpenApiRuntimeException("Exception parsing JSON Schema representation", e);
         }
         return SchemaReader.readSchema(tree);
     }
 
+    /**
+     * Retrieve the (immutable, thread-safe) reader for the format. YAML readers are
+     * cached for each distinct maximum file size.
+     */
+    static ObjectReader reader(Format format, Integer maximumStaticFileSize) {
+        if (format == Format.JSON) {
+            return JSON_READER;
+        }
+        return YAML_READERS.computeIfAbsent(maximumStaticFileSize != null ? maximumStaticFileSize : DEFAULT_FILE_SIZE,
+                OpenApiParser::yamlReader);
+    }
+
+    private static ObjectReader yamlReader(Integer maximumStaticFileSize) {
+        LoaderOptions loaderOptions = new LoaderOptions();
+        if (!DEFAULT_FILE_SIZE.equals(maximumStaticFileSize)) {
+            loaderOptions.setCodePointLimit(maximumStaticFileSize);
+        }
+        YAMLFactory factory = new YAMLFactoryBuilder(new YAMLFactory()).loaderOptions(loaderOptions).build();
+        return new ObjectMapper(factory).reader();
+    }
+
     private final JsonNode tree;
 
     /**
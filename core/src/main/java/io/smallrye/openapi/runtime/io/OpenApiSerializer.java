@@ -1,12 +1,16 @@
 package io.smallrye.openapi.runtime.io;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
 
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
 
@@ -15,10 +19,26 @@ import io.smallrye.openapi.runtime.io.definition.DefinitionWriter;
 /**
  * Class used to serialize an OpenAPI
  *
+ * The document is written to the output as it is traversed, through the
+ * {@link JsonGenerator} methods of the writers (see {@link DefinitionWriter}),
+ * without building a JSON tree of the document or of its entries.
+ *
  * @author eric.wittmann@gmail.com
  */
 public class OpenApiSerializer {
 
+    /*
+     * Mappers and writers are immutable once configured and are shared by all
+     * invocations, avoiding the (comparatively) costly creation of new instances
+     * and their serializer caches for each document.
+     */
+    private static final ObjectMapper JSON_MAPPER = createMapper(new JsonFactory());
+    private static final ObjectMapper YAML_MAPPER = createMapper(yamlFactory());
+    private static final com.fasterxml.jackson.databind.ObjectWriter JSON_WRITER = JSON_MAPPER.writer();
+    private static final com.fasterxml.jackson.databind.ObjectWriter JSON_PRETTY_WRITER = JSON_MAPPER
+            .writerWithDefaultPrettyPrinter();
+    private static final com.fasterxml.jackson.databind.ObjectWriter YAML_WRITER = YAML_MAPPER.writer();
+
     private OpenApiSerializer() {
     }
 
@@ -31,25 +51,88 @@ public class OpenApiSerializer {
      * @throws IOException Errors in processing the JSON
      */
     public static final String serialize(OpenAPI openApi, Format format) throws IOException {
+        StringWriter writer = new StringWriter();
+        serialize(openApi, format, writer);
+        return writer.toString();
+    }
 
-        try {
-            ObjectNode tree = JsonUtil.objectNode();
-            DefinitionWriter.writeOpenAPI(tree, openApi);
-
-            ObjectMapper mapper;
-            if (format == Format.JSON) {
-                mapper = new ObjectMapper();
-                return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(tree);
-            } else {
-                YAMLFactory factory = new YAMLFactory();
-                factory.enable(YAMLGenerator.Feature.MINIMIZE_QUOTES);
-                factory.enable(YAMLGenerator.Feature.ALWAYS_QUOTE_NUMBERS_AS_STRINGS);
-                mapper = new ObjectMapper(factory);
-                return mapper.writer().writeValueAsString(tree);
-            }
-        } catch (JsonProcessingException e) {
-            throw new IOException(e);
+    /**
+     * Serializes the given OpenAPI object into either JSON or YAML, writing it to
+     * the given stream using UTF-8 encoding. The stream is not closed.
+     *
+     * @param openApi the OpenAPI object
+     * @param format the serialization format
+     * @param output the stream to write to
+     * @throws IOException Errors in processing the JSON or writing to the stream
+     */
+    public static final void serialize(OpenAPI openApi, Format format, OutputStream output) throws IOException {
+        serialize(openApi, format, true, output);
+    }
+
+    /**
+     * Serializes the given OpenAPI object into either JSON or YAML, writing it to
+     * the given stream using UTF-8 encoding. The stream is not closed.
+     *
+     * @param openApi the OpenAPI object
+     * @param format the serialization format
+     * @param pretty whether JSON should be indented, ignored for YAML
+     * @param output the stream to write to
+     * @throws IOException Errors in processing the JSON or writing to the stream
+     */
+    public static final void serialize(OpenAPI openApi, Format format, boolean pretty, OutputStream output)
+            throws IOException {
+        try (JsonGenerator generator = writer(format, pretty).createGenerator(output)) {
+            DefinitionWriter.writeOpenAPI(generator, openApi);
         }
     }
 
+    /**
+     * Serializes the given OpenAPI object into either JSON or YAML, writing it to
+     * the given writer. The writer is not closed.
+     *
+     * @param openApi the OpenAPI object
+     * @param format the serialization format
+     * @param output the writer to write to
+     * @throws IOException Errors in processing the JSON or writing to the writer
+     */
+    public static final void serialize(OpenAPI openApi, Format format, Writer output) throws IOException {
+        serialize(openApi, format, true, output);
+    }
+
+    /**
+     * Serializes the given OpenAPI object into either JSON or YAML, writing it to
+     * the given writer. The writer is not closed.
+     *
+     * @param openApi the OpenAPI object
+     * @param format the serialization format
+     * @param pretty whether JSON should be indented, ignored for YAML
+     * @param output the writer to write to
+     * @throws IOException Errors in processing the JSON or writing to the writer
+     */
+    public static final void serialize(OpenAPI openApi, Format format, boolean pretty, Writer output)
+            throws IOException {
+        try (JsonGenerator generator = writer(format, pretty).createGenerator(output)) {
+            DefinitionWriter.writeOpenAPI(generator, openApi);
+        }
+    }
+
+    private static com.fasterxml.jackson.databind.ObjectWriter writer(Format format, boolean pretty) {
+        if (format == Format.JSON) {
+            return pretty ? JSON_PRETTY_WRITER : JSON_WRITER;
+        }
+        return YAML_WRITER;
+    }
+
+    private static ObjectMapper createMapper(JsonFactory factory) {
+        // The target is owned by the caller and is flushed once complete
+        factory.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return new ObjectMapper(factory).disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    private static JsonFactory yamlFactory() {
+        YAMLFactory factory = new YAMLFactory();
+        factory.enable(YAMLGenerator.Feature.MINIMIZE_QUOTES);
+        factory.enable(YAMLGenerator.Feature.ALWAYS_QUOTE_NUMBERS_AS_STRINGS);
+        return factory;
+    }
 }
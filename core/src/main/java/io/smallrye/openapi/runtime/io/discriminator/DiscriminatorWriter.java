@@ -1,7 +1,10 @@
 package io.smallrye.openapi.runtime.io.discriminator;
 
+import java.io.IOException;
+
 import org.eclipse.microprofile.openapi.models.media.Discriminator;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
@@ -37,4 +40,20 @@ public class DiscriminatorWriter {
         ObjectWriter.writeStringMap(node, model.getMapping(), DiscriminatorConstant.PROP_MAPPING);
     }
 
+    /**
+     * Writes the {@link Discriminator} model to the generator.
+     *
+     * @param generator the generator
+     * @param model the Discriminator model
+     * @throws IOException Errors writing the discriminator
+     */
+    public static void writeDiscriminator(JsonGenerator generator, Discriminator model) throws IOException {
+        if (model == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(SchemaConstant.PROP_DISCRIMINATOR);
+        JsonUtil.stringProperty(generator, DiscriminatorConstant.PROP_PROPERTY_NAME, model.getPropertyName());
+        ObjectWriter.writeStringMap(generator, model.getMapping(), DiscriminatorConstant.PROP_MAPPING);
+        generator.writeEndObject();
+    }
 }
@@ -1,9 +1,11 @@
 package io.smallrye.openapi.runtime.io.example;
 
+import java.io.IOException;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.examples.Example;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
@@ -65,4 +67,39 @@ public class ExampleWriter {
             ExtensionWriter.writeExtensions(node, model);
         }
     }
+
+    /**
+     * Writes a map of {@link Example} to the generator.
+     *
+     * @param generator the generator
+     * @param examples map of Example models
+     * @throws IOException Errors writing the examples
+     */
+    public static void writeExamples(JsonGenerator generator, Map<String, Example> examples) throws IOException {
+        if (examples == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(ComponentsConstant.PROP_EXAMPLES);
+        for (Map.Entry<String, Example> entry : examples.entrySet()) {
+            writeExample(generator, entry.getValue(), entry.getKey());
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeExample(JsonGenerator generator, Example model, String name) throws IOException {
+        if (model == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(name);
+        if (StringUtil.isNotEmpty(model.getRef())) {
+            JsonUtil.stringProperty(generator, Referenceable.PROP_$REF, model.getRef());
+        } else {
+            JsonUtil.stringProperty(generator, ExampleConstant.PROP_SUMMARY, model.getSummary());
+            JsonUtil.stringProperty(generator, ExampleConstant.PROP_DESCRIPTION, model.getDescription());
+            ObjectWriter.writeObject(generator, ExampleConstant.PROP_VALUE, model.getValue());
+            JsonUtil.stringProperty(generator, ExampleConstant.PROP_EXTERNAL_VALUE, model.getExternalValue());
+            ExtensionWriter.writeExtensions(generator, model);
+        }
+        generator.writeEndObject();
+    }
 }
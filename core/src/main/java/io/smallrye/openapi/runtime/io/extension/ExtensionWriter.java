@@ -1,9 +1,11 @@
 package io.smallrye.openapi.runtime.io.extension;
 
+import java.io.IOException;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.Extensible;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.smallrye.openapi.runtime.io.ObjectWriter;
@@ -43,4 +45,24 @@ public class ExtensionWriter {
         }
     }
 
+    /**
+     * Writes extensions to the generator.
+     *
+     * @param generator the generator
+     * @param model the model holding the extensions
+     * @throws IOException Errors writing the extensions
+     */
+    public static void writeExtensions(JsonGenerator generator, Extensible<?> model) throws IOException {
+        Map<String, Object> extensions = model.getExtensions();
+        if (extensions == null || extensions.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<String, Object> entry : extensions.entrySet()) {
+            String key = entry.getKey();
+            if (!ExtensionConstant.isExtensionField(key)) {
+                key = ExtensionConstant.EXTENSION_PROPERTY_PREFIX + key;
+            }
+            ObjectWriter.writeObject(generator, key, entry.getValue());
+        }
+    }
 }
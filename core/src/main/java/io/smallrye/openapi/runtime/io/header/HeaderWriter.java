@@ -1,9 +1,11 @@
 package io.smallrye.openapi.runtime.io.header;
 
+import java.io.IOException;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.headers.Header;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
@@ -75,4 +77,45 @@ public class HeaderWriter {
             ExtensionWriter.writeExtensions(node, model);
         }
     }
+
+    /**
+     * Writes a map of {@link Header} to the generator.
+     *
+     * @param generator the generator
+     * @param headers map of Header models
+     * @throws IOException Errors writing the headers
+     */
+    public static void writeHeaders(JsonGenerator generator, Map<String, Header> headers) throws IOException {
+        if (headers == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(ComponentsConstant.PROP_HEADERS);
+        for (Map.Entry<String, Header> entry : headers.entrySet()) {
+            writeHeader(generator, entry.getValue(), entry.getKey());
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeHeader(JsonGenerator generator, Header model, String name) throws IOException {
+        if (model == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(name);
+        if (StringUtil.isNotEmpty(model.getRef())) {
+            JsonUtil.stringProperty(generator, Referenceable.PROP_$REF, model.getRef());
+        } else {
+            JsonUtil.stringProperty(generator, Parameterizable.PROP_DESCRIPTION, model.getDescription());
+            JsonUtil.booleanProperty(generator, Parameterizable.PROP_REQUIRED, model.getRequired());
+            JsonUtil.booleanProperty(generator, Parameterizable.PROP_DEPRECATED, model.getDeprecated());
+            JsonUtil.booleanProperty(generator, Parameterizable.PROP_ALLOW_EMPTY_VALUE, model.getAllowEmptyValue());
+            JsonUtil.enumProperty(generator, Parameterizable.PROP_STYLE, model.getStyle());
+            JsonUtil.booleanProperty(generator, Parameterizable.PROP_EXPLODE, model.getExplode());
+            SchemaWriter.writeSchema(generator, model.getSchema(), Parameterizable.PROP_SCHEMA);
+            ObjectWriter.writeObject(generator, Parameterizable.PROP_EXAMPLE, model.getExample());
+            ExampleWriter.writeExamples(generator, model.getExamples());
+            ContentWriter.writeContent(generator, model.getContent());
+            ExtensionWriter.writeExtensions(generator, model);
+        }
+        generator.writeEndObject();
+    }
 }
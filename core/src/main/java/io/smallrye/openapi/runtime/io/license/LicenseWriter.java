@@ -1,7 +1,10 @@
 package io.smallrye.openapi.runtime.io.license;
 
+import java.io.IOException;
+
 import org.eclipse.microprofile.openapi.models.info.License;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
@@ -37,4 +40,22 @@ public class LicenseWriter {
         JsonUtil.stringProperty(node, LicenseConstant.PROP_URL, model.getUrl());
         ExtensionWriter.writeExtensions(node, model);
     }
+
+    /**
+     * Writes the {@link License} model to the generator.
+     *
+     * @param generator the generator
+     * @param model the License model
+     * @throws IOException Errors writing the license
+     */
+    public static void writeLicense(JsonGenerator generator, License model) throws IOException {
+        if (model == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(InfoConstant.PROP_LICENSE);
+        JsonUtil.stringProperty(generator, LicenseConstant.PROP_NAME, model.getName());
+        JsonUtil.stringProperty(generator, LicenseConstant.PROP_URL, model.getUrl());
+        ExtensionWriter.writeExtensions(generator, model);
+        generator.writeEndObject();
+    }
 }
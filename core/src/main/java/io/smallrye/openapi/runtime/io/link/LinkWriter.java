@@ -1,9 +1,11 @@
 package io.smallrye.openapi.runtime.io.link;
 
+import java.io.IOException;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.links.Link;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.smallrye.openapi.api.constants.OpenApiConstants;
@@ -86,4 +88,51 @@ public class LinkWriter {
         }
     }
 
+    /**
+     * Writes a map of {@link Link} to the generator.
+     *
+     * @param generator the generator
+     * @param links map of Link models
+     * @throws IOException Errors writing the links
+     */
+    public static void writeLinks(JsonGenerator generator, Map<String, Link> links) throws IOException {
+        if (links == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(ComponentsConstant.PROP_LINKS);
+        for (Map.Entry<String, Link> entry : links.entrySet()) {
+            writeLink(generator, entry.getValue(), entry.getKey());
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeLink(JsonGenerator generator, Link model, String name) throws IOException {
+        if (model == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(name);
+        if (StringUtil.isNotEmpty(model.getRef())) {
+            JsonUtil.stringProperty(generator, Referenceable.PROP_$REF, model.getRef());
+        } else {
+            JsonUtil.stringProperty(generator, OpenApiConstants.PROP_OPERATION_REF, model.getOperationRef());
+            JsonUtil.stringProperty(generator, OpenApiConstants.PROP_OPERATION_ID, model.getOperationId());
+            writeLinkParameters(generator, model.getParameters());
+            ObjectWriter.writeObject(generator, LinkConstant.PROP_REQUEST_BODY, model.getRequestBody());
+            JsonUtil.stringProperty(generator, LinkConstant.PROP_DESCRIPTION, model.getDescription());
+            ServerWriter.writeServer(generator, model.getServer());
+            ExtensionWriter.writeExtensions(generator, model);
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeLinkParameters(JsonGenerator generator, Map<String, Object> parameters) throws IOException {
+        if (parameters == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(LinkConstant.PROP_PARAMETERS);
+        for (Map.Entry<String, Object> entry : parameters.entrySet()) {
+            ObjectWriter.writeObject(generator, entry.getKey(), entry.getValue());
+        }
+        generator.writeEndObject();
+    }
 }
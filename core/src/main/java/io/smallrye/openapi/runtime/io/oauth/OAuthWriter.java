@@ -1,8 +1,11 @@
 package io.smallrye.openapi.runtime.io.oauth;
 
+import java.io.IOException;
+
 import org.eclipse.microprofile.openapi.models.security.OAuthFlow;
 import org.eclipse.microprofile.openapi.models.security.OAuthFlows;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
@@ -60,4 +63,37 @@ public class OAuthWriter {
         ObjectWriter.writeStringMap(node, model.getScopes(), SecuritySchemeConstant.PROP_SCOPES);
         ExtensionWriter.writeExtensions(node, model);
     }
+
+    /**
+     * Writes the {@link OAuthFlows} model to the generator.
+     *
+     * @param generator the generator
+     * @param model the OAuthFlows model
+     * @throws IOException Errors writing the flows
+     */
+    public static void writeOAuthFlows(JsonGenerator generator, OAuthFlows model) throws IOException {
+        if (model == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(SecuritySchemeConstant.PROP_FLOWS);
+        writeOAuthFlow(generator, model.getImplicit(), SecuritySchemeConstant.PROP_IMPLICIT);
+        writeOAuthFlow(generator, model.getPassword(), SecuritySchemeConstant.PROP_PASSWORD);
+        writeOAuthFlow(generator, model.getClientCredentials(), SecuritySchemeConstant.PROP_CLIENT_CREDENTIALS);
+        writeOAuthFlow(generator, model.getAuthorizationCode(), SecuritySchemeConstant.PROP_AUTHORIZATION_CODE);
+        ExtensionWriter.writeExtensions(generator, model);
+        generator.writeEndObject();
+    }
+
+    private static void writeOAuthFlow(JsonGenerator generator, OAuthFlow model, String name) throws IOException {
+        if (model == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(name);
+        JsonUtil.stringProperty(generator, SecuritySchemeConstant.PROP_AUTHORIZATION_URL, model.getAuthorizationUrl());
+        JsonUtil.stringProperty(generator, SecuritySchemeConstant.PROP_TOKEN_URL, model.getTokenUrl());
+        JsonUtil.stringProperty(generator, SecuritySchemeConstant.PROP_REFRESH_URL, model.getRefreshUrl());
+        ObjectWriter.writeStringMap(generator, model.getScopes(), SecuritySchemeConstant.PROP_SCOPES);
+        ExtensionWriter.writeExtensions(generator, model);
+        generator.writeEndObject();
+    }
 }
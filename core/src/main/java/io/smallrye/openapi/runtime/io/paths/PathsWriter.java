@@ -1,11 +1,13 @@
 package io.smallrye.openapi.runtime.io.paths;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.microprofile.openapi.models.PathItem;
 import org.eclipse.microprofile.openapi.models.Paths;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
@@ -76,4 +78,55 @@ public class PathsWriter {
         ServerWriter.writeServers(node, model.getServers());
         ExtensionWriter.writeExtensions(node, model);
     }
+
+    /**
+     * Writes the {@link Paths} model to the generator.
+     *
+     * @param generator the generator
+     * @param paths the Paths model
+     * @throws IOException Errors writing the paths
+     */
+    public static void writePaths(JsonGenerator generator, Paths paths) throws IOException {
+        if (paths == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(DefinitionConstant.PROP_PATHS);
+        if (paths.getPathItems() != null) {
+            for (Map.Entry<String, PathItem> entry : paths.getPathItems().entrySet()) {
+                writePathItem(generator, entry.getValue(), entry.getKey());
+            }
+        }
+        ExtensionWriter.writeExtensions(generator, paths);
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes the {@link PathItem} model to the generator.
+     *
+     * @param generator the generator
+     * @param model the PathItem model
+     * @param pathName the path of the item
+     * @throws IOException Errors writing the path item
+     */
+    public static void writePathItem(JsonGenerator generator, PathItem model, String pathName) throws IOException {
+        if (model == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(pathName);
+        JsonUtil.stringProperty(generator, Referenceable.PROP_$REF, model.getRef());
+        JsonUtil.stringProperty(generator, PathsConstant.PROP_SUMMARY, model.getSummary());
+        JsonUtil.stringProperty(generator, PathsConstant.PROP_DESCRIPTION, model.getDescription());
+        OperationWriter.writeOperation(generator, model.getGET(), PathsConstant.PROP_GET);
+        OperationWriter.writeOperation(generator, model.getPUT(), PathsConstant.PROP_PUT);
+        OperationWriter.writeOperation(generator, model.getPOST(), PathsConstant.PROP_POST);
+        OperationWriter.writeOperation(generator, model.getDELETE(), PathsConstant.PROP_DELETE);
+        OperationWriter.writeOperation(generator, model.getOPTIONS(), PathsConstant.PROP_OPTIONS);
+        OperationWriter.writeOperation(generator, model.getHEAD(), PathsConstant.PROP_HEAD);
+        OperationWriter.writeOperation(generator, model.getPATCH(), PathsConstant.PROP_PATCH);
+        OperationWriter.writeOperation(generator, model.getTRACE(), PathsConstant.PROP_TRACE);
+        ParameterWriter.writeParameterList(generator, model.getParameters());
+        ServerWriter.writeServers(generator, model.getServers());
+        ExtensionWriter.writeExtensions(generator, model);
+        generator.writeEndObject();
+    }
 }
@@ -1,11 +1,13 @@
 package io.smallrye.openapi.runtime.io.response;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.microprofile.openapi.models.responses.APIResponse;
 import org.eclipse.microprofile.openapi.models.responses.APIResponses;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
@@ -90,4 +92,75 @@ public class ResponseWriter {
             ExtensionWriter.writeExtensions(node, model);
         }
     }
+
+    /**
+     * Writes a map of {@link APIResponse} to the generator.
+     *
+     * @param generator the generator
+     * @param responses map of APIResponse models
+     * @throws IOException Errors writing the responses
+     */
+    public static void writeAPIResponses(JsonGenerator generator, Map<String, APIResponse> responses) throws IOException {
+        if (responses == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(ComponentsConstant.PROP_RESPONSES);
+        for (Map.Entry<String, APIResponse> entry : responses.entrySet()) {
+            writeAPIResponse(generator, entry.getValue(), entry.getKey());
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes the {@link APIResponses} model to the generator.
+     *
+     * @param generator the generator
+     * @param model the APIResponses model
+     * @throws IOException Errors writing the responses
+     */
+    public static void writeAPIResponses(JsonGenerator generator, APIResponses model) throws IOException {
+        if (model == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(ComponentsConstant.PROP_RESPONSES);
+        ExtensionWriter.writeExtensions(generator, model);
+
+        /*
+         * The default response may also be present in the map of responses, as it is in
+         * APIResponsesImpl. It is written once, first, with the value of the map if any,
+         * as in the JSON tree written by writeAPIResponses(ObjectNode, APIResponses).
+         */
+        Map<String, APIResponse> responses = model.getAPIResponses();
+        APIResponse defaultValue = model.getDefaultValue();
+
+        if (defaultValue != null) {
+            APIResponse mapped = responses != null ? responses.get(ResponseConstant.PROP_DEFAULT) : null;
+            writeAPIResponse(generator, mapped != null ? mapped : defaultValue, ResponseConstant.PROP_DEFAULT);
+        }
+        if (responses != null) {
+            for (Map.Entry<String, APIResponse> entry : responses.entrySet()) {
+                if (defaultValue == null || !ResponseConstant.PROP_DEFAULT.equals(entry.getKey())) {
+                    writeAPIResponse(generator, entry.getValue(), entry.getKey());
+                }
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeAPIResponse(JsonGenerator generator, APIResponse model, String name) throws IOException {
+        if (model == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(name);
+        if (StringUtil.isNotEmpty(model.getRef())) {
+            JsonUtil.stringProperty(generator, Referenceable.PROP_$REF, model.getRef());
+        } else {
+            JsonUtil.stringProperty(generator, ResponseConstant.PROP_DESCRIPTION, model.getDescription());
+            HeaderWriter.writeHeaders(generator, model.getHeaders());
+            ContentWriter.writeContent(generator, model.getContent());
+            LinkWriter.writeLinks(generator, model.getLinks());
+            ExtensionWriter.writeExtensions(generator, model);
+        }
+        generator.writeEndObject();
+    }
 }
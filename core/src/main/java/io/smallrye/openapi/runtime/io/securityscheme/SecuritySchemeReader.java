@@ -1,9 +1,12 @@
 package io.smallrye.openapi.runtime.io.securityscheme;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
 import org.eclipse.microprofile.openapi.models.security.SecurityScheme.In;
@@ -11,6 +14,8 @@ import org.eclipse.microprofile.openapi.models.security.SecurityScheme.Type;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.IndexView;
 
 import com.fasterxml.jackson.databind.JsonNode;
 
@@ -18,6 +23,8 @@ import io.smallrye.openapi.api.models.security.SecuritySchemeImpl;
 import io.smallrye.openapi.runtime.io.IoLogging;
 import io.smallrye.openapi.runtime.io.JsonUtil;
 import io.smallrye.openapi.runtime.io.Referenceable;
+import io.smallrye.openapi.runtime.io.components.ComponentsConstant;
+import io.smallrye.openapi.runtime.io.definition.DefinitionConstant;
 import io.smallrye.openapi.runtime.io.extension.ExtensionReader;
 import io.smallrye.openapi.runtime.io.oauth.OAuthReader;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
@@ -174,6 +181,35 @@ public class SecuritySchemeReader {
                 SecuritySchemeConstant.TYPE_SECURITY_SCHEMES);
     }
 
+    /**
+     * Find the classes declaring security schemes, using <code>@SecurityScheme</code> (or
+     * <code>@SecuritySchemes</code>) annotations or the components of an
+     * <code>@OpenAPIDefinition</code> annotation.
+     *
+     * @param index the index to search
+     * @return the declaring classes
+     */
+    public static List<ClassInfo> getSecuritySchemeClasses(final IndexView index) {
+        List<ClassInfo> classes = new ArrayList<>();
+
+        Stream.of(SecuritySchemeConstant.DOTNAME_SECURITY_SCHEME, SecuritySchemeConstant.TYPE_SECURITY_SCHEMES)
+                .map(index::getAnnotations)
+                .flatMap(Collection::stream)
+                .filter(annotation -> annotation.target().kind() == AnnotationTarget.Kind.CLASS)
+                .forEach(annotation -> classes.add(annotation.target().asClass()));
+
+        for (AnnotationInstance definition : index.getAnnotations(DefinitionConstant.DOTNAME_OPEN_API_DEFINITION)) {
+            AnnotationValue components = definition.value(DefinitionConstant.PROP_COMPONENTS);
+
+            if (definition.target().kind() == AnnotationTarget.Kind.CLASS && components != null
+                    && components.asNested().value(ComponentsConstant.PROP_SECURITY_SCHEMES) != null) {
+                classes.add(definition.target().asClass());
+            }
+        }
+
+        return classes;
+    }
+
     public static String getSecuritySchemeName(AnnotationInstance annotation) {
         return JandexUtil.stringValue(annotation, SecuritySchemeConstant.PROP_SECURITY_SCHEME_NAME);
     }
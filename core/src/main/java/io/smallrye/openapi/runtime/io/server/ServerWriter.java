@@ -1,9 +1,11 @@
 package io.smallrye.openapi.runtime.io.server;
 
+import java.io.IOException;
 import java.util.List;
 
 import org.eclipse.microprofile.openapi.models.servers.Server;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
@@ -62,4 +64,46 @@ public class ServerWriter {
         ServerVariableWriter.writeServerVariables(node, model.getVariables());
         ExtensionWriter.writeExtensions(node, model);
     }
+
+    /**
+     * Writes a list of {@link Server} to the generator.
+     *
+     * @param generator the generator
+     * @param servers list of Server models
+     * @throws IOException Errors writing the servers
+     */
+    public static void writeServers(JsonGenerator generator, List<Server> servers) throws IOException {
+        if (servers == null) {
+            return;
+        }
+        generator.writeArrayFieldStart(DefinitionConstant.PROP_SERVERS);
+        for (Server server : servers) {
+            writeServerObject(generator, server);
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Writes the {@link Server} model to the generator.
+     *
+     * @param generator the generator
+     * @param model the Server model
+     * @throws IOException Errors writing the server
+     */
+    public static void writeServer(JsonGenerator generator, Server model) throws IOException {
+        if (model == null) {
+            return;
+        }
+        generator.writeFieldName(ServerConstant.PROP_SERVER);
+        writeServerObject(generator, model);
+    }
+
+    private static void writeServerObject(JsonGenerator generator, Server model) throws IOException {
+        generator.writeStartObject();
+        JsonUtil.stringProperty(generator, ServerConstant.PROP_URL, model.getUrl());
+        JsonUtil.stringProperty(generator, ServerConstant.PROP_DESCRIPTION, model.getDescription());
+        ServerVariableWriter.writeServerVariables(generator, model.getVariables());
+        ExtensionWriter.writeExtensions(generator, model);
+        generator.writeEndObject();
+    }
 }
@@ -1,15 +1,18 @@
 package io.smallrye.openapi.runtime.io.servervariable;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.microprofile.openapi.models.servers.ServerVariable;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.smallrye.openapi.runtime.io.JsonUtil;
+import io.smallrye.openapi.runtime.io.ObjectWriter;
 import io.smallrye.openapi.runtime.io.extension.ExtensionWriter;
 import io.smallrye.openapi.runtime.io.server.ServerConstant;
 
@@ -69,4 +72,43 @@ public class ServerVariableWriter {
         ExtensionWriter.writeExtensions(node, model);
     }
 
+    /**
+     * Writes a map of {@link ServerVariable} to the generator.
+     *
+     * @param generator the generator
+     * @param variables map of ServerVariable models
+     * @throws IOException Errors writing the server variables
+     */
+    public static void writeServerVariables(JsonGenerator generator, Map<String, ServerVariable> variables)
+            throws IOException {
+        if (variables == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(ServerConstant.PROP_VARIABLES);
+        for (Map.Entry<String, ServerVariable> entry : variables.entrySet()) {
+            writeServerVariable(generator, entry.getValue(), entry.getKey());
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes the {@link ServerVariable} model to the generator.
+     *
+     * @param generator the generator
+     * @param model the ServerVariable model
+     * @param variableName the name of the variable
+     * @throws IOException Errors writing the server variable
+     */
+    public static void writeServerVariable(JsonGenerator generator, ServerVariable model, String variableName)
+            throws IOException {
+        if (model == null) {
+            return;
+        }
+        generator.writeObjectFieldStart(variableName);
+        JsonUtil.stringProperty(generator, ServerVariableConstant.PROP_DEFAULT, model.getDefaultValue());
+        JsonUtil.stringProperty(generator, ServerVariableConstant.PROP_DESCRIPTION, model.getDescription());
+        ObjectWriter.writeStringArray(generator, model.getEnumeration(), ServerVariableConstant.PROP_ENUM);
+        ExtensionWriter.writeExtensions(generator, model);
+        generator.writeEndObject();
+    }
 }
@@ -1,9 +1,11 @@
 package io.smallrye.openapi.runtime.io.tag;
 
+import java.io.IOException;
 import java.util.List;
 
 import org.eclipse.microprofile.openapi.models.tags.Tag;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
@@ -44,4 +46,27 @@ public class TagWriter {
             ExtensionWriter.writeExtensions(tagNode, tag);
         }
     }
+
+    /**
+     * Writes a list of {@link Tag} to the generator.
+     *
+     * @param generator the generator
+     * @param tags list of Tag models
+     * @throws IOException Errors writing the tags
+     */
+    public static void writeTags(JsonGenerator generator, List<Tag> tags) throws IOException {
+        if (tags == null) {
+            return;
+        }
+        generator.writeArrayFieldStart(DefinitionConstant.PROP_TAGS);
+        for (Tag tag : tags) {
+            generator.writeStartObject();
+            JsonUtil.stringProperty(generator, TagConstant.PROP_NAME, tag.getName());
+            JsonUtil.stringProperty(generator, TagConstant.PROP_DESCRIPTION, tag.getDescription());
+            ExternalDocsWriter.writeExternalDocumentation(generator, tag.getExternalDocs());
+            ExtensionWriter.writeExtensions(generator, tag);
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+    }
 }
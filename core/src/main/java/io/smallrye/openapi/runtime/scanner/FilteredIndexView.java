@@ -1,8 +1,12 @@
 package io.smallrye.openapi.runtime.scanner;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -29,13 +33,32 @@ public class FilteredIndexView implements IndexView {
     private final Set<String> scanClasses;
     private final Set<Pattern> scanClassesPatterns;
     private final Set<String> scanPackages;
+    private final PrefixTrie scanPackagesTrie;
     private final Set<Pattern> scanPackagesPatterns;
     private final Set<String> scanExcludeClasses;
     private final Set<Pattern> scanExcludeClassesPatterns;
     private final Set<String> scanExcludePackages;
+    private final PrefixTrie scanExcludePackagesTrie;
     private final Set<Pattern> scanExcludePackagesPatterns;
     private boolean anyIncludesConfigured;
 
+    /**
+     * Decisions made by the include/exclude configuration, per class name. A
+     * class name that is neither included nor excluded maps to {@link Decision#IMPLIED}.
+     */
+    private final Map<DotName, Decision> decisions = new ConcurrentHashMap<>();
+
+    /**
+     * Filtered results of {@link #getAnnotations(DotName)}, per annotation name.
+     */
+    private final Map<DotName, Collection<AnnotationInstance>> filteredAnnotations = new ConcurrentHashMap<>();
+
+    private enum Decision {
+        INCLUDED,
+        EXCLUDED,
+        IMPLIED
+    }
+
     /**
      * Constructor.
      *
@@ -52,6 +75,7 @@ public class FilteredIndexView implements IndexView {
         scanPackages = new HashSet<>();
         scanPackagesPatterns = new HashSet<>();
         processConfigStrings(config.scanPackages(), scanPackages, scanPackagesPatterns);
+        scanPackagesTrie = new PrefixTrie(scanPackages);
 
         scanExcludeClasses = new HashSet<>();
         scanExcludeClassesPatterns = new HashSet<>();
@@ -60,6 +84,7 @@ public class FilteredIndexView implements IndexView {
         scanExcludePackages = new HashSet<>();
         scanExcludePackagesPatterns = new HashSet<>();
         processConfigStrings(config.scanExcludePackages(), scanExcludePackages, scanExcludePackagesPatterns);
+        scanExcludePackagesTrie = new PrefixTrie(scanExcludePackages);
 
         anyIncludesConfigured = !scanClasses.isEmpty() || !scanClassesPatterns.isEmpty() || !scanPackages.isEmpty()
                 || !scanPackagesPatterns.isEmpty();
@@ -106,7 +131,23 @@ public class FilteredIndexView implements IndexView {
      * @return true if the inclusion/exclusion configuration allows scanning of the class name
      */
     public boolean accepts(DotName className, boolean allowImpliedInclusion) {
+        switch (decisions.computeIfAbsent(className, this::decide)) {
+            case INCLUDED:
+                return true;
+            case EXCLUDED:
+                return false;
+            default:
+                return allowImpliedInclusion && !anyIncludesConfigured;
+        }
+    }
 
+    /**
+     * Applies the inclusion/exclusion configuration to the class name.
+     *
+     * @param className the name of the class
+     * @return whether the class is included, excluded or neither
+     */
+    private Decision decide(DotName className) {
         String fqcn = className.toString();
         String simpleName = className.withoutPackagePrefix();
         int index = fqcn.lastIndexOf('.');
@@ -114,12 +155,12 @@ public class FilteredIndexView implements IndexView {
 
         // Check for an exact class name match in the exclude list
         if (scanExcludeClasses.contains(fqcn)) {
-            return false;
+            return Decision.EXCLUDED;
         }
 
         // Check for an exact class name match in the include list
         if (scanClasses.contains(fqcn)) {
-            return true;
+            return Decision.INCLUDED;
         }
 
         // Find the longest entry from the class exclude list which is a suffix of the fqcn and includes the full simple class name
@@ -140,56 +181,33 @@ public class FilteredIndexView implements IndexView {
 
         if (simpleNameExcludeMatch.length() > 0 && simpleNameExcludeMatch.length() >= simpleNameIncludeMatch.length()) {
             // There is an exclude match and it's more complete than any include match
-            return false;
+            return Decision.EXCLUDED;
         }
 
         if (simpleNameIncludeMatch.length() > 0) {
             // There is an include match
-            return true;
+            return Decision.INCLUDED;
         }
 
         // Find the longest string prefix match or regex match from the include package list
-        String packageIncludeMatch = longest(longestPrefixMatch(packageName, scanPackages),
+        String packageIncludeMatch = longest(scanPackagesTrie.longestPrefixMatch(packageName),
                 longestRegexMatch(packageName, scanPackagesPatterns));
 
         // Find the longest string prefix match or regex match from the exclude package list
-        String packageExcludeMatch = longest(longestPrefixMatch(packageName, scanExcludePackages),
+        String packageExcludeMatch = longest(scanExcludePackagesTrie.longestPrefixMatch(packageName),
                 longestRegexMatch(packageName, scanExcludePackagesPatterns));
 
         if (packageExcludeMatch.length() > 0 && packageExcludeMatch.length() >= packageIncludeMatch.length()) {
             // There is a package exclude match and it's more complete than any include match
-            return false;
+            return Decision.EXCLUDED;
         }
 
         if (packageIncludeMatch.length() > 0) {
             // There is a package include match
-            return true;
-        }
-
-        if (allowImpliedInclusion && !anyIncludesConfigured) {
-            return true;
+            return Decision.INCLUDED;
         }
 
-        return false;
-    }
-
-    /**
-     * Find the longest string from {@code prefixes} which is a prefix of {@code name}
-     *
-     * @param name the name
-     * @param prefixes a set of potential prefixes of {@code name}
-     * @return the longest element of {@code prefixes} which is a prefix of {@code name}, or the empty string if there are none
-     */
-    private static String longestPrefixMatch(String name, Set<String> prefixes) {
-        String longestPrefix = "";
-        for (String prefix : prefixes) {
-            if (name.startsWith(prefix)) {
-                if (prefix.length() > longestPrefix.length()) {
-                    longestPrefix = prefix;
-                }
-            }
-        }
-        return longestPrefix;
+        return Decision.IMPLIED;
     }
 
     /**
@@ -322,7 +340,8 @@ public class FilteredIndexView implements IndexView {
      */
     @Override
     public Collection<AnnotationInstance> getAnnotations(DotName annotationName) {
-        return filterInstances(this.delegate.getAnnotations(annotationName));
+        return filteredAnnotations.computeIfAbsent(annotationName,
+                name -> filterInstances(this.delegate.getAnnotations(name)));
     }
 
     /**
@@ -377,7 +396,7 @@ public class FilteredIndexView implements IndexView {
                     default:
                         return false;
                 }
-            }).collect(Collectors.toList());
+            }).collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList));
         } else {
             return annotations;
         }
@@ -388,4 +407,51 @@ public class FilteredIndexView implements IndexView {
                 .filter(classInfo -> accepts(classInfo.name()))
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Character trie of the configured package prefixes. Finds the longest
+     * configured prefix of a name with a single walk over the name, rather than
+     * testing each of the configured prefixes.
+     */
+    private static class PrefixTrie {
+        private final Map<Character, PrefixTrie> children = new HashMap<>();
+        private boolean terminal;
+
+        private PrefixTrie() {
+        }
+
+        PrefixTrie(Set<String> prefixes) {
+            for (String prefix : prefixes) {
+                PrefixTrie node = this;
+                for (int i = 0; i < prefix.length(); i++) {
+                    node = node.children.computeIfAbsent(prefix.charAt(i), c -> new PrefixTrie());
+                }
+                node.terminal = true;
+            }
+        }
+
+        /**
+         * Find the longest prefix of {@code name} in the trie
+         *
+         * @param name the name
+         * @return the longest prefix of {@code name} in the trie, or the empty string if there are none
+         */
+        String longestPrefixMatch(String name) {
+            PrefixTrie node = this;
+            int longest = 0;
+
+            for (int i = 0; i < name.length(); i++) {
+                node = node.children.get(name.charAt(i));
+
+                if (node == null) {
+                    break;
+                }
+                if (node.terminal) {
+                    longest = i + 1;
+                }
+            }
+
+            return name.substring(0, longest);
+        }
+    }
 }
@@ -18,6 +18,7 @@ import org.eclipse.microprofile.openapi.models.Paths;
 import org.eclipse.microprofile.openapi.models.tags.Tag;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.Type;
 
@@ -34,6 +35,8 @@ import io.smallrye.openapi.runtime.io.schema.SchemaFactory;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScanner;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerFactory;
+import io.smallrye.openapi.runtime.scanner.spi.ScanListener;
+import io.smallrye.openapi.runtime.scanner.spi.ScanListener.Measurement;
 
 /**
  * Scans a deployment (using the archive and jandex annotation index) for OpenAPI annotations.
@@ -49,6 +52,7 @@ public class OpenApiAnnotationScanner {
 
     private final AnnotationScannerContext annotationScannerContext;
     private final AnnotationScannerFactory annotationScannerFactory;
+    private final boolean completeListener;
 
     /**
      * Constructor.
@@ -93,6 +97,26 @@ public class OpenApiAnnotationScanner {
      */
     public OpenApiAnnotationScanner(OpenApiConfig config, ClassLoader loader, IndexView index,
             List<AnnotationScannerExtension> extensions) {
+        this(config, loader, index, extensions, ScanListener.of(config, loader), true);
+    }
+
+    /**
+     * Constructor using a listener shared with later stages, e.g. the initialization
+     * of the {@link io.smallrye.openapi.api.OpenApiDocument OpenApiDocument}. The scan
+     * does not call {@link ScanListener#completed()}, the caller is responsible for that.
+     *
+     * @param config OpenApiConfig instance
+     * @param index IndexView of deployment
+     * @param extensions A set of extensions to scanning
+     * @param listener the listener receiving the measurements of the scan
+     */
+    public OpenApiAnnotationScanner(OpenApiConfig config, ClassLoader loader, IndexView index,
+            List<AnnotationScannerExtension> extensions, ScanListener listener) {
+        this(config, loader, index, extensions, listener, false);
+    }
+
+    private OpenApiAnnotationScanner(OpenApiConfig config, ClassLoader loader, IndexView index,
+            List<AnnotationScannerExtension> extensions, ScanListener listener, boolean completeListener) {
         FilteredIndexView filteredIndexView;
 
         if (index instanceof FilteredIndexView) {
@@ -102,8 +126,9 @@ public class OpenApiAnnotationScanner {
         }
 
         this.annotationScannerContext = new AnnotationScannerContext(filteredIndexView, loader, extensions, config,
-                new OpenAPIImpl());
+                new OpenAPIImpl(), listener);
         this.annotationScannerFactory = new AnnotationScannerFactory(loader);
+        this.completeListener = completeListener;
     }
 
     /**
@@ -114,22 +139,63 @@ public class OpenApiAnnotationScanner {
      * @return OpenAPI generated from scanning annotations
      */
     public OpenAPI scan(String... filter) {
+        // Load all entry points with SPI
+        List<AnnotationScanner> annotationScanners = annotationScannerFactory.getAnnotationScanners()
+                .stream()
+                .filter(scanner -> filter == null || filter.length == 0 || Arrays.asList(filter).contains(scanner.getName()))
+                .collect(Collectors.toList());
+
+        OpenAPI openApi = ScanResultCache.of(annotationScannerContext.getConfig())
+                .map(cache -> cache.get(fingerprint(annotationScanners), () -> scan(annotationScanners)))
+                .orElseGet(() -> scan(annotationScanners));
+
+        if (completeListener) {
+            annotationScannerContext.getScanListener().completed();
+        }
+        return openApi;
+    }
+
+    private String fingerprint(List<AnnotationScanner> annotationScanners) {
+        return ScanResultCache.fingerprint(annotationScannerContext.getIndex(),
+                annotationScannerContext.getConfig(),
+                annotationScanners.stream().map(AnnotationScanner::getName).collect(Collectors.toList()),
+                annotationScannerContext.getExtensions());
+    }
+
+    private OpenAPI scan(List<AnnotationScanner> annotationScanners) {
         // First scan the MicroProfile OpenAPI Annotations. Maybe later we can load this with SPI as well, and allow other Annotation sets.
         OpenAPI openApi = scanMicroProfileOpenApiAnnotations();
 
-        // Now load all entry points with SPI and scan those
-        List<AnnotationScanner> annotationScanners = annotationScannerFactory.getAnnotationScanners();
-
-        for (AnnotationScanner annotationScanner : annotationScanners) {
-            if (filter == null || filter.length == 0 || Arrays.asList(filter).contains(annotationScanner.getName())) {
+        // Now scan the entry points loaded with SPI
+
+        if (annotationScanners.size() > 1 && annotationScannerContext.getConfig().parallelScannersEnable()
+                && !ParallelScanner.declaresSecuritySchemes(annotationScannerContext.getIndex(), this::isPackageInfo)) {
+            // Each scanner runs with its own context, partial model and schema registry, merged in order
+            openApi = ParallelScanner.scan(annotationScannerContext, openApi, annotationScanners,
+                    (partialContext, annotationScanner) -> {
+                        ScannerLogging.logger.scanning(annotationScanner.getName());
+                        CurrentScannerInfo.register(annotationScanner);
+                        Measurement measurement = partialContext.getScanListener().start();
+                        OpenAPI partialModel = annotationScanner.scan(partialContext, partialContext.getOpenApi());
+                        partialContext.getScanListener().phase(
+                                ScanListener.PHASE_SCANNER_PREFIX + annotationScanner.getName(), measurement.stop());
+                        return partialModel;
+                    });
+        } else {
+            for (AnnotationScanner annotationScanner : annotationScanners) {
                 ScannerLogging.logger.scanning(annotationScanner.getName());
                 CurrentScannerInfo.register(annotationScanner);
+                Measurement measurement = annotationScannerContext.getScanListener().start();
                 openApi = annotationScanner.scan(annotationScannerContext, openApi);
+                annotationScannerContext.getScanListener().phase(
+                        ScanListener.PHASE_SCANNER_PREFIX + annotationScanner.getName(), measurement.stop());
             }
         }
 
+        Measurement measurement = annotationScannerContext.getScanListener().start();
         sortTags(annotationScannerContext, openApi);
         sortMaps(openApi);
+        annotationScannerContext.getScanListener().phase(ScanListener.PHASE_SORT, measurement.stop());
 
         return openApi;
     }
@@ -148,9 +214,14 @@ public class OpenApiAnnotationScanner {
 
         // Find all OpenAPIDefinition annotations at the package level
         ScannerLogging.logger.scanning("OpenAPI");
+        ScanListener listener = annotationScannerContext.getScanListener();
+        Measurement measurement = listener.start();
         processPackageOpenAPIDefinitions(annotationScannerContext, openApi);
+        listener.phase(ScanListener.PHASE_PACKAGE_DEFINITIONS, measurement.stop());
 
-        processClassSchemas(annotationScannerContext);
+        measurement = listener.start();
+        openApi = processClassSchemas(annotationScannerContext, openApi);
+        listener.phase(ScanListener.PHASE_CLASS_SCHEMAS, measurement.stop());
 
         return openApi;
     }
@@ -168,7 +239,7 @@ public class OpenApiAnnotationScanner {
                 .getAnnotations(DefinitionConstant.DOTNAME_OPEN_API_DEFINITION)
                 .stream()
                 .filter(this::annotatedClasses)
-                .filter(annotation -> annotation.target().asClass().name().withoutPackagePrefix().equals("package-info"))
+                .filter(annotation -> isPackageInfo(annotation.target().asClass()))
                 .collect(Collectors.toList());
 
         for (AnnotationInstance packageDef : packageDefs) {
@@ -179,6 +250,10 @@ public class OpenApiAnnotationScanner {
         return oai;
     }
 
+    private boolean isPackageInfo(ClassInfo classInfo) {
+        return classInfo.name().withoutPackagePrefix().equals("package-info");
+    }
+
     private CustomSchemaRegistry getCustomSchemaRegistry(final OpenApiConfig config) {
         if (config == null || config.customSchemaRegistryClass() == null) {
             // Provide default implementation that does nothing
@@ -197,15 +272,39 @@ public class OpenApiAnnotationScanner {
         }
     }
 
-    private void processClassSchemas(final AnnotationScannerContext context) {
-        CurrentScannerInfo.register(null);
-
-        context.getIndex()
+    /**
+     * Create the schemas of all classes annotated with <code>@Schema</code>. The classes are
+     * processed in index order, either sequentially or, when enabled, concurrently in contiguous
+     * groups merged in the same order.
+     *
+     * @param context scanning context
+     * @param oai the current OpenAPI result
+     * @return the OpenAPI model including the schemas
+     */
+    private OpenAPI processClassSchemas(final AnnotationScannerContext context, OpenAPI oai) {
+        List<Type> types = context.getIndex()
                 .getAnnotations(SchemaConstant.DOTNAME_SCHEMA)
                 .stream()
                 .filter(this::annotatedClasses)
-                .map(annotation -> Type.create(annotation.target().asClass().name(), Type.Kind.CLASS))
-                .forEach(type -> SchemaFactory.typeToSchema(context, type, null, context.getExtensions()));
+                .map(annotation -> annotation.target().asClass().name())
+                .distinct()
+                .map(name -> Type.create(name, Type.Kind.CLASS))
+                .collect(Collectors.toList());
+
+        if (types.size() > 1 && context.getConfig().parallelSchemasEnable()) {
+            return ParallelScanner.scan(context, oai, ParallelScanner.partition(context.getConfig(), types),
+                    (partialContext, group) -> {
+                        CurrentScannerInfo.register(null);
+                        group.forEach(type -> SchemaFactory.typeToSchema(partialContext, type, null,
+                                partialContext.getExtensions()));
+                        return partialContext.getOpenApi();
+                    });
+        }
+
+        CurrentScannerInfo.register(null);
+        types.forEach(type -> SchemaFactory.typeToSchema(context, type, null, context.getExtensions()));
+
+        return oai;
     }
 
     private boolean annotatedClasses(AnnotationInstance annotation) {
@@ -33,6 +33,8 @@ import io.smallrye.openapi.runtime.scanner.dataobject.AugmentedIndexView;
 import io.smallrye.openapi.runtime.scanner.dataobject.DataObjectDeque;
 import io.smallrye.openapi.runtime.scanner.dataobject.TypeResolver;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
+import io.smallrye.openapi.runtime.scanner.spi.ScanListener.Counter;
+import io.smallrye.openapi.runtime.scanner.spi.ScanListener.Measurement;
 import io.smallrye.openapi.runtime.util.TypeUtil;
 
 /**
@@ -162,11 +164,18 @@ public class OpenApiDataObjectScanner {
      * @return the OAI schema
      */
     public static Schema process(final AnnotationScannerContext context, Type type) {
+        // Graphs of nested types are part of the measurement of the outermost type
+        Measurement measurement = context.getScanStack().isEmpty() ? context.getScanListener().start() : null;
+
         try {
             context.getScanStack().push(type);
             return new OpenApiDataObjectScanner(context, type).process();
         } finally {
             context.getScanStack().pop();
+
+            if (measurement != null) {
+                context.getScanListener().type(type, measurement.stop());
+            }
         }
     }
 
@@ -231,9 +240,12 @@ public class OpenApiDataObjectScanner {
 
             if (SchemaRegistry.hasSchema(currentType, context.getJsonViews(), null)) {
                 // This type has already been scanned and registered, don't do it again!
+                context.getScanListener().count(Counter.SCHEMA_REGISTRY_HITS);
                 continue;
             }
 
+            context.getScanListener().count(Counter.TYPES_VISITED);
+
             ClassInfo currentClass = currentPathEntry.getClazz();
             Schema currentSchema = currentPathEntry.getSchema();
 
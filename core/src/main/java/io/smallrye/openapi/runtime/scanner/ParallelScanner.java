@@ -0,0 +1,315 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.security.OAuthFlow;
+import org.eclipse.microprofile.openapi.models.security.OAuthFlows;
+import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.IndexView;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.models.ComponentsImpl;
+import io.smallrye.openapi.api.models.OpenAPIImpl;
+import io.smallrye.openapi.api.models.security.OAuthFlowImpl;
+import io.smallrye.openapi.api.models.security.OAuthFlowsImpl;
+import io.smallrye.openapi.api.models.security.SecuritySchemeImpl;
+import io.smallrye.openapi.api.util.MergeUtil;
+import io.smallrye.openapi.runtime.io.CurrentScannerInfo;
+import io.smallrye.openapi.runtime.io.securityscheme.SecuritySchemeReader;
+import io.smallrye.openapi.runtime.scanner.processor.JavaSecurityProcessor;
+import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
+
+/**
+ * Runs independent parts of a scan concurrently. Each part is given its own
+ * {@link AnnotationScannerContext}, a partial {@link OpenAPI} model and a
+ * {@link SchemaRegistry} forked from the registry of the calling thread. Once
+ * complete, the parts are merged in the order they were given, resulting in the
+ * same model that would have been created by processing them sequentially.
+ *
+ * <p>
+ * The parts share the security schemes found before the scan, except for the OAuth
+ * flows whose scopes may still be filled from the roles of the scanned classes (see
+ * {@link JavaSecurityProcessor}). Each part fills its own copies of these flows, and
+ * the scopes of the first part to fill them are kept, as in a sequential scan. Security
+ * schemes found by a part are not visible to the other parts, parts that may declare
+ * security schemes (see {@link #declaresSecuritySchemes(IndexView, Predicate)}) must
+ * be processed sequentially.
+ */
+public class ParallelScanner {
+
+    private ParallelScanner() {
+    }
+
+    /**
+     * Process each of the parts concurrently and merge the results into the
+     * given model, the current thread's {@link SchemaRegistry}, and the
+     * operationIds of the given context.
+     *
+     * The action is executed on a different thread than the caller. The
+     * {@link SchemaRegistry} of the part is available to the action using
+     * {@link SchemaRegistry#currentInstance()}. The action is responsible for
+     * calling {@link CurrentScannerInfo#register} when necessary, both the
+     * registry and the {@link CurrentScannerInfo} are cleared once the action
+     * completes.
+     *
+     * @param <T> type of the parts to be processed
+     * @param context the current scanning context
+     * @param openApi the model the results are merged into
+     * @param parts the parts to be processed
+     * @param action the processing of a single part, returning the resulting
+     *        (partial) model
+     * @return the merged model
+     */
+    public static <T> OpenAPI scan(AnnotationScannerContext context,
+            OpenAPI openApi,
+            List<T> parts,
+            BiFunction<AnnotationScannerContext, T, OpenAPI> action) {
+
+        final SchemaRegistry schemaRegistry = SchemaRegistry.currentInstance();
+        final List<PartialScan<T>> partials = new ArrayList<>(parts.size());
+
+        // Fork the registry before starting, the original is modified when merging the results
+        for (T part : parts) {
+            Map<SecurityScheme, SecurityScheme> securitySchemes = new IdentityHashMap<>();
+            AnnotationScannerContext partialContext = new AnnotationScannerContext(context.getIndex(),
+                    context.getClassLoader(), context.getExtensions(), context.getConfig(),
+                    partialModel(openApi, securitySchemes), context.getScanListener());
+            SchemaRegistry partialRegistry = schemaRegistry != null ? schemaRegistry.fork(partialContext) : null;
+            partials.add(new PartialScan<>(part, partialContext, partialRegistry, securitySchemes));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, Math.min(partials.size(), parallelism(context.getConfig()))));
+
+        try {
+            List<ForkJoinTask<OpenAPI>> tasks = partials.stream()
+                    .map(partial -> pool.submit(() -> partial.scan(action)))
+                    .collect(Collectors.toList());
+
+            for (int i = 0; i < tasks.size(); i++) {
+                OpenAPI partialModel = tasks.get(i).join();
+                PartialScan<T> partial = partials.get(i);
+
+                if (schemaRegistry != null) {
+                    schemaRegistry.merge(partial.schemaRegistry);
+                }
+
+                context.mergeOperationIds(partial.context);
+                mergeSecuritySchemes(partialModel, partial.securitySchemes);
+                openApi = MergeUtil.merge(openApi, partialModel);
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        return openApi;
+    }
+
+    /**
+     * Split the items into (at most) as many contiguous groups as the configured
+     * {@link OpenApiConfig#scanParallelism() parallelism}. Processing the groups in
+     * order is equivalent to processing the items in order.
+     *
+     * @param <T> type of the items
+     * @param config the configuration of the scan
+     * @param items the items to split
+     * @return list of contiguous groups of items
+     */
+    public static <T> List<List<T>> partition(OpenApiConfig config, List<T> items) {
+        if (items.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        int count = Math.min(items.size(), parallelism(config));
+        List<List<T>> groups = new ArrayList<>(count);
+        int start = 0;
+
+        for (int i = 0; i < count; i++) {
+            // Distribute the remainder over the first groups
+            int end = start + items.size() / count + (i < items.size() % count ? 1 : 0);
+            groups.add(items.subList(start, end));
+            start = end;
+        }
+
+        return groups;
+    }
+
+    /**
+     * Check whether any class processed by the parts of a scan may declare a security
+     * scheme. Security schemes found while processing a class are visible to the
+     * classes processed after it (see {@link JavaSecurityProcessor}), such parts must
+     * be processed sequentially to give the same result.
+     *
+     * @param index the index of the scan
+     * @param processed classes already processed before the parts, e.g. the
+     *        <code>package-info</code> classes
+     * @return true if a class not yet processed declares a security scheme
+     */
+    public static boolean declaresSecuritySchemes(IndexView index, Predicate<ClassInfo> processed) {
+        return SecuritySchemeReader.getSecuritySchemeClasses(index)
+                .stream()
+                .anyMatch(processed.negate());
+    }
+
+    static int parallelism(OpenApiConfig config) {
+        return Math.max(1, config.scanParallelism());
+    }
+
+    /**
+     * Create the starting model for a partial scan. The components found so far are
+     * copied (shallow) so that references to them may be resolved by the scanner. Security
+     * schemes with OAuth flows that may be modified by the scan are replaced by copies,
+     * recorded in the given map.
+     *
+     * @param openApi the model of the scan
+     * @param securitySchemes map receiving the copied security schemes and their copies
+     * @return the starting model
+     */
+    static OpenAPI partialModel(OpenAPI openApi, Map<SecurityScheme, SecurityScheme> securitySchemes) {
+        OpenAPI partial = new OpenAPIImpl();
+        partial.setOpenapi(openApi.getOpenapi());
+
+        Components components = openApi.getComponents();
+
+        if (components != null) {
+            Components partialComponents = new ComponentsImpl();
+            partialComponents.setCallbacks(components.getCallbacks());
+            partialComponents.setExamples(components.getExamples());
+            partialComponents.setHeaders(components.getHeaders());
+            partialComponents.setLinks(components.getLinks());
+            partialComponents.setParameters(components.getParameters());
+            partialComponents.setRequestBodies(components.getRequestBodies());
+            partialComponents.setResponses(components.getResponses());
+            partialComponents.setSchemas(components.getSchemas());
+            partialComponents.setSecuritySchemes(components.getSecuritySchemes());
+
+            if (components.getSecuritySchemes() != null) {
+                components.getSecuritySchemes().forEach((name, scheme) -> {
+                    SecurityScheme copy = copy(scheme);
+
+                    if (copy != scheme) {
+                        securitySchemes.put(scheme, copy);
+                        partialComponents.addSecurityScheme(name, copy);
+                    }
+                });
+            }
+
+            partial.setComponents(partialComponents);
+        }
+
+        return partial;
+    }
+
+    /**
+     * Copy a security scheme with OAuth flows without scopes, only these are modified by
+     * a scan.
+     *
+     * @param scheme the security scheme
+     * @return the copy, or the security scheme itself when not modified by a scan
+     */
+    static SecurityScheme copy(SecurityScheme scheme) {
+        OAuthFlows flows = scheme.getFlows();
+
+        if (flows == null || !(hasNoScopes(flows.getAuthorizationCode()) || hasNoScopes(flows.getClientCredentials())
+                || hasNoScopes(flows.getImplicit()) || hasNoScopes(flows.getPassword()))) {
+            return scheme;
+        }
+
+        OAuthFlows flowsCopy = MergeUtil.mergeObjects(new OAuthFlowsImpl(), flows);
+        flowsCopy.setAuthorizationCode(copy(flows.getAuthorizationCode()));
+        flowsCopy.setClientCredentials(copy(flows.getClientCredentials()));
+        flowsCopy.setImplicit(copy(flows.getImplicit()));
+        flowsCopy.setPassword(copy(flows.getPassword()));
+
+        SecurityScheme copy = MergeUtil.mergeObjects(new SecuritySchemeImpl(), scheme);
+        copy.setFlows(flowsCopy);
+        return copy;
+    }
+
+    private static boolean hasNoScopes(OAuthFlow flow) {
+        return flow != null && flow.getScopes() == null;
+    }
+
+    private static OAuthFlow copy(OAuthFlow flow) {
+        return hasNoScopes(flow) ? MergeUtil.mergeObjects(new OAuthFlowImpl(), flow) : flow;
+    }
+
+    /**
+     * Fill the scopes of the copied security schemes' OAuth flows that are still without
+     * scopes with the scopes found by the partial scan, and replace the copies in the
+     * partial model by the copied security schemes.
+     *
+     * @param partialModel the model of the partial scan
+     * @param securitySchemes the copied security schemes and their copies
+     */
+    static void mergeSecuritySchemes(OpenAPI partialModel, Map<SecurityScheme, SecurityScheme> securitySchemes) {
+        Components components = partialModel.getComponents();
+
+        if (securitySchemes.isEmpty() || components == null || components.getSecuritySchemes() == null) {
+            return;
+        }
+
+        Map<SecurityScheme, SecurityScheme> originals = new IdentityHashMap<>();
+        securitySchemes.forEach((scheme, copy) -> originals.put(copy, scheme));
+
+        new ArrayList<>(components.getSecuritySchemes().entrySet()).forEach(entry -> {
+            SecurityScheme scheme = originals.get(entry.getValue());
+
+            if (scheme != null) {
+                OAuthFlows flows = scheme.getFlows();
+                OAuthFlows copies = entry.getValue().getFlows();
+                mergeScopes(flows.getAuthorizationCode(), copies.getAuthorizationCode());
+                mergeScopes(flows.getClientCredentials(), copies.getClientCredentials());
+                mergeScopes(flows.getImplicit(), copies.getImplicit());
+                mergeScopes(flows.getPassword(), copies.getPassword());
+                components.addSecurityScheme(entry.getKey(), scheme);
+            }
+        });
+    }
+
+    private static void mergeScopes(OAuthFlow flow, OAuthFlow copy) {
+        if (flow != copy && flow.getScopes() == null && copy.getScopes() != null) {
+            flow.setScopes(copy.getScopes());
+        }
+    }
+
+    /**
+     * State of a single part of a scan executed in parallel.
+     */
+    private static class PartialScan<T> {
+        final T part;
+        final AnnotationScannerContext context;
+        final SchemaRegistry schemaRegistry;
+        final Map<SecurityScheme, SecurityScheme> securitySchemes;
+
+        PartialScan(T part, AnnotationScannerContext context, SchemaRegistry schemaRegistry,
+                Map<SecurityScheme, SecurityScheme> securitySchemes) {
+            this.part = part;
+            this.context = context;
+            this.schemaRegistry = schemaRegistry;
+            this.securitySchemes = securitySchemes;
+        }
+
+        OpenAPI scan(BiFunction<AnnotationScannerContext, T, OpenAPI> action) {
+            SchemaRegistry.setCurrentInstance(schemaRegistry);
+
+            try {
+                return action.apply(context, part);
+            } finally {
+                CurrentScannerInfo.remove();
+                SchemaRegistry.remove();
+            }
+        }
+    }
+}
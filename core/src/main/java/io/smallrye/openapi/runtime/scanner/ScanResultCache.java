@@ -0,0 +1,382 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.Paths;
+import org.eclipse.microprofile.openapi.models.callbacks.Callback;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.models.OperationImpl;
+import io.smallrye.openapi.api.models.parameters.ParameterImpl;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiParser;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+import io.smallrye.openapi.runtime.util.Sha256;
+
+/**
+ * On-disk cache of the model produced by scanning annotations. Entries are keyed
+ * by a fingerprint of the indexed classes (names, signatures and annotations),
+ * the configuration values that affect scanning, the scanners and extensions in
+ * use, the version of this library and the JDK feature version (which selects the
+ * index of JDK classes used to resolve types). When the fingerprint matches a previous
+ * scan, the model stored by that scan is read instead of scanning again.
+ *
+ * The model is stored as gzip-compressed, compact JSON. Classes that are not
+ * part of the index (e.g. those loaded reflectively when a type is missing from
+ * the index) are not part of the fingerprint, the cache should only be enabled
+ * when the index is complete.
+ */
+class ScanResultCache {
+
+    private static final String FILE_PREFIX = "openapi-scan-";
+    private static final String FILE_SUFFIX = ".json.gz";
+    /*
+     * References from operations and parameters to the Java methods and parameters
+     * they were scanned from are not part of the OpenAPI document. They are stored
+     * in an extension of the cached document, listing the references of each
+     * operation in the order the operations are visited.
+     */
+    private static final String SCAN_REFS = "x-smallrye-scan-refs";
+
+    private final Path directory;
+
+    ScanResultCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Create the cache configured by {@link OpenApiConfig#scanCacheDirectory()}, if any.
+     *
+     * @param config current configuration
+     * @return the cache, or empty when caching is not enabled
+     */
+    static Optional<ScanResultCache> of(OpenApiConfig config) {
+        return Optional.ofNullable(config.scanCacheDirectory())
+                .map(FileSystems.getDefault()::getPath)
+                .map(ScanResultCache::new);
+    }
+
+    /**
+     * Retrieve the cached model for the fingerprint or, when not present, scan
+     * and store the result.
+     *
+     * @param fingerprint fingerprint of the scan's inputs
+     * @param scan the scan producing the model
+     * @return the cached or scanned model
+     */
+    OpenAPI get(String fingerprint, Supplier<OpenAPI> scan) {
+        Path file = directory.resolve(FILE_PREFIX + fingerprint + FILE_SUFFIX);
+
+        if (Files.isRegularFile(file)) {
+            try (InputStream stream = new GZIPInputStream(Files.newInputStream(file))) {
+                OpenAPI result = OpenApiParser.parse(stream, Format.JSON);
+                importRefs(result);
+                ScannerLogging.logger.scanCacheHit(file);
+                return result;
+            } catch (IOException | RuntimeException e) {
+                ScannerLogging.logger.scanCacheFailure(file, e);
+            }
+        }
+
+        OpenAPI result = scan.get();
+        store(file, result);
+        return result;
+    }
+
+    private void store(Path file, OpenAPI model) {
+        try {
+            Files.createDirectories(directory);
+            // Write to a temporary file first, concurrent readers never see a partial entry
+            Path temp = Files.createTempFile(directory, FILE_PREFIX, ".tmp");
+
+            try {
+                try (OutputStream stream = new GZIPOutputStream(Files.newOutputStream(temp))) {
+                    model.addExtension(SCAN_REFS, exportRefs(model));
+                    OpenApiSerializer.serialize(model, Format.JSON, false, stream);
+                } finally {
+                    removeRefs(model);
+                }
+                move(temp, file);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+
+            ScannerLogging.logger.scanCacheStored(file);
+        } catch (IOException | RuntimeException e) {
+            ScannerLogging.logger.scanCacheFailure(file, e);
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void forEachOperation(Paths paths, Consumer<Operation> action) {
+        if (paths != null) {
+            forEachOperation(paths.getPathItems(), action);
+        }
+    }
+
+    private static void forEachOperation(Map<String, PathItem> pathItems, Consumer<Operation> action) {
+        if (pathItems == null) {
+            return;
+        }
+
+        for (PathItem pathItem : pathItems.values()) {
+            for (Operation operation : pathItem.getOperations().values()) {
+                action.accept(operation);
+
+                if (operation.getCallbacks() != null) {
+                    for (Callback callback : operation.getCallbacks().values()) {
+                        forEachOperation(callback.getPathItems(), action);
+                    }
+                }
+            }
+        }
+    }
+
+    private static List<Map<String, Object>> exportRefs(OpenAPI model) {
+        List<Map<String, Object>> refs = new ArrayList<>();
+
+        forEachOperation(model.getPaths(), operation -> {
+            Map<String, Object> operationRefs = new LinkedHashMap<>();
+            operationRefs.put("method", OperationImpl.getMethodRef(operation));
+
+            if (operation.getParameters() != null) {
+                operationRefs.put("parameters", operation.getParameters()
+                        .stream()
+                        .map(ParameterImpl::getParamRef)
+                        .collect(Collectors.toList()));
+            }
+
+            refs.add(operationRefs);
+        });
+
+        return refs;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void importRefs(OpenAPI model) {
+        Object refs = model.getExtensions() != null ? model.getExtensions().get(SCAN_REFS) : null;
+        removeRefs(model);
+
+        if (!(refs instanceof List)) {
+            return;
+        }
+
+        Iterator<Map<String, Object>> operationRefs = ((List<Map<String, Object>>) refs).iterator();
+
+        forEachOperation(model.getPaths(), operation -> {
+            if (!operationRefs.hasNext()) {
+                return;
+            }
+
+            Map<String, Object> current = operationRefs.next();
+
+            if (operation instanceof OperationImpl) {
+                ((OperationImpl) operation).setMethodRef((String) current.get("method"));
+            }
+
+            List<String> paramRefs = (List<String>) current.get("parameters");
+
+            if (paramRefs != null && operation.getParameters() != null) {
+                for (int i = 0, m = Math.min(paramRefs.size(), operation.getParameters().size()); i < m; i++) {
+                    Parameter parameter = operation.getParameters().get(i);
+
+                    if (parameter instanceof ParameterImpl) {
+                        ((ParameterImpl) parameter).setParamRef(paramRefs.get(i));
+                    }
+                }
+            }
+        });
+    }
+
+    private static void removeRefs(OpenAPI model) {
+        if (model.getExtensions() != null) {
+            model.removeExtension(SCAN_REFS);
+
+            if (model.getExtensions().isEmpty()) {
+                model.setExtensions(null);
+            }
+        }
+    }
+
+    /**
+     * Compute the fingerprint of a scan. Every configuration option that may change
+     * the result of the scan must be included.
+     *
+     * @param index the (filtered) index to be scanned
+     * @param config current configuration
+     * @param scannerNames names of the annotation scanners used
+     * @param extensions the scanner extensions in use
+     * @return hex-encoded SHA-256 hash of the scan's inputs
+     */
+    static String fingerprint(IndexView index, OpenApiConfig config, List<String> scannerNames,
+            List<AnnotationScannerExtension> extensions) {
+        Fingerprint fingerprint = new Fingerprint();
+
+        fingerprint.add("version", LibraryVersion.VALUE);
+        fingerprint.add("javaSpecificationVersion", System.getProperty("java.specification.version"));
+        fingerprint.add("scanners", scannerNames);
+        fingerprint.add("extensions", extensions.stream().map(e -> e.getClass().getName()).collect(Collectors.toList()));
+
+        fingerprint.add("scanPackages", sorted(config.scanPackages()));
+        fingerprint.add("scanClasses", sorted(config.scanClasses()));
+        fingerprint.add("scanExcludePackages", sorted(config.scanExcludePackages()));
+        fingerprint.add("scanExcludeClasses", sorted(config.scanExcludeClasses()));
+        fingerprint.add("scanBeanValidation", config.scanBeanValidation());
+        fingerprint.add("scanDependenciesDisable", config.scanDependenciesDisable());
+        fingerprint.add("scanDependenciesJars", sorted(config.scanDependenciesJars()));
+        fingerprint.add("arrayReferencesEnable", config.arrayReferencesEnable());
+        fingerprint.add("customSchemaRegistryClass", config.customSchemaRegistryClass());
+        fingerprint.add("applicationPathDisable", config.applicationPathDisable());
+        fingerprint.add("privatePropertiesEnable", config.privatePropertiesEnable());
+        fingerprint.add("propertyNamingStrategy", config.propertyNamingStrategy());
+        fingerprint.add("sortedPropertiesEnable", config.sortedPropertiesEnable());
+        fingerprint.add("schemas", new TreeMap<>(config.getSchemas()));
+        fingerprint.add("openApiVersion", config.getOpenApiVersion());
+        fingerprint.add("operationIdStrategy", config.getOperationIdStrategy());
+        fingerprint.add("duplicateOperationIdBehavior", config.getDuplicateOperationIdBehavior());
+        fingerprint.add("defaultProduces", config.getDefaultProduces().map(Arrays::asList).orElse(null));
+        fingerprint.add("defaultConsumes", config.getDefaultConsumes().map(Arrays::asList).orElse(null));
+        fingerprint.add("allowNakedPathParameter", config.allowNakedPathParameter().orElse(null));
+        fingerprint.add("scanProfiles", sorted(config.getScanProfiles()));
+        fingerprint.add("scanExcludeProfiles", sorted(config.getScanExcludeProfiles()));
+        fingerprint.add("retainScanProfiles", config.retainScanProfiles());
+        fingerprint.add("scanResourceClasses", new TreeMap<>(config.getScanResourceClasses()));
+        fingerprint.add("reflectiveFallbackDisable", config.reflectiveFallbackDisable());
+        // Options not affecting the scan result (parallel scanning, listener, cache directory) are not included
+
+        index.getKnownClasses()
+                .stream()
+                .sorted((c1, c2) -> c1.name().compareTo(c2.name()))
+                .forEach(fingerprint::add);
+
+        return fingerprint.value();
+    }
+
+    private static List<String> sorted(Collection<String> values) {
+        return values.stream().sorted().collect(Collectors.toList());
+    }
+
+    /**
+     * Version of the code of this library, computed once.
+     */
+    static final class LibraryVersion {
+        static final String VALUE = version(ScanResultCache.class);
+
+        private LibraryVersion() {
+        }
+
+        /**
+         * The implementation version from the manifest of the jar containing the given
+         * class. When there is none (e.g. classes run from an IDE or the build output,
+         * shaded jars or jars without that manifest entry), the location of the code and
+         * its last modification time are used instead, so that changed code does not
+         * reuse entries of a previous scan.
+         */
+        static String version(Class<?> type) {
+            Package pkg = type.getPackage();
+            String version = pkg != null ? pkg.getImplementationVersion() : null;
+
+            if (version != null) {
+                return version;
+            }
+
+            CodeSource source = type.getProtectionDomain().getCodeSource();
+
+            if (source == null || source.getLocation() == null) {
+                // Unknown code, a new value for every run never reuses a previous scan
+                return "unknown@" + System.nanoTime();
+            }
+
+            try {
+                Path location = java.nio.file.Paths.get(source.getLocation().toURI());
+                return location + "@" + lastModified(location);
+            } catch (Exception e) {
+                return source.getLocation() + "@" + System.nanoTime();
+            }
+        }
+
+        private static long lastModified(Path location) throws IOException {
+            if (!Files.isDirectory(location)) {
+                return Files.getLastModifiedTime(location).toMillis();
+            }
+            try (Stream<Path> files = Files.walk(location)) {
+                return files.mapToLong(file -> file.toFile().lastModified()).max().orElse(0);
+            }
+        }
+    }
+
+    /**
+     * Incremental SHA-256 hash of the inputs of a scan.
+     */
+    static class Fingerprint {
+        private final Sha256 digest = new Sha256();
+
+        void add(String name, Object value) {
+            add(name + '=' + Objects.toString(value));
+        }
+
+        void add(ClassInfo clazz) {
+            add("class " + clazz.name() + ' ' + clazz.flags() + " extends " + clazz.superClassType()
+                    + " implements " + clazz.interfaceTypes());
+            addSorted(clazz.fields().stream().map(FieldInfo::toString));
+            addSorted(clazz.methods().stream().map(MethodInfo::toString));
+            addSorted(clazz.annotations().stream().map(Fingerprint::toString));
+        }
+
+        private void addSorted(Stream<String> values) {
+            values.sorted().forEach(this::add);
+        }
+
+        private void add(String value) {
+            digest.update(value).update((byte) 0);
+        }
+
+        private static String toString(AnnotationInstance annotation) {
+            return annotation.target() + " " + annotation;
+        }
+
+        String value() {
+            return digest.hex();
+        }
+    }
+}
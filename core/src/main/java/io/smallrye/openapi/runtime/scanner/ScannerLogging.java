@@ -1,10 +1,13 @@
 package io.smallrye.openapi.runtime.scanner;
 
+import java.nio.file.Path;
+
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.Type;
 import org.jboss.logging.BasicLogger;
 import org.jboss.logging.Logger;
+import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.LogMessage;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.MessageLogger;
@@ -37,4 +40,16 @@ interface ScannerLogging extends BasicLogger {
     @Message(id = 4005, value = "Could not find schema class in index: %s")
     void schemaTypeNotFound(DotName className);
 
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 4006, value = "Annotation scan result read from cache: %s")
+    void scanCacheHit(Path file);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 4007, value = "Annotation scan result stored in cache: %s")
+    void scanCacheStored(Path file);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 4008, value = "Annotation scan cache %s could not be used")
+    void scanCacheFailure(Path file, @Cause Throwable cause);
+
 }
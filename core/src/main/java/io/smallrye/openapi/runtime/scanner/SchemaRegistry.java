@@ -2,17 +2,22 @@ package io.smallrye.openapi.runtime.scanner;
 
 import static io.smallrye.openapi.runtime.util.TypeUtil.getSchemaAnnotation;
 
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.Objects;
 import java.util.Set;
 import java.util.function.BiFunction;
 
+import org.eclipse.microprofile.openapi.OASFilter;
 import org.eclipse.microprofile.openapi.models.Components;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.media.Discriminator;
 import org.eclipse.microprofile.openapi.models.media.Schema;
 import org.eclipse.microprofile.openapi.models.media.Schema.SchemaType;
 import org.jboss.jandex.AnnotationInstance;
@@ -21,15 +26,17 @@ import org.jboss.jandex.DotName;
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.ParameterizedType;
 import org.jboss.jandex.Type;
-import org.jboss.jandex.TypeVariable;
 import org.jboss.jandex.WildcardType;
 
 import io.smallrye.openapi.api.OpenApiConfig;
 import io.smallrye.openapi.api.constants.OpenApiConstants;
 import io.smallrye.openapi.api.models.media.SchemaImpl;
+import io.smallrye.openapi.api.util.FilterUtil;
 import io.smallrye.openapi.runtime.io.schema.SchemaConstant;
+import io.smallrye.openapi.runtime.scanner.dataobject.TypeCanonicalizer;
 import io.smallrye.openapi.runtime.scanner.dataobject.TypeResolver;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
+import io.smallrye.openapi.runtime.scanner.spi.ScanListener.Counter;
 import io.smallrye.openapi.runtime.util.JandexUtil;
 import io.smallrye.openapi.runtime.util.ModelUtil;
 import io.smallrye.openapi.runtime.util.TypeUtil;
@@ -77,6 +84,17 @@ public class SchemaRegistry {
         current.remove();
     }
 
+    /**
+     * Set the given registry as the {@link SchemaRegistry} of the current thread,
+     * e.g. a registry previously created with {@link #fork(AnnotationScannerContext)}
+     * that will be used on a different thread than the one that created it.
+     *
+     * @param registry the registry to be used by the current thread
+     */
+    static void setCurrentInstance(SchemaRegistry registry) {
+        current.set(registry);
+    }
+
     /**
      * Check if the entityType is eligible for registration using the
      * typeResolver. The eligible kinds of types are
@@ -166,9 +184,10 @@ public class SchemaRegistry {
             return schema;
         }
 
-        TypeKey key = new TypeKey(resolvedType, views);
+        TypeKey key = registry.key(resolvedType, views);
 
         if (registry.hasRef(key)) {
+            registry.context.getScanListener().count(Counter.SCHEMA_REGISTRY_HITS);
             schema = registry.lookupRef(key);
         } else if (!registry.isTypeRegistrationSupported(resolvedType, schema)
                 || registry.index.getClassByName(resolvedType.name()) == null) {
@@ -259,11 +278,127 @@ public class SchemaRegistry {
             }
 
             Type type = Type.create(DotName.createSimple(className), Type.Kind.CLASS);
-            this.register(new TypeKey(type, Collections.emptySet()), schema, ((SchemaImpl) schema).getName());
+            this.register(key(type, Collections.emptySet()), schema, ((SchemaImpl) schema).getName());
             ScannerLogging.logger.configSchemaRegistered(className);
         });
     }
 
+    /**
+     * Copy constructor used by {@link #fork(AnnotationScannerContext)}.
+     */
+    private SchemaRegistry(AnnotationScannerContext context, SchemaRegistry parent) {
+        this.context = context;
+        this.config = context.getConfig();
+        this.oai = context.getOpenApi();
+        this.index = context.getAugmentedIndex();
+        // Keys are canonical to the context of each registry
+        parent.registry.forEach((key, info) -> this.registry.put(key(key), info));
+        this.names.addAll(parent.names);
+    }
+
+    /**
+     * Create a new registry for a partial scan using the given context. The new
+     * registry starts out with all types registered in this registry and adds
+     * new schemas to the OpenAPI model of the given context. The registry is
+     * NOT set on the current thread.
+     *
+     * The registrations made by the new registry may later be added to this
+     * registry using {@link #merge(SchemaRegistry)}.
+     *
+     * @param partialContext
+     *        scanner context of the partial scan
+     * @return the new registry
+     */
+    public SchemaRegistry fork(AnnotationScannerContext partialContext) {
+        return new SchemaRegistry(partialContext, this);
+    }
+
+    /**
+     * Merge the registrations of a registry previously created with
+     * {@link #fork(AnnotationScannerContext)} into this registry. Types are
+     * processed in the order they were registered in the forked registry, and
+     * the schema names are derived again against the names already known to
+     * this registry. This results in the same names that would have been
+     * assigned had the partial scan used this registry directly. A type already
+     * registered with a schema by an earlier merge keeps that schema, the
+     * partial's schema is only used when this registry only holds a reference
+     * for the type.
+     *
+     * References in the partial model to schemas that have been renamed are
+     * updated, and the schemas are moved from the partial model's components to
+     * the components of this registry's model.
+     *
+     * @param partial
+     *        registry created by {@link #fork(AnnotationScannerContext)}
+     */
+    public void merge(SchemaRegistry partial) {
+        Map<String, String> renames = new LinkedHashMap<>();
+        List<Map.Entry<TypeKey, GeneratedSchemaInfo>> additions = new ArrayList<>();
+        Set<String> mergedNames = new LinkedHashSet<>(this.names);
+
+        for (Map.Entry<TypeKey, GeneratedSchemaInfo> partialEntry : partial.registry.entrySet()) {
+            Map.Entry<TypeKey, GeneratedSchemaInfo> entry = new SimpleEntry<>(key(partialEntry.getKey()),
+                    partialEntry.getValue());
+            GeneratedSchemaInfo existing = registry.get(entry.getKey());
+            GeneratedSchemaInfo info = entry.getValue();
+
+            if (existing == info) {
+                // Inherited when the partial registry was forked
+                continue;
+            }
+
+            String name;
+
+            if (existing != null) {
+                name = existing.name;
+            } else {
+                name = deriveName(entry.getKey(), null, mergedNames);
+                mergedNames.add(name);
+            }
+
+            if (!name.equals(info.name)) {
+                renames.put(info.name, name);
+            }
+
+            additions.add(entry);
+        }
+
+        if (!renames.isEmpty()) {
+            FilterUtil.applyFilter(new SchemaReferenceRenamer(renames), partial.oai);
+        }
+
+        Components partialComponents = partial.oai.getComponents();
+
+        for (Map.Entry<TypeKey, GeneratedSchemaInfo> entry : additions) {
+            TypeKey key = entry.getKey();
+            GeneratedSchemaInfo info = entry.getValue();
+            GeneratedSchemaInfo existing = registry.get(key);
+            String name = renames.getOrDefault(info.name, info.name);
+
+            if (info.schema != null && partialComponents != null) {
+                partialComponents.removeSchema(info.name);
+            }
+
+            if (existing != null) {
+                if (existing.schema == null && info.schema != null) {
+                    // Completion of a reference-only registration in the partial scan. Otherwise the schema
+                    // registered first is kept, a sequential scan would have found it in the registry.
+                    registry.put(key, new GeneratedSchemaInfo(existing.name, info.schema, existing.schemaRef));
+                    ModelUtil.components(oai).addSchema(existing.name, info.schema);
+                }
+            } else {
+                Schema schemaRef = new SchemaImpl();
+                schemaRef.setRef(OpenApiConstants.REF_PREFIX_SCHEMA + name);
+                registry.put(key, new GeneratedSchemaInfo(name, info.schema, schemaRef));
+                names.add(name);
+
+                if (info.schema != null) {
+                    ModelUtil.components(oai).addSchema(name, info.schema);
+                }
+            }
+        }
+    }
+
     /**
      * Register the provided {@link Schema} for the provided {@link Type}. If an
      * existing schema has already been registered for the type, it will be
@@ -278,7 +413,7 @@ public class SchemaRegistry {
      * @return a reference to the newly registered {@link Schema}
      */
     public Schema register(Type entityType, Set<Type> views, Schema schema) {
-        TypeKey key = new TypeKey(entityType, views);
+        TypeKey key = key(entityType, views);
 
         if (hasRef(key)) {
             // This is a replacement registration
@@ -288,6 +423,14 @@ public class SchemaRegistry {
         return register(key, schema, null);
     }
 
+    private TypeKey key(Type type, Set<Type> views) {
+        return new TypeKey(context.getTypeCanonicalizer().keyType(type), views);
+    }
+
+    private TypeKey key(TypeKey other) {
+        return key(other.type, other.views);
+    }
+
     private Schema registerReference(TypeKey key) {
         String name = deriveName(key, null);
         Schema schemaRef = new SchemaImpl();
@@ -324,11 +467,16 @@ public class SchemaRegistry {
         names.add(name);
 
         ModelUtil.components(oai).addSchema(name, schema);
+        context.getScanListener().count(Counter.SCHEMAS_REGISTERED);
 
         return schemaRef;
     }
 
     String deriveName(TypeKey key, String schemaName) {
+        return deriveName(key, schemaName, this.names);
+    }
+
+    private String deriveName(TypeKey key, String schemaName, Set<String> names) {
         /*
          * We cannot use the 'name' on the SchemaImpl because it may be a
          * property name rather then a schema name.
@@ -345,7 +493,7 @@ public class SchemaRegistry {
         String nameBase = schemaName != null ? schemaName : key.defaultName();
         String name = nameBase + key.viewSuffix();
         int idx = 1;
-        while (this.names.contains(name)) {
+        while (names.contains(name)) {
             name = nameBase + idx++;
         }
 
@@ -353,19 +501,19 @@ public class SchemaRegistry {
     }
 
     public Schema lookupRef(Type instanceType, Set<Type> views) {
-        return lookupRef(new TypeKey(instanceType, views));
+        return lookupRef(key(instanceType, views));
     }
 
     public boolean hasRef(Type instanceType, Set<Type> views) {
-        return hasRef(new TypeKey(instanceType, views));
+        return hasRef(key(instanceType, views));
     }
 
     public Schema lookupSchema(Type instanceType, Set<Type> views) {
-        return lookupSchema(new TypeKey(instanceType, views));
+        return lookupSchema(key(instanceType, views));
     }
 
     public boolean hasSchema(Type instanceType, Set<Type> views) {
-        return hasSchema(new TypeKey(instanceType, views));
+        return hasSchema(key(instanceType, views));
     }
 
     public boolean isTypeRegistrationSupported(Type type, Schema schema) {
@@ -411,14 +559,75 @@ public class SchemaRegistry {
         this.names.remove(info.name);
     }
 
+    /**
+     * Filter used to update the references to schemas that have been given a
+     * different name while merging a partial registry. Each schema is visited
+     * only once since the same reference instance may appear in the model
+     * multiple times.
+     */
+    private static final class SchemaReferenceRenamer implements OASFilter {
+        private final Map<String, String> renames;
+        private final Set<Schema> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        SchemaReferenceRenamer(Map<String, String> renames) {
+            this.renames = renames;
+        }
+
+        @Override
+        public Schema filterSchema(Schema schema) {
+            if (!visited.add(schema)) {
+                return schema;
+            }
+
+            String ref = schema.getRef();
+
+            if (ref != null) {
+                schema.setRef(rename(ref));
+            }
+
+            Discriminator discriminator = schema.getDiscriminator();
+
+            if (discriminator != null && discriminator.getMapping() != null) {
+                Map<String, String> mapping = new LinkedHashMap<>();
+
+                discriminator.getMapping().forEach((value, mappedRef) -> {
+                    String renamedRef = mappedRef != null ? rename(mappedRef) : null;
+
+                    if (mappedRef != null && value.equals(ModelUtil.nameFromRef(mappedRef))) {
+                        // Implied mapping key, derived from the schema name
+                        value = ModelUtil.nameFromRef(renamedRef);
+                    }
+
+                    mapping.put(value, renamedRef);
+                });
+
+                discriminator.setMapping(mapping);
+            }
+
+            return schema;
+        }
+
+        String rename(String ref) {
+            if (ref.startsWith(OpenApiConstants.REF_PREFIX_SCHEMA)) {
+                String name = renames.get(ref.substring(OpenApiConstants.REF_PREFIX_SCHEMA.length()));
+
+                if (name != null) {
+                    return OpenApiConstants.REF_PREFIX_SCHEMA + name;
+                }
+            }
+
+            return ref;
+        }
+    }
+
     /************************************************************************/
 
     /**
      * This class is used as the key when storing {@link Schema}s in the
-     * registry. The purpose is to replicate the same behavior as the
-     * {@link Type} classes <code>equals</code> and <code>hashCode</code>
-     * functions, with the exception that the {@link Type}'s annotations are not
-     * considered in these versions of the methods.
+     * registry. The type of the key is the canonical instance obtained from the
+     * scan's {@link TypeCanonicalizer#keyType(Type)}, where structurally equal
+     * types (not considering the annotations of the type itself) share a single
+     * instance. Keys are therefore compared using the identity of the type.
      *
      *
      * @author Michael Edgar {@literal <michael@xlate.io>}
@@ -426,19 +635,14 @@ public class SchemaRegistry {
     public static final class TypeKey {
         private final Type type;
         private final Set<Type> views;
-        private int hashCode = 0;
+        private final int hashCode;
 
         TypeKey(Type type, Set<Type> views) {
             this.type = type;
-            this.views = new LinkedHashSet<>(views);
+            this.views = views.isEmpty() ? Collections.emptySet() : new LinkedHashSet<>(views);
+            this.hashCode = 31 * System.identityHashCode(type) + this.views.hashCode();
         }
 
-        /*
-         * TypeKey(Type type) {
-         * this(type, Collections.emptySet());
-         * }
-         */
-
         public String defaultName() {
             StringBuilder name = new StringBuilder(type.name().local());
 
@@ -504,14 +708,6 @@ public class SchemaRegistry {
             }
         }
 
-        /**
-         * Determine if the two {@link Type}s are equal.
-         *
-         * @see Type#equals
-         * @see ParameterizedType#equals
-         * @see TypeVariable#equals
-         * @see WildcardType#equals
-         */
         @Override
         public boolean equals(Object o) {
             if (this == o) {
@@ -524,90 +720,12 @@ public class SchemaRegistry {
 
             TypeKey other = (TypeKey) o;
 
-            if (type == other.type) {
-                return true;
-            }
-
-            if (type == null || type.getClass() != other.type.getClass()) {
-                return false;
-            }
-
-            if (!type.name().equals(other.type.name())) {
-                return false;
-            }
-
-            if (!views.equals(other.views)) {
-                return false;
-            }
-
-            if (type instanceof ParameterizedType) {
-                ParameterizedType paramType = (ParameterizedType) type;
-                ParameterizedType otherType = (ParameterizedType) other.type;
-                Type typeOwner = paramType.owner();
-                Type otherOwner = otherType.owner();
-
-                return (typeOwner == otherOwner || (typeOwner != null && typeOwner.equals(otherOwner)))
-                        && Objects.equals(paramType.arguments(), otherType.arguments());
-            }
-
-            if (type instanceof TypeVariable) {
-                TypeVariable varType = (TypeVariable) type;
-                TypeVariable otherType = (TypeVariable) other.type;
-
-                String id = varType.identifier();
-                String otherId = otherType.identifier();
-
-                return id.equals(otherId) && Objects.equals(varType.bounds(), otherType.bounds());
-            }
-
-            if (type instanceof WildcardType) {
-                WildcardType wildType = (WildcardType) type;
-                WildcardType otherType = (WildcardType) other.type;
-
-                return Objects.equals(wildType.extendsBound(), otherType.extendsBound()) &&
-                        Objects.equals(wildType.superBound(), otherType.superBound());
-            }
-
-            return true;
+            return type == other.type && views.equals(other.views);
         }
 
-        /**
-         * @see Type#equals
-         * @see ParameterizedType#equals
-         * @see TypeVariable#equals
-         * @see WildcardType#equals
-         */
         @Override
         public int hashCode() {
-            int hash = this.hashCode;
-
-            if (hash != 0) {
-                return hash;
-            }
-
-            hash = type.name().hashCode();
-            hash = 31 * hash + views.hashCode();
-
-            if (type instanceof ParameterizedType) {
-                ParameterizedType paramType = (ParameterizedType) type;
-                Type owner = paramType.owner();
-                hash = 31 * hash + Objects.hashCode(paramType.arguments());
-                hash = 31 * hash + (owner != null ? owner.hashCode() : 0);
-            }
-
-            if (type instanceof TypeVariable) {
-                TypeVariable varType = (TypeVariable) type;
-                hash = 31 * hash + varType.identifier().hashCode();
-                hash = 31 * hash + Objects.hashCode(varType.bounds());
-            }
-
-            if (type instanceof WildcardType) {
-                WildcardType wildType = (WildcardType) type;
-                hash = 31 * hash + Objects.hash(wildType.extendsBound(), wildType.superBound());
-            }
-
-            this.hashCode = hash;
-            return hash;
+            return hashCode;
         }
     }
 }
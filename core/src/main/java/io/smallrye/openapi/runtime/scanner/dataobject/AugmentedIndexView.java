@@ -1,15 +1,21 @@
 package io.smallrye.openapi.runtime.scanner.dataobject;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.CompositeIndex;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.ModuleInfo;
 import org.jboss.jandex.Type;
 
+import io.smallrye.openapi.runtime.util.JdkIndex;
 import io.smallrye.openapi.runtime.util.TypeUtil;
 
 /**
@@ -20,7 +26,11 @@ import io.smallrye.openapi.runtime.util.TypeUtil;
  */
 public class AugmentedIndexView implements IndexView {
 
+    private static final DotName DOTNAME_OBJECT = DotName.createSimple(Object.class.getName());
+
     private final IndexView index;
+    private final IndexView indexWithJdk;
+    private final Map<DotName, SuperTypes> superTypes = new ConcurrentHashMap<>();
 
     public static AugmentedIndexView augment(IndexView index) {
         if (index instanceof AugmentedIndexView) {
@@ -32,6 +42,7 @@ public class AugmentedIndexView implements IndexView {
     private AugmentedIndexView(IndexView index) {
         validateInput(index);
         this.index = index;
+        this.indexWithJdk = CompositeIndex.create(index, JdkIndex.get());
     }
 
     public ClassInfo getClass(Type type) {
@@ -49,6 +60,79 @@ public class AugmentedIndexView implements IndexView {
         return index.getClassByName(DotName.createSimple(klazz.getName()));
     }
 
+    /**
+     * Get a view of the index that also contains the JDK types known to the scanner.
+     *
+     * @return the index combined with the index of JDK types
+     */
+    public IndexView withJdkIndex() {
+        return indexWithJdk;
+    }
+
+    /**
+     * Determine whether a class is a subtype of another using the index and the
+     * index of JDK types known to the scanner. The closure of the super classes and
+     * interfaces of each class is computed once and retained by this view.
+     *
+     * @param className name of the class to test
+     * @param superTypeName name of the possible super class or interface
+     * @return {@code TRUE} if the class is a subtype, {@code FALSE} if it is not, or null
+     *         if the class or one of its super types is not indexed and the index
+     *         cannot tell
+     */
+    public Boolean isSubtype(DotName className, DotName superTypeName) {
+        validateInput(className, superTypeName);
+        SuperTypes closure = getSuperTypes(className);
+
+        if (closure.names.contains(superTypeName)) {
+            return Boolean.TRUE;
+        }
+        return closure.complete ? Boolean.FALSE : null;
+    }
+
+    private SuperTypes getSuperTypes(DotName className) {
+        // Not computeIfAbsent, the closures of the super types are computed (and cached) recursively
+        SuperTypes closure = superTypes.get(className);
+
+        if (closure == null) {
+            closure = computeSuperTypes(className);
+            superTypes.put(className, closure);
+        }
+
+        return closure;
+    }
+
+    private SuperTypes computeSuperTypes(DotName className) {
+        if (DOTNAME_OBJECT.equals(className)) {
+            return SuperTypes.NONE;
+        }
+
+        ClassInfo klazz = indexWithJdk.getClassByName(className);
+
+        if (klazz == null) {
+            return SuperTypes.UNKNOWN;
+        }
+
+        Set<DotName> names = new HashSet<>();
+        boolean complete = true;
+
+        for (DotName interfaceName : klazz.interfaceNames()) {
+            complete &= addSuperType(names, interfaceName);
+        }
+        if (klazz.superName() != null) {
+            complete &= addSuperType(names, klazz.superName());
+        }
+
+        return new SuperTypes(names, complete);
+    }
+
+    private boolean addSuperType(Set<DotName> names, DotName superTypeName) {
+        SuperTypes closure = getSuperTypes(superTypeName);
+        names.add(superTypeName);
+        names.addAll(closure.names);
+        return closure.complete;
+    }
+
     @Override
     public Collection<ClassInfo> getKnownClasses() {
         return index.getKnownClasses();
@@ -137,6 +221,23 @@ public class AugmentedIndexView implements IndexView {
         return index.getSubpackages(packageName);
     }
 
+    /**
+     * The names of all super classes and interfaces of a class, complete
+     * if the entire type hierarchy of the class is indexed.
+     */
+    private static class SuperTypes {
+        static final SuperTypes NONE = new SuperTypes(Collections.emptySet(), true);
+        static final SuperTypes UNKNOWN = new SuperTypes(Collections.emptySet(), false);
+
+        final Set<DotName> names;
+        final boolean complete;
+
+        SuperTypes(Set<DotName> names, boolean complete) {
+            this.names = names;
+            this.complete = complete;
+        }
+    }
+
     private void validateInput(Object... inputs) {
         for (Object input : inputs) {
             if (input == null)
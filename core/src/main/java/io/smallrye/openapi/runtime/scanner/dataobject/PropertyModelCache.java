@@ -0,0 +1,97 @@
+package io.smallrye.openapi.runtime.scanner.dataobject;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Type;
+
+import io.smallrye.openapi.api.constants.JacksonConstants;
+import io.smallrye.openapi.runtime.scanner.spi.ScanListener;
+import io.smallrye.openapi.runtime.util.TypeUtil;
+
+/**
+ * Cache of the properties resolved by {@link TypeResolver#getAllFields} for the
+ * duration of a scan, so that a type referenced from many places (e.g. the base
+ * class of many data objects) is introspected once.
+ *
+ * <p>
+ * Properties are keyed by the type, its class (which may be a stand-in for the
+ * type), the active JSON views and the <code>@JsonIgnoreProperties</code> of the
+ * member referencing the type. The property naming strategy is fixed for a scan
+ * and is not part of the key.
+ * Instances are not thread-safe, each scanner context has its own cache.
+ * </p>
+ */
+public class PropertyModelCache {
+
+    private final Map<Key, Map<String, TypeResolver>> models = new HashMap<>();
+
+    Map<String, TypeResolver> get(Type leaf, ClassInfo leafKlazz, Set<Type> views, AnnotationTarget reference,
+            ScanListener listener, Supplier<Map<String, TypeResolver>> resolver) {
+        Key key = new Key(leaf, leafKlazz.name(), views, reference);
+        Map<String, TypeResolver> properties = models.get(key);
+
+        if (properties != null) {
+            listener.count(ScanListener.Counter.PROPERTY_MODEL_HITS);
+        } else {
+            listener.count(ScanListener.Counter.PROPERTY_MODEL_MISSES);
+            properties = Collections.unmodifiableMap(resolver.get());
+            models.put(key, properties);
+        }
+
+        return properties;
+    }
+
+    private static final class Key {
+        final Type leaf;
+        final DotName leafKlazz;
+        final Set<Type> views;
+        final List<AnnotationValue> ignoreProperties;
+
+        Key(Type leaf, DotName leafKlazz, Set<Type> views, AnnotationTarget reference) {
+            this.leaf = leaf;
+            this.leafKlazz = leafKlazz;
+            this.views = views.isEmpty() ? Collections.emptySet() : new HashSet<>(views);
+            this.ignoreProperties = ignoreProperties(reference);
+        }
+
+        static List<AnnotationValue> ignoreProperties(AnnotationTarget reference) {
+            if (reference == null) {
+                return null;
+            }
+            AnnotationInstance annotation = TypeUtil.getAnnotation(reference, JacksonConstants.JSON_IGNORE_PROPERTIES);
+            return annotation != null ? annotation.values() : null;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(leaf, leafKlazz, views, ignoreProperties);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return leaf.equals(other.leaf)
+                    && leafKlazz.equals(other.leafKlazz)
+                    && views.equals(other.views)
+                    && Objects.equals(ignoreProperties, other.ignoreProperties);
+        }
+    }
+}
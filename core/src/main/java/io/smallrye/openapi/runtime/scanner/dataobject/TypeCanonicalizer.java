@@ -0,0 +1,187 @@
+package io.smallrye.openapi.runtime.scanner.dataobject;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jboss.jandex.ParameterizedType;
+import org.jboss.jandex.Type;
+import org.jboss.jandex.TypeVariable;
+import org.jboss.jandex.WildcardType;
+
+/**
+ * Table of canonical {@link Type} instances for the duration of a scan. Types that
+ * are structurally equal are mapped to a single instance, so that types may be
+ * compared by identity once canonical. Each distinct instance is compared
+ * structurally only the first time it is seen.
+ *
+ * <p>
+ * Instances are not thread-safe, each scanner context has its own table.
+ * </p>
+ */
+public class TypeCanonicalizer {
+
+    private final Map<Type, Type> instances = new IdentityHashMap<>();
+    private final Map<Type, Type> types = new HashMap<>();
+    private final Map<Type, Type> keyTypes = new IdentityHashMap<>();
+    private final Map<KeyStructure, Type> keyStructures = new HashMap<>();
+
+    /**
+     * Get the canonical instance of a type, equal to the type including its
+     * annotations.
+     *
+     * @param type the type
+     * @return the canonical instance, the type itself if it is the first of its kind
+     */
+    public Type canonical(Type type) {
+        if (type == null) {
+            return null;
+        }
+
+        Type canonical = instances.get(type);
+
+        if (canonical == null) {
+            canonical = types.get(type);
+
+            if (canonical == null) {
+                canonical = type;
+                types.put(type, type);
+            }
+
+            instances.put(type, canonical);
+        }
+
+        return canonical;
+    }
+
+    /**
+     * Get the canonical instance of a type for use as (part of) a key, where the
+     * annotations of the type itself are not considered. Annotations of type
+     * arguments, owners and bounds are considered.
+     *
+     * @param type the type
+     * @return the canonical key instance
+     */
+    public Type keyType(Type type) {
+        Type canonical = canonical(type);
+        Type key = keyTypes.get(canonical);
+
+        if (key == null) {
+            KeyStructure structure = new KeyStructure(canonical);
+            key = keyStructures.get(structure);
+
+            if (key == null) {
+                key = canonical;
+                keyStructures.put(structure, canonical);
+            }
+
+            keyTypes.put(canonical, key);
+        }
+
+        return key;
+    }
+
+    /**
+     * Replicates the behavior of the {@link Type} classes <code>equals</code> and
+     * <code>hashCode</code> methods, with the exception that the {@link Type}'s
+     * annotations are not considered.
+     */
+    private static final class KeyStructure {
+        private final Type type;
+        private final int hashCode;
+
+        KeyStructure(Type type) {
+            this.type = type;
+            this.hashCode = hash(type);
+        }
+
+        /**
+         * @see Type#hashCode
+         * @see ParameterizedType#hashCode
+         * @see TypeVariable#hashCode
+         * @see WildcardType#hashCode
+         */
+        private static int hash(Type type) {
+            int hash = type.name().hashCode();
+
+            if (type instanceof ParameterizedType) {
+                ParameterizedType paramType = (ParameterizedType) type;
+                Type owner = paramType.owner();
+                hash = 31 * hash + Objects.hashCode(paramType.arguments());
+                hash = 31 * hash + (owner != null ? owner.hashCode() : 0);
+            }
+
+            if (type instanceof TypeVariable) {
+                TypeVariable varType = (TypeVariable) type;
+                hash = 31 * hash + varType.identifier().hashCode();
+                hash = 31 * hash + Objects.hashCode(varType.bounds());
+            }
+
+            if (type instanceof WildcardType) {
+                WildcardType wildType = (WildcardType) type;
+                hash = 31 * hash + Objects.hash(wildType.extendsBound(), wildType.superBound());
+            }
+
+            return hash;
+        }
+
+        /**
+         * @see Type#equals
+         * @see ParameterizedType#equals
+         * @see TypeVariable#equals
+         * @see WildcardType#equals
+         */
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (o == null || this.getClass() != o.getClass()) {
+                return false;
+            }
+
+            Type other = ((KeyStructure) o).type;
+
+            if (type == other) {
+                return true;
+            }
+
+            if (type.getClass() != other.getClass() || !type.name().equals(other.name())) {
+                return false;
+            }
+
+            if (type instanceof ParameterizedType) {
+                ParameterizedType paramType = (ParameterizedType) type;
+                ParameterizedType otherType = (ParameterizedType) other;
+
+                return Objects.equals(paramType.owner(), otherType.owner())
+                        && Objects.equals(paramType.arguments(), otherType.arguments());
+            }
+
+            if (type instanceof TypeVariable) {
+                TypeVariable varType = (TypeVariable) type;
+                TypeVariable otherType = (TypeVariable) other;
+
+                return varType.identifier().equals(otherType.identifier())
+                        && Objects.equals(varType.bounds(), otherType.bounds());
+            }
+
+            if (type instanceof WildcardType) {
+                WildcardType wildType = (WildcardType) type;
+                WildcardType otherType = (WildcardType) other;
+
+                return Objects.equals(wildType.extendsBound(), otherType.extendsBound())
+                        && Objects.equals(wildType.superBound(), otherType.superBound());
+            }
+
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
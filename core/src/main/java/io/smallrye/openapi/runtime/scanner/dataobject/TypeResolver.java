@@ -11,6 +11,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.Deque;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -27,7 +28,6 @@ import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.AnnotationTarget.Kind;
 import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.ClassInfo;
-import org.jboss.jandex.CompositeIndex;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.FieldInfo;
 import org.jboss.jandex.IndexView;
@@ -63,6 +63,8 @@ public class TypeResolver {
 
     private final UnaryOperator<String> nameTranslator;
     private final Deque<Map<String, Type>> resolutionStack;
+    private final TypeCanonicalizer canonicalizer;
+    private final Map<Type, Type> resolvedTypes = new IdentityHashMap<>();
     private final String propertyName;
     private FieldInfo field;
     private MethodInfo readMethod;
@@ -161,12 +163,13 @@ public class TypeResolver {
         return type;
     }
 
-    private TypeResolver(UnaryOperator<String> nameTranslator, String propertyName, FieldInfo field,
-            Deque<Map<String, Type>> resolutionStack) {
+    private TypeResolver(AnnotationScannerContext context, UnaryOperator<String> nameTranslator, String propertyName,
+            FieldInfo field, Deque<Map<String, Type>> resolutionStack) {
         this.nameTranslator = nameTranslator;
         this.propertyName = propertyName;
         this.field = field;
         this.resolutionStack = resolutionStack;
+        this.canonicalizer = context.getTypeCanonicalizer();
 
         if (field != null) {
             this.leaf = field.type();
@@ -425,7 +428,13 @@ public class TypeResolver {
         if (type == null) {
             resolvedType = null;
         } else if (type.kind() == Type.Kind.PARAMETERIZED_TYPE) {
-            resolvedType = getResolvedType(type.asParameterizedType());
+            // Resolved once per type instance, the canonical result is shared with the rest of the scan
+            resolvedType = resolvedTypes.get(type);
+
+            if (resolvedType == null) {
+                resolvedType = canonicalizer.canonical(getResolvedType(type.asParameterizedType()));
+                resolvedTypes.put(type, resolvedType);
+            }
         } else {
             resolvedType = getResolvedType(type);
         }
@@ -474,11 +483,27 @@ public class TypeResolver {
             }
         }
 
-        return new TypeResolver(getPropertyNameTranslator(context, clazz), null, null, stack);
+        return new TypeResolver(context, getPropertyNameTranslator(context, clazz), null, null, stack);
     }
 
+    /**
+     * Resolve the properties of the given type, including the inherited properties. The result
+     * is cached for the duration of the scan and must not be modified.
+     *
+     * @param context current scanner context
+     * @param leaf the type to resolve
+     * @param leafKlazz the class of the type
+     * @param reference an annotated member (field or method) that referenced the type, may be null
+     * @return the properties of the type by name, in schema order
+     */
     public static Map<String, TypeResolver> getAllFields(AnnotationScannerContext context, Type leaf,
             ClassInfo leafKlazz, AnnotationTarget reference) {
+        return context.getPropertyModelCache().get(leaf, leafKlazz, context.getJsonViews(), reference, context.getScanListener(),
+                () -> resolveAllFields(context, leaf, leafKlazz, reference));
+    }
+
+    private static Map<String, TypeResolver> resolveAllFields(AnnotationScannerContext context, Type leaf,
+            ClassInfo leafKlazz, AnnotationTarget reference) {
         final AugmentedIndexView index = context.getAugmentedIndex();
         Map<ClassInfo, Type> chain = JandexUtil.inheritanceChain(index, leafKlazz, leaf);
         Map<String, TypeResolver> properties = new LinkedHashMap<>();
@@ -722,7 +747,7 @@ public class TypeResolver {
                 resolver.setField(field);
             }
         } else {
-            resolver = new TypeResolver(getPropertyNameTranslator(context, field), propertyName, field,
+            resolver = new TypeResolver(context, getPropertyNameTranslator(context, field), propertyName, field,
                     new ArrayDeque<>(stack));
             properties.put(propertyName, resolver);
         }
@@ -744,7 +769,8 @@ public class TypeResolver {
             Type memberType,
             ClassInfo memberClass) {
 
-        Map<String, TypeResolver> unwrappedProperties = getAllFields(context, memberType, memberClass, member);
+        // Not cached, the unwrapped resolvers are renamed and merged into the properties of the unwrapping type
+        Map<String, TypeResolver> unwrappedProperties = resolveAllFields(context, memberType, memberClass, member);
         AnnotationInstance jsonUnwrapped = TypeUtil.getAnnotation(member, JacksonConstants.JSON_UNWRAPPED);
         String unwrapPrefix = JandexUtil.value(jsonUnwrapped, "prefix");
         String unwrapSuffix = JandexUtil.value(jsonUnwrapped, "suffix");
@@ -841,7 +867,7 @@ public class TypeResolver {
                 return resolver;
             }
         } else {
-            resolver = new TypeResolver(getPropertyNameTranslator(context, method), propertyName, null,
+            resolver = new TypeResolver(context, getPropertyNameTranslator(context, method), propertyName, null,
                     new ArrayDeque<>(stack));
             properties.put(propertyName, resolver);
         }
@@ -1115,7 +1141,7 @@ public class TypeResolver {
     public static Optional<ParameterizedType> resolveParameterizedAncestor(AnnotationScannerContext context,
             Type type,
             Type seekType) {
-        IndexView index = CompositeIndex.create(context.getAugmentedIndex(), TypeUtil.jdkIndex);
+        IndexView index = context.getAugmentedIndex().withJdkIndex();
         Type cursor = type;
         boolean seekContinue = true;
         ClassInfo cursorClass;
@@ -1,14 +1,12 @@
 package io.smallrye.openapi.runtime.scanner.spi;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.microprofile.openapi.models.Extensible;
 
 import io.smallrye.openapi.api.OpenApiConfig;
 import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.api.util.ProfileViews;
 
 /**
  * Abstract base class for annotation scanners
@@ -21,6 +19,20 @@ public abstract class AbstractAnnotationScanner implements AnnotationScanner {
     protected String currentAppPath = EMPTY;
     private String contextRoot = EMPTY;
 
+    protected AbstractAnnotationScanner() {
+    }
+
+    /**
+     * Create a scanner with the same application path and context root as the
+     * given scanner, e.g. to process a part of the application concurrently.
+     *
+     * @param other the scanner to copy the paths from
+     */
+    protected AbstractAnnotationScanner(AbstractAnnotationScanner other) {
+        this.currentAppPath = other.currentAppPath;
+        this.contextRoot = other.contextRoot;
+    }
+
     @Override
     public void setContextRoot(String path) {
         this.contextRoot = path;
@@ -62,41 +74,25 @@ public abstract class AbstractAnnotationScanner implements AnnotationScanner {
      * Checks if the given extensible contains profiles, and if the extensible should be included in the final openapi document.
      * Any extension containing a profile is removed from the extensible.
      * inclusion is then calculated based on all collected profiles.
+     * <p>
+     * When {@link OpenApiConfig#retainScanProfiles()} is enabled, the extensions are kept and every extensible is
+     * included. The per-profile documents are then derived from the scanned model using {@link ProfileViews}.
      *
      * @param config current config
      * @param extensible the extensible to check for profiles
      * @return true, if the given extensible should be included in the final openapi document, otherwise false
      */
     protected static boolean processProfiles(OpenApiConfig config, Extensible<?> extensible) {
-
-        Set<String> profiles = new HashSet<>();
-        Map<String, Object> extensions = extensible.getExtensions();
-        if (extensions != null && !extensions.isEmpty()) {
-            extensions = new HashMap<>(extensions);
-
-            for (String name : extensions.keySet()) {
-                if (!name.startsWith(OpenApiConstants.EXTENSION_PROFILE_PREFIX)) {
-                    continue;
-                }
-
-                String profile = name.substring(OpenApiConstants.EXTENSION_PROFILE_PREFIX.length());
-                profiles.add(profile);
-                extensible.removeExtension(name);
-            }
+        if (config.retainScanProfiles()) {
+            return true;
         }
 
-        return profileIncluded(config, profiles);
-    }
-
-    private static boolean profileIncluded(OpenApiConfig config, Set<String> profiles) {
-        if (!config.getScanExcludeProfiles().isEmpty()) {
-            return config.getScanExcludeProfiles().stream().noneMatch(profiles::contains);
-        }
+        Set<String> profiles = ProfileViews.profiles(extensible);
 
-        if (config.getScanProfiles().isEmpty()) {
-            return true;
+        for (String profile : profiles) {
+            extensible.removeExtension(OpenApiConstants.EXTENSION_PROFILE_PREFIX + profile);
         }
 
-        return config.getScanProfiles().stream().anyMatch(profiles::contains);
+        return ProfileViews.isIncluded(profiles, config.getScanProfiles(), config.getScanExcludeProfiles());
     }
 }
@@ -17,13 +17,16 @@ import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.Type;
 
 import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.OpenApiConfig.DuplicateOperationIdBehavior;
 import io.smallrye.openapi.api.models.OpenAPIImpl;
 import io.smallrye.openapi.runtime.scanner.AnnotationScannerExtension;
 import io.smallrye.openapi.runtime.scanner.FilteredIndexView;
 import io.smallrye.openapi.runtime.scanner.dataobject.AugmentedIndexView;
 import io.smallrye.openapi.runtime.scanner.dataobject.BeanValidationScanner;
 import io.smallrye.openapi.runtime.scanner.dataobject.IgnoreResolver;
+import io.smallrye.openapi.runtime.scanner.dataobject.PropertyModelCache;
 import io.smallrye.openapi.runtime.scanner.dataobject.PropertyNamingStrategyFactory;
+import io.smallrye.openapi.runtime.scanner.dataobject.TypeCanonicalizer;
 import io.smallrye.openapi.runtime.scanner.dataobject.TypeResolver;
 
 /**
@@ -44,6 +47,9 @@ public class AnnotationScannerContext {
     private Deque<TypeResolver> resolverStack = new ArrayDeque<>();
     private final Optional<BeanValidationScanner> beanValidationScanner;
     private final Set<Type> jsonViews = new LinkedHashSet<>();
+    private final ScanListener scanListener;
+    private final PropertyModelCache propertyModelCache = new PropertyModelCache();
+    private final TypeCanonicalizer typeCanonicalizer = new TypeCanonicalizer();
 
     private final Map<String, MethodInfo> operationIdMap = new HashMap<>();
 
@@ -51,6 +57,14 @@ public class AnnotationScannerContext {
             List<AnnotationScannerExtension> extensions,
             OpenApiConfig config,
             OpenAPI openApi) {
+        this(index, classLoader, extensions, config, openApi, ScanListener.of(config, classLoader));
+    }
+
+    public AnnotationScannerContext(FilteredIndexView index, ClassLoader classLoader,
+            List<AnnotationScannerExtension> extensions,
+            OpenApiConfig config,
+            OpenAPI openApi,
+            ScanListener scanListener) {
         this.index = index;
         this.augmentedIndex = AugmentedIndexView.augment(index);
         this.ignoreResolver = new IgnoreResolver(this.augmentedIndex);
@@ -61,6 +75,7 @@ public class AnnotationScannerContext {
         this.propertyNameTranslator = PropertyNamingStrategyFactory.getStrategy(config.propertyNamingStrategy(), classLoader);
         this.beanValidationScanner = config.scanBeanValidation() ? Optional.of(BeanValidationScanner.INSTANCE)
                 : Optional.empty();
+        this.scanListener = scanListener;
     }
 
     public AnnotationScannerContext(IndexView index, ClassLoader classLoader,
@@ -120,7 +135,47 @@ public class AnnotationScannerContext {
         return jsonViews;
     }
 
+    public ScanListener getScanListener() {
+        return scanListener;
+    }
+
+    public PropertyModelCache getPropertyModelCache() {
+        return propertyModelCache;
+    }
+
+    public TypeCanonicalizer getTypeCanonicalizer() {
+        return typeCanonicalizer;
+    }
+
     public Map<String, MethodInfo> getOperationIdMap() {
         return operationIdMap;
     }
+
+    /**
+     * Add the operationIds found using another context (e.g. one used to scan
+     * a partial model in parallel) to this context, reporting any duplicates
+     * according to the configured {@link DuplicateOperationIdBehavior}.
+     *
+     * @param other context holding additional operationIds
+     */
+    public void mergeOperationIds(AnnotationScannerContext other) {
+        other.getOperationIdMap().forEach((operationId, method) -> {
+            final MethodInfo conflictingMethod = operationIdMap.putIfAbsent(operationId, method);
+
+            if (conflictingMethod != null && conflictingMethod != method) {
+                final String className = method.declaringClass().name().toString();
+                final String methodName = method.toString();
+                final String conflictingClassName = conflictingMethod.declaringClass().name().toString();
+                final String conflictingMethodName = conflictingMethod.toString();
+
+                if (config.getDuplicateOperationIdBehavior() == DuplicateOperationIdBehavior.WARN) {
+                    ScannerSPILogging.log.duplicateOperationId(operationId, className, methodName,
+                            conflictingClassName, conflictingMethodName);
+                } else {
+                    throw ScannerSPIMessages.msg.duplicateOperationId(operationId, className, methodName,
+                            conflictingClassName, conflictingMethodName);
+                }
+            }
+        });
+    }
 }
@@ -0,0 +1,158 @@
+package io.smallrye.openapi.runtime.scanner.spi;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.Type;
+
+/**
+ * {@link ScanListener} logging a summary of the measurements once the scan or the
+ * initialization of the document has completed: the total of each phase, the
+ * slowest resource classes and types, and the counts of events.
+ */
+public class LoggingScanListener implements ScanListener {
+
+    static final int SLOWEST = 10;
+    private static final Comparator<Entry> BY_DURATION = Comparator.comparingLong(entry -> entry.durationNanos);
+
+    private final Map<String, Total> phases = new LinkedHashMap<>();
+    private final Slowest resourceClasses = new Slowest();
+    private final Slowest types = new Slowest();
+    private final Map<Counter, LongAdder> counts = new EnumMap<>(Counter.class);
+
+    public LoggingScanListener() {
+        for (Counter counter : Counter.values()) {
+            counts.put(counter, new LongAdder());
+        }
+    }
+
+    @Override
+    public synchronized void phase(String phase, Measurement measurement) {
+        phases.computeIfAbsent(phase, k -> new Total()).add(measurement);
+    }
+
+    @Override
+    public synchronized void resourceClass(String scanner, ClassInfo resourceClass, Measurement measurement) {
+        if (resourceClasses.accept(measurement)) {
+            resourceClasses.add(new Entry(scanner + ' ' + resourceClass.name(), measurement));
+        }
+    }
+
+    @Override
+    public synchronized void type(Type type, Measurement measurement) {
+        if (types.accept(measurement)) {
+            types.add(new Entry(type.toString(), measurement));
+        }
+    }
+
+    @Override
+    public void count(Counter counter) {
+        counts.get(counter).increment();
+    }
+
+    @Override
+    public void completed() {
+        ScannerSPILogging.log.scanSummary(summary());
+    }
+
+    synchronized String summary() {
+        StringBuilder summary = new StringBuilder();
+
+        if (!phases.isEmpty()) {
+            summary.append("\n  Phases:");
+            phases.forEach((phase, total) -> append(summary, phase, total.count, total.durationNanos, total.allocatedBytes));
+        }
+
+        appendSlowest(summary, "resource classes", resourceClasses);
+        appendSlowest(summary, "types", types);
+
+        summary.append("\n  Counts:");
+        counts.forEach((counter, count) -> summary.append(' ')
+                .append(counter.name().toLowerCase().replace('_', '-'))
+                .append('=')
+                .append(count.sum()));
+
+        return summary.toString();
+    }
+
+    private static void appendSlowest(StringBuilder summary, String name, Slowest slowest) {
+        if (slowest.count == 0) {
+            return;
+        }
+
+        summary.append("\n  Slowest ").append(name).append(" (of ").append(slowest.count).append("):");
+        slowest.entries.stream()
+                .sorted(BY_DURATION.reversed())
+                .forEach(entry -> append(summary, entry.name, 1, entry.durationNanos, entry.allocatedBytes));
+    }
+
+    private static void append(StringBuilder summary, String name, int count, long durationNanos, long allocatedBytes) {
+        summary.append("\n    ").append(name).append(": ")
+                .append(String.format("%.3f ms", durationNanos / 1_000_000d));
+
+        if (count > 1) {
+            summary.append(" (").append(count).append(" times)");
+        }
+        if (allocatedBytes >= 0) {
+            summary.append(", ").append(allocatedBytes / 1024).append(" KiB allocated");
+        }
+    }
+
+    private static class Total {
+        int count;
+        long durationNanos;
+        long allocatedBytes;
+
+        void add(Measurement measurement) {
+            count++;
+            durationNanos += measurement.getDurationNanos();
+
+            if (measurement.getAllocatedBytes() < 0 || allocatedBytes < 0) {
+                allocatedBytes = -1;
+            } else {
+                allocatedBytes += measurement.getAllocatedBytes();
+            }
+        }
+    }
+
+    /**
+     * The {@link #SLOWEST} entries of a category and the number of entries reported,
+     * the other entries are not retained.
+     */
+    private static class Slowest {
+        final PriorityQueue<Entry> entries = new PriorityQueue<>(SLOWEST, BY_DURATION);
+        int count;
+
+        /**
+         * Counts the entry of the measurement and tells whether it is one of the slowest.
+         */
+        boolean accept(Measurement measurement) {
+            count++;
+            return entries.size() < SLOWEST || entries.peek().durationNanos < measurement.getDurationNanos();
+        }
+
+        void add(Entry entry) {
+            if (entries.size() == SLOWEST) {
+                entries.poll();
+            }
+            entries.add(entry);
+        }
+    }
+
+    private static class Entry {
+        final String name;
+        final long durationNanos;
+        final long allocatedBytes;
+
+        Entry(String name, Measurement measurement) {
+            this.name = name;
+            this.durationNanos = measurement.getDurationNanos();
+            this.allocatedBytes = measurement.getAllocatedBytes();
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package io.smallrye.openapi.runtime.scanner.spi;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.Type;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+
+/**
+ * Receives the timings and counts of the annotation scan and of the initialization
+ * of the OpenAPI document, e.g. to find where the time creating the document is spent.
+ *
+ * <p>
+ * The listener is configured using the class name of the implementation, given by the
+ * MP Config property <code>mp.openapi.extensions.smallrye.scan.listener</code>. The
+ * implementation must have a public no-argument constructor. A new instance is created
+ * for each scan and each initialization of a document, {@link #completed()} is called
+ * once the scan or initialization is complete. Models built by
+ * {@link io.smallrye.openapi.runtime.OpenApiProcessor#builder() OpenApiProcessor.builder()}
+ * use a single instance for the scan and the initialization, completed once the model is
+ * built. {@link LoggingScanListener} logs a summary of the measurements.
+ * </p>
+ *
+ * <p>
+ * Implementations must be thread-safe, parts of a scan may run concurrently.
+ * </p>
+ */
+public interface ScanListener {
+
+    /**
+     * Listener used when none has been configured, measurements are not taken.
+     */
+    ScanListener NOOP = new ScanListener() {
+        @Override
+        public Measurement start() {
+            return Measurement.NONE;
+        }
+    };
+
+    String PHASE_PACKAGE_DEFINITIONS = "package-definitions";
+    String PHASE_CLASS_SCHEMAS = "class-schemas";
+    String PHASE_SCANNER_PREFIX = "scanner ";
+    String PHASE_SORT = "sort";
+    String PHASE_MERGE = "merge";
+    String PHASE_FILTER_PREFIX = "filter ";
+    String PHASE_FILTERS_FUSED = "filters";
+    String PHASE_CONFIG = "config";
+
+    /**
+     * Counted events.
+     */
+    enum Counter {
+        /**
+         * A schema has been added to the schema registry
+         */
+        SCHEMAS_REGISTERED,
+        /**
+         * A type has been visited by the data object scanner
+         */
+        TYPES_VISITED,
+        /**
+         * A type has been found in the schema registry, its schema is not created again
+         */
+        SCHEMA_REGISTRY_HITS,
+        /**
+         * The properties of a type have been found in the property model cache
+         */
+        PROPERTY_MODEL_HITS,
+        /**
+         * The properties of a type have been resolved and added to the property model cache
+         */
+        PROPERTY_MODEL_MISSES
+    }
+
+    /**
+     * Create the listener configured by the application.
+     *
+     * @param config the configuration
+     * @param loader class loader used to load the listener
+     * @return the configured listener, or {@link #NOOP} if none has been configured
+     */
+    static ScanListener of(OpenApiConfig config, ClassLoader loader) {
+        String className = config != null ? config.scanListener() : null;
+
+        if (className == null) {
+            return NOOP;
+        }
+
+        try {
+            return (ScanListener) Class.forName(className, true, loader).getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException | NoSuchMethodException | SecurityException | InstantiationException
+                | IllegalAccessException | IllegalArgumentException | InvocationTargetException | ClassCastException ex) {
+            throw ScannerSPIMessages.msg.failedCreateScanListener(className, ex);
+        }
+    }
+
+    /**
+     * Start a measurement on the current thread, completed by calling {@link Measurement#stop()}
+     * on the same thread.
+     *
+     * @return the started measurement
+     */
+    default Measurement start() {
+        return new Measurement();
+    }
+
+    /**
+     * A phase of the scan or of the initialization of the document has completed. Phases
+     * of the scan are named using the constants of this interface, scanners are reported
+     * as {@link #PHASE_SCANNER_PREFIX} followed by the name of the scanner and filters as
+     * {@link #PHASE_FILTER_PREFIX} followed by the class name of the filter.
+     *
+     * @param phase name of the phase
+     * @param measurement the measurement of the phase
+     */
+    default void phase(String phase, Measurement measurement) {
+    }
+
+    /**
+     * A resource class (e.g. a JAX-RS resource or a Spring controller) has been scanned.
+     *
+     * @param scanner name of the scanner
+     * @param resourceClass the resource class
+     * @param measurement the measurement of the scan of the class
+     */
+    default void resourceClass(String scanner, ClassInfo resourceClass, Measurement measurement) {
+    }
+
+    /**
+     * The graph of data objects of a type has been scanned, including the types it
+     * refers to that were not scanned previously.
+     *
+     * @param type the type at the root of the graph
+     * @param measurement the measurement of the scan of the graph
+     */
+    default void type(Type type, Measurement measurement) {
+    }
+
+    /**
+     * An event has occurred.
+     *
+     * @param counter the event
+     */
+    default void count(Counter counter) {
+    }
+
+    /**
+     * The scan or the initialization of the document has completed, no more
+     * measurements will be reported.
+     */
+    default void completed() {
+    }
+
+    /**
+     * Duration and, where supported by the JVM, the memory allocated by the current
+     * thread between {@link ScanListener#start()} and {@link #stop()}. Allocations made
+     * by other threads (e.g. when the scan runs in parallel) are not included.
+     */
+    final class Measurement {
+
+        static final Measurement NONE = new Measurement(0, -1);
+
+        private final long startNanos;
+        private final long startAllocatedBytes;
+        private long durationNanos;
+        private long allocatedBytes = -1;
+
+        /**
+         * Holder of the MXBean, initialized by the first measurement actually taken
+         * rather than by {@link #NONE}, so that JMX is not loaded when no listener is
+         * configured.
+         */
+        private static final class Threads {
+            static final com.sun.management.ThreadMXBean BEAN = threads();
+
+            private static com.sun.management.ThreadMXBean threads() {
+                try {
+                    java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+                    if (threads instanceof com.sun.management.ThreadMXBean) {
+                        com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+
+                        if (allocations.isThreadAllocatedMemorySupported() && allocations.isThreadAllocatedMemoryEnabled()) {
+                            return allocations;
+                        }
+                    }
+                } catch (LinkageError | RuntimeException e) {
+                    // Allocations are not measured on this JVM
+                }
+                return null;
+            }
+        }
+
+        private static long allocatedBytes() {
+            com.sun.management.ThreadMXBean threads = Threads.BEAN;
+            return threads != null ? threads.getThreadAllocatedBytes(Thread.currentThread().getId()) : -1;
+        }
+
+        Measurement() {
+            this(System.nanoTime(), allocatedBytes());
+        }
+
+        private Measurement(long startNanos, long startAllocatedBytes) {
+            this.startNanos = startNanos;
+            this.startAllocatedBytes = startAllocatedBytes;
+        }
+
+        /**
+         * Complete the measurement.
+         *
+         * @return this measurement
+         */
+        public Measurement stop() {
+            if (this != NONE) {
+                durationNanos = System.nanoTime() - startNanos;
+
+                if (startAllocatedBytes >= 0) {
+                    allocatedBytes = allocatedBytes() - startAllocatedBytes;
+                }
+            }
+            return this;
+        }
+
+        /**
+         * @return the duration in nanoseconds
+         */
+        public long getDurationNanos() {
+            return durationNanos;
+        }
+
+        /**
+         * @return the number of bytes allocated by the current thread, -1 if not available
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+    }
+}
@@ -25,4 +25,8 @@ interface ScannerSPILogging { // NOSONAR (use of constants in an interface)
     @Message(id = 7903, value = "Duplicate operationId: %s produced by Class: %s, Method: %s and Class: %s, Method: %s")
     void duplicateOperationId(String operationId, String className, String method, String conflictingClassName,
             String conflictingMethod);
+
+    @LogMessage(level = Logger.Level.INFO)
+    @Message(id = 7904, value = "OpenAPI scan measurements:%s")
+    void scanSummary(String summary);
 }
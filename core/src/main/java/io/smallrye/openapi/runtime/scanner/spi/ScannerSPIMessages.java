@@ -1,6 +1,7 @@
 package io.smallrye.openapi.runtime.scanner.spi;
 
 import org.jboss.logging.Messages;
+import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.MessageBundle;
 
@@ -11,4 +12,7 @@ interface ScannerSPIMessages {
     @Message(id = 7950, value = "Duplicate operationId: %s produced by Class: %s, Method: %s and Class: %s, Method: %s")
     IllegalStateException duplicateOperationId(String operationId, String className, String method, String conflictingClassName,
             String conflictingMethod);
+
+    @Message(id = 7951, value = "Failed to create instance of scan listener: %s")
+    RuntimeException failedCreateScanListener(String className, @Cause Throwable throwable);
 }
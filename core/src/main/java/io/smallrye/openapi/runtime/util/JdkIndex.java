@@ -0,0 +1,180 @@
+package io.smallrye.openapi.runtime.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.jandex.Indexer;
+
+/**
+ * Index of the JDK classes known to the scanner, e.g. the collection types. The
+ * index is generated while building this module (see {@link #main(String[])})
+ * and read from the <code>jdk-&lt;feature version&gt;.idx</code> resource the first
+ * time it is used. The classes differ between Java versions, the resource is only
+ * used when the running JVM has the feature version of the JDK used by the build.
+ * Otherwise, or when the resource is not available, e.g. when running from the
+ * classes of an IDE, the classes are indexed using the JDK of the running JVM.
+ */
+public final class JdkIndex {
+
+    static final String RESOURCE = resource(System.getProperty("java.specification.version"));
+
+    static final Class<?>[] CLASSES = {
+            java.lang.Enum.class,
+            java.lang.Object.class,
+
+            // Common, expected classes
+            java.lang.Boolean.class,
+            java.lang.Byte.class,
+            java.lang.Character.class,
+            java.lang.Double.class,
+            java.lang.Float.class,
+            java.lang.Integer.class,
+            java.lang.Long.class,
+            java.lang.Number.class,
+            java.lang.Short.class,
+            java.lang.String.class,
+            java.lang.Void.class,
+            java.util.UUID.class,
+
+            // Collection Interfaces
+            java.util.Collection.class,
+            java.util.Deque.class,
+            java.util.List.class,
+            java.util.Map.class,
+            java.util.NavigableMap.class,
+            java.util.NavigableSet.class,
+            java.util.Queue.class,
+            java.util.Set.class,
+            java.util.SortedMap.class,
+            java.util.SortedSet.class,
+            java.util.concurrent.BlockingDeque.class,
+            java.util.concurrent.BlockingQueue.class,
+            java.util.concurrent.ConcurrentMap.class,
+            java.util.concurrent.ConcurrentNavigableMap.class,
+            java.util.concurrent.TransferQueue.class,
+
+            // Abstract Collections
+            java.util.AbstractCollection.class,
+            java.util.AbstractList.class,
+            java.util.AbstractMap.class,
+            java.util.AbstractQueue.class,
+            java.util.AbstractSequentialList.class,
+            java.util.AbstractSet.class,
+            java.util.EnumSet.class,
+
+            // Collections
+            java.util.ArrayDeque.class,
+            java.util.ArrayList.class,
+            java.util.EnumMap.class,
+            java.util.HashMap.class,
+            java.util.HashSet.class,
+            java.util.Hashtable.class,
+            java.util.IdentityHashMap.class,
+            java.util.LinkedHashMap.class,
+            java.util.LinkedHashSet.class,
+            java.util.LinkedList.class,
+            java.util.PriorityQueue.class,
+            java.util.Properties.class,
+            java.util.Stack.class,
+            java.util.TreeMap.class,
+            java.util.TreeSet.class,
+            java.util.Vector.class,
+            java.util.concurrent.ArrayBlockingQueue.class,
+            java.util.concurrent.ConcurrentHashMap.class,
+            java.util.concurrent.ConcurrentLinkedDeque.class,
+            java.util.concurrent.ConcurrentLinkedQueue.class,
+            java.util.concurrent.ConcurrentSkipListMap.class,
+            java.util.concurrent.ConcurrentSkipListSet.class,
+            java.util.concurrent.CopyOnWriteArrayList.class,
+            java.util.concurrent.CopyOnWriteArraySet.class,
+            java.util.concurrent.DelayQueue.class,
+            java.util.concurrent.LinkedBlockingDeque.class,
+            java.util.concurrent.LinkedBlockingQueue.class,
+            java.util.concurrent.LinkedTransferQueue.class,
+            java.util.concurrent.PriorityBlockingQueue.class,
+            java.util.concurrent.SynchronousQueue.class,
+
+            // Streams
+            java.util.stream.BaseStream.class,
+            java.util.stream.Stream.class,
+            java.util.stream.IntStream.class,
+            java.util.stream.LongStream.class,
+            java.util.stream.DoubleStream.class,
+
+            // CompletionStage and implementation
+            java.util.concurrent.CompletionStage.class,
+            java.util.concurrent.CompletableFuture.class
+    };
+
+    private JdkIndex() {
+    }
+
+    private static final class Holder {
+        static final IndexView INDEX = load();
+    }
+
+    /**
+     * @return the index of the JDK classes known to the scanner
+     */
+    public static IndexView get() {
+        return Holder.INDEX;
+    }
+
+    /**
+     * @param specificationVersion the Java specification version, e.g. <code>1.8</code> or <code>17</code>
+     * @return name of the index resource for the feature version
+     */
+    static String resource(String specificationVersion) {
+        String feature = specificationVersion.startsWith("1.") ? specificationVersion.substring(2) : specificationVersion;
+        return "jdk-" + feature + ".idx";
+    }
+
+    static IndexView load() {
+        try (InputStream stream = JdkIndex.class.getResourceAsStream(RESOURCE)) {
+            if (stream != null) {
+                return new IndexReader(stream).read();
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // Unsupported version of the generated index, index the classes below
+        }
+        return create();
+    }
+
+    static Index create() {
+        Indexer indexer = new Indexer();
+
+        for (Class<?> klazz : CLASSES) {
+            try (InputStream stream = klazz.getResourceAsStream(klazz.getSimpleName() + ".class")) {
+                indexer.index(stream);
+            } catch (IOException ioe) {
+                throw new UncheckedIOException(ioe);
+            }
+        }
+
+        return indexer.complete();
+    }
+
+    /**
+     * Generate the index resource while building this module.
+     *
+     * @param args the output directory of the classes of this module
+     * @throws IOException if the index cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        Path target = Paths.get(args[0], JdkIndex.class.getPackage().getName().replace('.', '/'), RESOURCE);
+        Files.createDirectories(target.getParent());
+
+        try (OutputStream stream = Files.newOutputStream(target)) {
+            new IndexWriter(stream).write(create());
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package io.smallrye.openapi.runtime.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+
+import io.smallrye.openapi.api.models.ComponentsImpl;
+import io.smallrye.openapi.runtime.util.JandexUtil.RefType;
+
+/**
+ * Index of the components of an OpenAPI model by reference. Resolving a
+ * reference through the index parses each distinct reference string once,
+ * later resolutions of the same reference are a single lookup.
+ *
+ * <p>
+ * The index also provides the graph of references between schema components,
+ * computed once per schema when first requested and not updated when a schema
+ * is modified in place.
+ * </p>
+ *
+ * <p>
+ * Resolved references and schema references retained by an index are not
+ * updated once a component has been added, replaced or removed. Use
+ * {@link #of(OpenAPI)} to obtain the current index, the index retained by a
+ * {@link ComponentsImpl} is rebuilt after such a modification.
+ * </p>
+ */
+public class ReferenceIndex {
+
+    private static final Optional<Object> UNRESOLVED = Optional.empty();
+
+    private final int modCount;
+    private final Map<RefType, Map<String, ?>> components = new EnumMap<>(RefType.class);
+    private final Map<String, Optional<Object>> resolved = new ConcurrentHashMap<>();
+    private final Map<String, List<String>> schemaReferences = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the current reference index of the OpenAPI model's components.
+     *
+     * @param openApi the OpenAPI model
+     * @return the reference index
+     */
+    public static ReferenceIndex of(OpenAPI openApi) {
+        return ComponentsImpl.getReferenceIndex(openApi.getComponents());
+    }
+
+    public ReferenceIndex(Components components) {
+        this(components, -1);
+    }
+
+    public ReferenceIndex(Components components, int modCount) {
+        this.modCount = modCount;
+
+        if (components != null) {
+            put(RefType.CALLBACK, components.getCallbacks());
+            put(RefType.EXAMPLE, components.getExamples());
+            put(RefType.HEADER, components.getHeaders());
+            put(RefType.LINK, components.getLinks());
+            put(RefType.PARAMETER, components.getParameters());
+            put(RefType.REQUEST_BODY, components.getRequestBodies());
+            put(RefType.RESPONSE, components.getResponses());
+            put(RefType.SCHEMA, components.getSchemas());
+            put(RefType.SECURITY_SCHEME, components.getSecuritySchemes());
+        }
+    }
+
+    private void put(RefType type, Map<String, ?> values) {
+        if (values != null && !values.isEmpty()) {
+            components.put(type, values);
+        }
+    }
+
+    /**
+     * @return the modification count of the components when the index was created
+     */
+    public int getModCount() {
+        return modCount;
+    }
+
+    /**
+     * Gets the component specified by the given `ref`.
+     *
+     * @param <T> the type of the component
+     * @param ref reference path to retrieve
+     * @return the component referenced by ref if present, otherwise null
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String ref) {
+        if (components.isEmpty()) {
+            return null;
+        }
+        return (T) resolved.computeIfAbsent(ref, this::resolve).orElse(null);
+    }
+
+    private Optional<Object> resolve(String ref) {
+        if (!ref.startsWith("#")) {
+            return UNRESOLVED;
+        }
+
+        int nameStart = ref.lastIndexOf('/');
+
+        if (nameStart < 0) {
+            return UNRESOLVED;
+        }
+
+        int typeStart = ref.lastIndexOf('/', nameStart - 1);
+        RefType type = RefType.fromComponentPath(ref.substring(typeStart + 1, nameStart));
+        Map<String, ?> values = type != null ? components.get(type) : null;
+
+        return values != null ? Optional.ofNullable(values.get(ref.substring(nameStart + 1))) : UNRESOLVED;
+    }
+
+    /**
+     * Returns the references to other schemas held by the direct children of the
+     * schema component with the given name: its additional properties, allOf,
+     * anyOf, oneOf, items, not and property schemas. A schema referenced several
+     * times is present once for each reference.
+     *
+     * <p>
+     * The references are computed on the first request for a schema and retained.
+     * They are a snapshot, later modifications of the schema itself (for example
+     * a property added to it) are not reflected.
+     * </p>
+     *
+     * @param name name of the schema component
+     * @return the references held by the schema, empty if there is no schema with the name
+     */
+    public List<String> getSchemaReferences(String name) {
+        return schemaReferences.computeIfAbsent(name, this::collectSchemaReferences);
+    }
+
+    private List<String> collectSchemaReferences(String name) {
+        Map<String, ?> schemas = components.get(RefType.SCHEMA);
+        Schema schema = schemas != null ? (Schema) schemas.get(name) : null;
+
+        if (schema == null) {
+            return Collections.emptyList();
+        }
+
+        List<String> references = new ArrayList<>();
+        addReference(schema.getAdditionalPropertiesSchema(), references);
+        addReferences(schema.getAllOf(), references);
+        addReferences(schema.getAnyOf(), references);
+        addReferences(schema.getOneOf(), references);
+        addReference(schema.getItems(), references);
+        addReference(schema.getNot(), references);
+
+        if (schema.getProperties() != null) {
+            addReferences(schema.getProperties().values(), references);
+        }
+
+        return Collections.unmodifiableList(references);
+    }
+
+    private static void addReference(Schema schema, List<String> references) {
+        if (schema != null && schema.getRef() != null) {
+            references.add(schema.getRef());
+        }
+    }
+
+    private static void addReferences(Collection<Schema> schemas, List<String> references) {
+        if (schemas != null) {
+            schemas.forEach(schema -> addReference(schema, references));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package io.smallrye.openapi.runtime.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import io.smallrye.openapi.runtime.OpenApiRuntimeException;
+
+/**
+ * Incremental SHA-256 hash, completed by {@link #hex()}. Used for the fingerprints
+ * identifying cached results, e.g. of an annotation scan or of a build plugin's
+ * generated schema.
+ */
+public final class Sha256 {
+
+    private final MessageDigest digest;
+
+    public Sha256() {
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new OpenApiRuntimeException(e);
+        }
+    }
+
+    public Sha256 update(byte value) {
+        digest.update(value);
+        return this;
+    }
+
+    public Sha256 update(byte[] value) {
+        digest.update(value);
+        return this;
+    }
+
+    /**
+     * @param value string added using its UTF-8 encoding
+     * @return this hash
+     */
+    public Sha256 update(String value) {
+        return update(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param file file whose content is added
+     * @return this hash
+     * @throws IOException if the file cannot be read
+     */
+    public Sha256 update(Path file) throws IOException {
+        byte[] buffer = new byte[8192];
+
+        try (InputStream input = Files.newInputStream(file)) {
+            int count;
+            while ((count = input.read(buffer)) > -1) {
+                digest.update(buffer, 0, count);
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Complete the hash, no more values may be added.
+     *
+     * @return the hex-encoded hash
+     */
+    public String hex() {
+        StringBuilder hex = new StringBuilder();
+
+        for (byte b : digest.digest()) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+
+        return hex.toString();
+    }
+}
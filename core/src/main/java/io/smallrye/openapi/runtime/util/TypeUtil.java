@@ -2,9 +2,6 @@ package io.smallrye.openapi.runtime.util;
 
 import static io.smallrye.openapi.api.constants.JDKConstants.DOTNAME_DEPRECATED;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Arrays;
@@ -33,8 +30,6 @@ import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.FieldInfo;
-import org.jboss.jandex.IndexView;
-import org.jboss.jandex.Indexer;
 import org.jboss.jandex.MethodParameterInfo;
 import org.jboss.jandex.PrimitiveType;
 import org.jboss.jandex.Type;
@@ -114,7 +109,6 @@ public class TypeUtil {
             .example("13:45.30.123456789").build();
 
     private static final Map<DotName, TypeWithFormat> TYPE_MAP = new LinkedHashMap<>();
-    public static final IndexView jdkIndex;
     private static final Set<DotName> wrapperTypes = new HashSet<>();
 
     // https://github.com/OAI/OpenAPI-Specification/blob/main/versions/3.0.0.md#dataTypeFormat
@@ -189,107 +183,10 @@ public class TypeUtil {
             TYPE_MAP.put(DotName.createSimple(qualifier + "json.JsonString"), STRING_FORMAT);
         }
 
-        Indexer indexer = new Indexer();
-        index(indexer, java.lang.Enum.class);
-        index(indexer, java.lang.Object.class);
-
-        // Common, expected classes
-        index(indexer, java.lang.Boolean.class);
-        index(indexer, java.lang.Byte.class);
-        index(indexer, java.lang.Character.class);
-        index(indexer, java.lang.Double.class);
-        index(indexer, java.lang.Float.class);
-        index(indexer, java.lang.Integer.class);
-        index(indexer, java.lang.Long.class);
-        index(indexer, java.lang.Number.class);
-        index(indexer, java.lang.Short.class);
-        index(indexer, java.lang.String.class);
-        index(indexer, java.lang.Void.class);
-        index(indexer, java.util.UUID.class);
-
-        // Collection Interfaces
-        index(indexer, java.util.Collection.class);
-        index(indexer, java.util.Deque.class);
-        index(indexer, java.util.List.class);
-        index(indexer, java.util.Map.class);
-        index(indexer, java.util.NavigableMap.class);
-        index(indexer, java.util.NavigableSet.class);
-        index(indexer, java.util.Queue.class);
-        index(indexer, java.util.Set.class);
-        index(indexer, java.util.SortedMap.class);
-        index(indexer, java.util.SortedSet.class);
-        index(indexer, java.util.concurrent.BlockingDeque.class);
-        index(indexer, java.util.concurrent.BlockingQueue.class);
-        index(indexer, java.util.concurrent.ConcurrentMap.class);
-        index(indexer, java.util.concurrent.ConcurrentNavigableMap.class);
-        index(indexer, java.util.concurrent.TransferQueue.class);
-
-        // Abstract Collections
-        index(indexer, java.util.AbstractCollection.class);
-        index(indexer, java.util.AbstractList.class);
-        index(indexer, java.util.AbstractMap.class);
-        index(indexer, java.util.AbstractQueue.class);
-        index(indexer, java.util.AbstractSequentialList.class);
-        index(indexer, java.util.AbstractSet.class);
-        index(indexer, java.util.EnumSet.class);
-
-        // Collections
-        index(indexer, java.util.ArrayDeque.class);
-        index(indexer, java.util.ArrayList.class);
-        index(indexer, java.util.EnumMap.class);
-        index(indexer, java.util.HashMap.class);
-        index(indexer, java.util.HashSet.class);
-        index(indexer, java.util.Hashtable.class);
-        index(indexer, java.util.IdentityHashMap.class);
-        index(indexer, java.util.LinkedHashMap.class);
-        index(indexer, java.util.LinkedHashSet.class);
-        index(indexer, java.util.LinkedList.class);
-        index(indexer, java.util.PriorityQueue.class);
-        index(indexer, java.util.Properties.class);
-        index(indexer, java.util.Stack.class);
-        index(indexer, java.util.TreeMap.class);
-        index(indexer, java.util.TreeSet.class);
-        index(indexer, java.util.Vector.class);
-        index(indexer, java.util.concurrent.ArrayBlockingQueue.class);
-        index(indexer, java.util.concurrent.ConcurrentHashMap.class);
-        index(indexer, java.util.concurrent.ConcurrentLinkedDeque.class);
-        index(indexer, java.util.concurrent.ConcurrentLinkedQueue.class);
-        index(indexer, java.util.concurrent.ConcurrentSkipListMap.class);
-        index(indexer, java.util.concurrent.ConcurrentSkipListSet.class);
-        index(indexer, java.util.concurrent.CopyOnWriteArrayList.class);
-        index(indexer, java.util.concurrent.CopyOnWriteArraySet.class);
-        index(indexer, java.util.concurrent.DelayQueue.class);
-        index(indexer, java.util.concurrent.LinkedBlockingDeque.class);
-        index(indexer, java.util.concurrent.LinkedBlockingQueue.class);
-        index(indexer, java.util.concurrent.LinkedTransferQueue.class);
-        index(indexer, java.util.concurrent.PriorityBlockingQueue.class);
-        index(indexer, java.util.concurrent.SynchronousQueue.class);
-
-        // Streams
-        index(indexer, java.util.stream.BaseStream.class);
-        index(indexer, java.util.stream.Stream.class);
-        index(indexer, java.util.stream.IntStream.class);
-        index(indexer, java.util.stream.LongStream.class);
-        index(indexer, java.util.stream.DoubleStream.class);
-
-        // CompletionStage and implementation
-        index(indexer, java.util.concurrent.CompletionStage.class);
-        index(indexer, java.util.concurrent.CompletableFuture.class);
-
-        jdkIndex = indexer.complete();
-
         wrapperTypes.addAll(JaxbConstants.JAXB_ELEMENT);
         wrapperTypes.add(MutinyConstants.UNI_TYPE.name());
     }
 
-    private static void index(Indexer indexer, Class<?> klazz) {
-        try (InputStream stream = klazz.getResourceAsStream(klazz.getSimpleName() + ".class")) {
-            indexer.index(stream);
-        } catch (IOException ioe) {
-            throw new UncheckedIOException(ioe);
-        }
-    }
-
     private TypeUtil() {
     }
 
@@ -335,7 +232,7 @@ public class TypeUtil {
     }
 
     public static boolean knownJavaType(DotName name) {
-        return jdkIndex.getClassByName(name) != null;
+        return JdkIndex.get().getClassByName(name) != null;
     }
 
     /**
@@ -424,24 +321,15 @@ public class TypeUtil {
         }
     }
 
-    static ClassInfo getClassInfo(IndexView appIndex, Type type) {
-        return getClassInfo(appIndex, getName(type));
-    }
-
-    static ClassInfo getClassInfo(IndexView appIndex, DotName className) {
-        ClassInfo clazz = appIndex.getClassByName(className);
-        if (clazz == null) {
-            clazz = jdkIndex.getClassByName(className);
-        }
-        return clazz;
-    }
-
     /**
      * Test whether testSubject is an "instanceof" type testObject.
      * <p>
      * For example, test whether List is a Collection.
      * <p>
-     * Attempts to work with both Jandex and using standard class.
+     * Attempts to work with both Jandex and using standard class. The classes are
+     * only loaded when the type hierarchy of testSubject is not entirely indexed,
+     * and never when the reflective fallback is disabled using
+     * <code>mp.openapi.extensions.smallrye.scan.reflective-fallback.disable</code>.
      *
      * @param context scanning context
      * @param testSubject type to test
@@ -449,9 +337,6 @@ public class TypeUtil {
      * @return true if is of type
      */
     public static boolean isA(final AnnotationScannerContext context, Type testSubject, Type testObject) {
-        IndexView index = context.getIndex();
-        ClassLoader cl = context.getClassLoader();
-
         // The types may be the same -- short circuit looking in the index
         if (getName(testSubject).equals(getName(testObject))) {
             return true;
@@ -461,41 +346,16 @@ public class TypeUtil {
         }
 
         // First, look in Jandex, as target might not be in our classloader
-        ClassInfo subJandexKlazz = getClassInfo(index, testSubject);
+        Boolean subtype = context.getAugmentedIndex().isSubtype(getName(testSubject), getName(testObject));
 
-        if (subJandexKlazz != null && superTypes(index, subJandexKlazz).contains(getName(testObject))) {
-            return true;
+        if (subtype != null) {
+            return subtype;
         }
-
-        return isAssignableFrom(testSubject.name(), testObject.name(), cl);
-    }
-
-    private static Set<DotName> superTypes(IndexView index, ClassInfo testSubject) {
-        Set<DotName> superTypes = new HashSet<>();
-
-        testSubject.interfaceNames().forEach(iface -> {
-            superTypes.add(iface);
-
-            ClassInfo superIFace = getClassInfo(index, iface);
-
-            if (superIFace != null) {
-                superTypes.addAll(superTypes(index, superIFace));
-            }
-        });
-
-        Type superType = testSubject.superClassType();
-
-        if (superType != null) {
-            superTypes.add(getName(superType));
-
-            ClassInfo superKlazz = getClassInfo(index, superType);
-
-            if (superKlazz != null) {
-                superTypes.addAll(superTypes(index, superKlazz));
-            }
+        if (context.getConfig().reflectiveFallbackDisable()) {
+            return false;
         }
 
-        return superTypes;
+        return isAssignableFrom(testSubject.name(), testObject.name(), context.getClassLoader());
     }
 
     public static boolean isTerminalType(Type type) {
@@ -0,0 +1,108 @@
+package io.smallrye.openapi.api;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.api.SerializedDocument.Encoding;
+import io.smallrye.openapi.api.models.OpenAPIImpl;
+import io.smallrye.openapi.api.models.info.InfoImpl;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+
+class OpenApiDocumentTest {
+
+    static OpenAPI model(String title) {
+        return new OpenAPIImpl().openapi("3.0.3").info(new InfoImpl().title(title).version("1.0"));
+    }
+
+    @Test
+    void testSerializedFormsCached() throws IOException {
+        OpenApiDocument document = OpenApiDocument.newInstance();
+        OpenAPI model = model("Cached");
+        document.set(model);
+
+        SerializedDocument json = document.serialized(Format.JSON, true, Encoding.IDENTITY);
+        assertSame(json, document.serialized(Format.JSON, true, Encoding.IDENTITY));
+        assertEquals(OpenApiSerializer.serialize(model, Format.JSON),
+                new String(json.toByteArray(), StandardCharsets.UTF_8));
+        assertEquals("application/json", json.getMediaType());
+        assertNull(json.getContentEncoding());
+
+        SerializedDocument compact = document.serialized(Format.JSON, false, Encoding.IDENTITY);
+        assertTrue(compact.getLength() < json.getLength());
+        assertNotEquals(json.getETag(), compact.getETag());
+
+        SerializedDocument yaml = document.serialized(Format.YAML, false, Encoding.IDENTITY);
+        assertSame(yaml, document.serialized(Format.YAML, true, Encoding.IDENTITY));
+        assertEquals("application/yaml", yaml.getMediaType());
+    }
+
+    @Test
+    void testSerializedFormGzip() throws IOException {
+        OpenApiDocument document = OpenApiDocument.newInstance();
+        document.set(model("Compressed"));
+
+        SerializedDocument identity = document.serialized(Format.YAML, false, Encoding.IDENTITY);
+        SerializedDocument gzip = document.serialized(Format.YAML, false, Encoding.GZIP);
+        assertSame(gzip, document.serialized(Format.YAML, false, Encoding.GZIP));
+        assertEquals("gzip", gzip.getContentEncoding());
+        assertNotEquals(identity.getETag(), gzip.getETag());
+
+        try (InputStream stream = new GZIPInputStream(new ByteArrayInputStream(gzip.toByteArray()))) {
+            assertArrayEquals(identity.toByteArray(), IOUtils.toByteArray(stream));
+        }
+    }
+
+    @Test
+    void testSerializedFormsDiscardedWithModel() {
+        OpenApiDocument document = OpenApiDocument.newInstance();
+        document.set(model("First"));
+        SerializedDocument first = document.serialized(Format.JSON, false, Encoding.IDENTITY);
+
+        document.set(model("First"));
+        SerializedDocument same = document.serialized(Format.JSON, false, Encoding.IDENTITY);
+        assertNotSame(first, same);
+        assertEquals(first.getETag(), same.getETag());
+
+        document.set(model("Second"));
+        assertNotEquals(first.getETag(), document.serialized(Format.JSON, false, Encoding.IDENTITY).getETag());
+
+        document.reset();
+        assertThrows(IllegalStateException.class, () -> document.serialized(Format.JSON, false, Encoding.IDENTITY));
+    }
+
+    @Test
+    void testSerializedContentReadOnly() {
+        OpenApiDocument document = OpenApiDocument.newInstance();
+        document.set(model("ReadOnly"));
+        SerializedDocument json = document.serialized(Format.JSON, false, Encoding.IDENTITY);
+
+        ByteBuffer content = json.getContent();
+        assertTrue(content.isReadOnly());
+        assertEquals(json.getLength(), content.remaining());
+        assertThrows(ReadOnlyBufferException.class, () -> content.put(0, (byte) 0));
+
+        byte[] copy = json.toByteArray();
+        copy[0] = 0;
+        assertNotEquals(0, json.getContent().get(0));
+        assertTrue(json.getETag().startsWith("\"") && json.getETag().endsWith("\""));
+    }
+}
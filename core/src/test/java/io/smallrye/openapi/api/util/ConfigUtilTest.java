@@ -0,0 +1,88 @@
+package io.smallrye.openapi.api.util;
+
+import static org.eclipse.microprofile.openapi.OASFactory.createInfo;
+import static org.eclipse.microprofile.openapi.OASFactory.createOpenAPI;
+import static org.eclipse.microprofile.openapi.OASFactory.createOperation;
+import static org.eclipse.microprofile.openapi.OASFactory.createPathItem;
+import static org.eclipse.microprofile.openapi.OASFactory.createPaths;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.openapi.OASConfig;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.servers.Server;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.runtime.scanner.IndexScannerTestBase;
+
+class ConfigUtilTest {
+
+    static List<String> urls(List<Server> servers) {
+        return servers != null ? servers.stream().map(Server::getUrl).collect(Collectors.toList()) : null;
+    }
+
+    @Test
+    void testPathAndOperationServers() {
+        OpenAPI openAPI = createOpenAPI()
+                .info(createInfo())
+                .paths(createPaths()
+                        .addPathItem("/data", createPathItem()
+                                .GET(createOperation().operationId("getData"))
+                                .POST(createOperation().operationId("postData"))
+                                .DELETE(createOperation()))
+                        .addPathItem("/other", createPathItem()
+                                .PATCH(createOperation().operationId("patchOther"))));
+
+        Map<String, String> properties = new HashMap<>();
+        properties.put(OASConfig.SERVERS_PATH_PREFIX + "/data", "https://data1.example.com,https://data2.example.com");
+        properties.put(OASConfig.SERVERS_PATH_PREFIX + "/missing", "https://missing.example.com");
+        properties.put(OASConfig.SERVERS_OPERATION_PREFIX + "postData", "https://post.example.com");
+        properties.put(OASConfig.SERVERS_OPERATION_PREFIX + "patchOther", "https://patch.example.com");
+
+        ConfigUtil.applyConfig(IndexScannerTestBase.dynamicConfig(properties), openAPI);
+
+        assertEquals(Arrays.asList("https://data1.example.com", "https://data2.example.com"),
+                urls(openAPI.getPaths().getPathItem("/data").getServers()));
+        assertNull(openAPI.getPaths().getPathItem("/other").getServers());
+        assertNull(openAPI.getPaths().getPathItem("/data").getGET().getServers());
+        assertEquals(Arrays.asList("https://post.example.com"),
+                urls(openAPI.getPaths().getPathItem("/data").getPOST().getServers()));
+        assertNull(openAPI.getPaths().getPathItem("/data").getDELETE().getServers());
+        assertEquals(Arrays.asList("https://patch.example.com"),
+                urls(openAPI.getPaths().getPathItem("/other").getPATCH().getServers()));
+        assertNull(openAPI.getServers());
+    }
+
+    @Test
+    void testEmptyServersIgnored() {
+        OpenAPI openAPI = createOpenAPI()
+                .info(createInfo())
+                .paths(createPaths()
+                        .addPathItem("/data", createPathItem()
+                                .GET(createOperation().operationId("getData")))
+                        .addPathItem("/other", createPathItem()
+                                .GET(createOperation().operationId("getOther"))));
+
+        // Properties without a value, e.g. clearing the value of another profile
+        Map<String, String> properties = new HashMap<>();
+        properties.put(OASConfig.SERVERS_PATH_PREFIX + "/data", "");
+        properties.put(OASConfig.SERVERS_PATH_PREFIX + "/other", "https://other.example.com");
+        properties.put(OASConfig.SERVERS_OPERATION_PREFIX + "getData", "");
+        properties.put(OASConfig.SERVERS_OPERATION_PREFIX + "getOther", "https://get.example.com");
+
+        ConfigUtil.applyConfig(IndexScannerTestBase.dynamicConfig(properties), openAPI);
+
+        assertNull(openAPI.getPaths().getPathItem("/data").getServers());
+        assertNull(openAPI.getPaths().getPathItem("/data").getGET().getServers());
+        assertEquals(Arrays.asList("https://other.example.com"),
+                urls(openAPI.getPaths().getPathItem("/other").getServers()));
+        assertEquals(Arrays.asList("https://get.example.com"),
+                urls(openAPI.getPaths().getPathItem("/other").getGET().getServers()));
+    }
+}
@@ -1,9 +1,11 @@
 package io.smallrye.openapi.api.util;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.io.IOException;
 import java.net.URL;
+import java.util.Arrays;
 
 import org.apache.commons.io.IOUtils;
 import org.eclipse.microprofile.config.Config;
@@ -100,6 +102,42 @@ class FilterUtilTest {
         assertJsonEquals(expected, actual);
     }
 
+    /**
+     * Test method for
+     * {@link FilterUtil#applyFilters(java.util.List, org.eclipse.microprofile.openapi.models.OpenAPI)}.
+     *
+     * @throws Exception
+     */
+    @Test
+    void testApplyFiltersFused() throws Exception {
+        URL beforeUrl = FilterUtilTest.class.getResource("filter-before.json");
+        URL afterUrl = FilterUtilTest.class.getResource("filter-after.json");
+
+        OpenAPI model = OpenApiParser.parse(beforeUrl);
+        OASFilter f1 = filter();
+        OASFilter f2 = new OASFilter() {
+            @Override
+            public PathItem filterPathItem(PathItem pathItem) {
+                // Path items removed by the first filter are not passed to the second
+                assertNull(pathItem.getRef());
+                return pathItem;
+            }
+
+            @Override
+            public void filterOpenAPI(OpenAPI openAPI) {
+                openAPI.addServer(OASFactory.createServer().url("urn:server3"));
+                openAPI.addServer(OASFactory.createServer().url("urn:server4"));
+            }
+        };
+
+        model = FilterUtil.applyFilters(Arrays.asList(f1, f2), model);
+
+        String actual = OpenApiSerializer.serialize(model, Format.JSON);
+        String expected = loadResource(afterUrl);
+
+        assertJsonEquals(expected, actual);
+    }
+
     @Test
     void testCyclicReferencesSafe() {
         Schema schema1 = OASFactory.createSchema();
@@ -0,0 +1,97 @@
+package io.smallrye.openapi.api.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.api.models.ComponentsImpl;
+import io.smallrye.openapi.api.models.OpenAPIImpl;
+import io.smallrye.openapi.api.models.OperationImpl;
+import io.smallrye.openapi.api.models.PathItemImpl;
+import io.smallrye.openapi.api.models.PathsImpl;
+import io.smallrye.openapi.api.models.media.SchemaImpl;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+
+class ProfileViewsTest {
+
+    static Set<String> set(String... values) {
+        return new HashSet<>(Arrays.asList(values));
+    }
+
+    static Operation operation(String id, String... profiles) {
+        Operation operation = new OperationImpl().operationId(id);
+        for (String profile : profiles) {
+            operation.addExtension("x-smallrye-profile-" + profile, "");
+        }
+        return operation;
+    }
+
+    static OpenAPI model() {
+        return new OpenAPIImpl()
+                .openapi("3.0.3")
+                .paths(new PathsImpl()
+                        .addPathItem("/public", new PathItemImpl()
+                                .GET(operation("read"))
+                                .POST(operation("create", "internal")))
+                        .addPathItem("/internal", new PathItemImpl()
+                                .GET(operation("audit", "internal", "partner"))
+                                .DELETE(operation("purge", "internal"))))
+                .components(new ComponentsImpl()
+                        .addSchema("Public", new SchemaImpl())
+                        .addSchema("Audit", new SchemaImpl().addExtension("x-smallrye-profile-internal", "")));
+    }
+
+    @Test
+    void testViewsDerivedFromTaggedModel() throws IOException {
+        OpenAPI model = model();
+        String tagged = OpenApiSerializer.serialize(model, Format.JSON);
+        ProfileViews views = new ProfileViews(model);
+
+        assertEquals(set("internal", "partner"), views.getProfiles());
+
+        OpenAPI external = views.view(set(), set("internal"));
+        assertEquals(set("/public"), external.getPaths().getPathItems().keySet());
+        PathItem publicItem = external.getPaths().getPathItems().get("/public");
+        assertSame(model.getPaths().getPathItems().get("/public").getGET(), publicItem.getGET());
+        assertNull(publicItem.getPOST());
+        assertEquals(set("Public"), external.getComponents().getSchemas().keySet());
+
+        OpenAPI partner = views.view(set("partner"), set());
+        assertEquals(set("/internal"), partner.getPaths().getPathItems().keySet());
+        Operation audit = partner.getPaths().getPathItems().get("/internal").getGET();
+        assertEquals("audit", audit.getOperationId());
+        assertNull(audit.getExtensions());
+        assertNull(partner.getPaths().getPathItems().get("/internal").getDELETE());
+        assertEquals(set("Public"), partner.getComponents().getSchemas().keySet());
+
+        OpenAPI all = views.view(set(), set());
+        assertEquals(4, all.getPaths().getPathItems().values().stream().mapToInt(p -> p.getOperations().size()).sum());
+        assertEquals(set("Public", "Audit"), all.getComponents().getSchemas().keySet());
+        assertNull(all.getComponents().getSchemas().get("Audit").getExtensions());
+
+        // The tagged model is not modified by deriving views
+        assertEquals(tagged, OpenApiSerializer.serialize(model, Format.JSON));
+    }
+
+    @Test
+    void testViewsCachedPerProfileSet() {
+        ProfileViews views = new ProfileViews(model());
+        OpenAPI external = views.view(set(), set("internal"));
+
+        assertSame(external, views.view(set(), set("internal")));
+        assertSame(views.view(set("internal", "partner"), set()), views.view(set("partner", "internal"), set()));
+        assertNotSame(external, views.view(set("internal"), set()));
+    }
+}
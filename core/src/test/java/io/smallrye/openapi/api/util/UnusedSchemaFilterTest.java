@@ -12,6 +12,9 @@ import static org.eclipse.microprofile.openapi.OASFactory.createPaths;
 import static org.eclipse.microprofile.openapi.OASFactory.createSchema;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.eclipse.microprofile.openapi.models.media.Schema.SchemaType;
 import org.junit.jupiter.api.BeforeEach;
@@ -91,4 +94,74 @@ class UnusedSchemaFilterTest {
         assertEquals("Data", openAPI.getComponents().getSchemas().keySet().iterator().next());
     }
 
+    @Test
+    void testUnusedSchemaChainRemoved() {
+        openAPI.getComponents()
+                .addSchema("Data", createSchema()
+                        .type(SchemaType.OBJECT)
+                        .addProperty("shared", createSchema()
+                                .ref("#/components/schemas/SharedSchema")))
+                .addSchema("RemovedSchema", createSchema()
+                        .type(SchemaType.ARRAY)
+                        .description("Schema to be removed, pass 1")
+                        .items(createSchema()
+                                .ref("#/components/schemas/RemovedItemSchema")))
+                .addSchema("RemovedItemSchema", createSchema()
+                        .type(SchemaType.OBJECT)
+                        .description("Schema to be removed, pass 2")
+                        .addAllOf(createSchema()
+                                .ref("#/components/schemas/RemovedAllOfSchema"))
+                        .addProperty("shared", createSchema()
+                                .ref("#/components/schemas/SharedSchema")))
+                .addSchema("RemovedAllOfSchema", createSchema()
+                        .type(SchemaType.OBJECT)
+                        .description("Schema to be removed, pass 3")
+                        .not(createSchema()
+                                .ref("#/components/schemas/RemovedNotSchema")))
+                .addSchema("RemovedNotSchema", createSchema()
+                        .type(SchemaType.STRING)
+                        .description("Schema to be removed, pass 4"))
+                .addSchema("SharedSchema", createSchema()
+                        .type(SchemaType.STRING)
+                        .description("Schema retained, used by Data"));
+
+        assertEquals(6, openAPI.getComponents().getSchemas().size());
+
+        openAPI = FilterUtil.applyFilter(target, openAPI);
+        assertEquals(2, openAPI.getComponents().getSchemas().size());
+        assertEquals(Arrays.asList("Data", "SharedSchema"),
+                new ArrayList<>(openAPI.getComponents().getSchemas().keySet()));
+    }
+
+    @Test
+    void testUnusedSelfReferencingSchemaRetained() {
+        openAPI.getComponents()
+                .addSchema("SelfReferencingSchema", createSchema()
+                        .type(SchemaType.OBJECT)
+                        .addProperty("next", createSchema()
+                                .ref("#/components/schemas/SelfReferencingSchema")));
+
+        openAPI = FilterUtil.applyFilter(target, openAPI);
+        assertEquals(Arrays.asList("Data", "SelfReferencingSchema"),
+                new ArrayList<>(openAPI.getComponents().getSchemas().keySet()));
+    }
+
+    @Test
+    void testUnusedSchemaNestedReferencesRetained() {
+        openAPI.getComponents()
+                .addSchema("RemovedSchema", createSchema()
+                        .type(SchemaType.OBJECT)
+                        .description("Schema to be removed, pass 1")
+                        .addProperty("values", createSchema()
+                                .type(SchemaType.ARRAY)
+                                .items(createSchema()
+                                        .ref("#/components/schemas/NestedSchema"))))
+                .addSchema("NestedSchema", createSchema()
+                        .type(SchemaType.STRING)
+                        .description("Schema retained, only direct children references are removed"));
+
+        openAPI = FilterUtil.applyFilter(target, openAPI);
+        assertEquals(Arrays.asList("Data", "NestedSchema"),
+                new ArrayList<>(openAPI.getComponents().getSchemas().keySet()));
+    }
 }
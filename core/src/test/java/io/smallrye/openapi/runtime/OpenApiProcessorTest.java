@@ -0,0 +1,76 @@
+package io.smallrye.openapi.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.scanner.IndexScannerTestBase;
+
+class OpenApiProcessorTest {
+
+    static OpenApiStaticFile staticFile(String title) {
+        String yaml = "openapi: 3.0.3\ninfo:\n  title: " + title + "\n  version: '2.0'\n";
+        return new OpenApiStaticFile(new ByteArrayInputStream(yaml.getBytes(StandardCharsets.UTF_8)), Format.YAML);
+    }
+
+    @Test
+    void testBuilderDefaults() {
+        OpenAPI result = OpenApiProcessor.builder()
+                .config(IndexScannerTestBase.emptyConfig())
+                .archiveName("Builder")
+                .version("3.1")
+                .build();
+
+        assertEquals("Builder API", result.getInfo().getTitle());
+        assertEquals("3.1", result.getInfo().getVersion());
+    }
+
+    @Test
+    void testBuilderStaticFileAndFilter() {
+        OpenAPI result = OpenApiProcessor.builder()
+                .config(IndexScannerTestBase.emptyConfig())
+                .staticFiles(staticFile("Static"))
+                .filter(new OASFilter() {
+                    @Override
+                    public void filterOpenAPI(OpenAPI openAPI) {
+                        openAPI.getInfo().setDescription("Filtered");
+                    }
+                })
+                .build();
+
+        assertEquals("Static", result.getInfo().getTitle());
+        assertEquals("2.0", result.getInfo().getVersion());
+        assertEquals("Filtered", result.getInfo().getDescription());
+    }
+
+    @Test
+    void testBuilderRequiresConfig() {
+        OpenApiProcessor.Builder builder = OpenApiProcessor.builder();
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+
+    @Test
+    void testBuildersIndependent() {
+        List<CompletableFuture<OpenAPI>> results = IntStream.range(0, 16)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> OpenApiProcessor.builder()
+                        .config(IndexScannerTestBase.emptyConfig())
+                        .staticFiles(staticFile("App" + i))
+                        .build()))
+                .collect(Collectors.toList());
+
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals("App" + i, results.get(i).join().getInfo().getTitle());
+        }
+    }
+}
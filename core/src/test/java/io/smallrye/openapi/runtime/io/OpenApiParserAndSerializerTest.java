@@ -1,21 +1,38 @@
 package io.smallrye.openapi.runtime.io;
 
 import java.io.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.commons.io.IOUtils;
+import org.eclipse.microprofile.openapi.OASFactory;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.responses.APIResponses;
 import org.json.JSONException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.skyscreamer.jsonassert.JSONAssert;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.dataformat.yaml.JacksonYAMLParseException;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
 
 import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.runtime.io.definition.DefinitionWriter;
 
 /**
  * @author eric.wittmann@gmail.com
@@ -529,6 +546,102 @@ class OpenApiParserAndSerializerTest {
         doTest("_everything.yaml", Format.YAML);
     }
 
+    /**
+     * Test method for {@link OpenApiSerializer#serialize(OpenAPI, Format, OutputStream)}.
+     */
+    @Test
+    void testSerializeEverythingToStream() throws IOException {
+        OpenAPI impl = OpenApiParser.parse(OpenApiParserAndSerializerTest.class.getResource("_everything.json"));
+
+        for (Format format : Format.values()) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            OpenApiSerializer.serialize(impl, format, output);
+            Assertions.assertEquals(OpenApiSerializer.serialize(impl, format), output.toString("UTF-8"));
+        }
+    }
+
+    /**
+     * Test that {@link OpenApiSerializer}, writing through a generator, produces the
+     * same output as the JSON tree written by {@link DefinitionWriter}.
+     */
+    @Test
+    void testSerializeSameAsTree() throws IOException, URISyntaxException {
+        Path directory = Paths.get(OpenApiParserAndSerializerTest.class.getResource("_everything.json").toURI()).getParent();
+        List<Path> resources;
+
+        try (Stream<Path> files = Files.list(directory)) {
+            resources = files.filter(file -> file.toString().endsWith(".json")).sorted().collect(Collectors.toList());
+        }
+
+        for (Path resource : resources) {
+            assertSerializedSameAsTree(OpenApiParser.parse(resource.toUri().toURL()));
+        }
+
+        APIResponses responses = OASFactory.createAPIResponses()
+                .addAPIResponse("200", OASFactory.createAPIResponse().description("OK"))
+                .defaultValue(OASFactory.createAPIResponse().description("Error"));
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("decimal", new BigDecimal("1.50"));
+        values.put("integer", BigInteger.valueOf(100));
+        values.put("float", 1.5f);
+        values.put("long", Long.MAX_VALUE);
+        values.put("list", Arrays.asList("a", null, 2.5d));
+        values.put("node", JsonUtil.objectNode().put("text", "value"));
+        values.put("other", new Object());
+        OpenAPI model = OASFactory.createOpenAPI()
+                .openapi("3.0.3")
+                .paths(OASFactory.createPaths().addPathItem("/items", OASFactory.createPathItem()
+                        .GET(OASFactory.createOperation().responses(responses))))
+                .components(OASFactory.createComponents().addSchema("Item", OASFactory.createSchema()
+                        .maximum(new BigDecimal("10.0"))
+                        .minimum(new BigDecimal("0.25"))
+                        .defaultValue(values)));
+        model.addExtension("x-values", values);
+
+        assertSerializedSameAsTree(model);
+    }
+
+    private static void assertSerializedSameAsTree(OpenAPI model) throws IOException {
+        ObjectNode tree = JsonUtil.objectNode();
+        DefinitionWriter.writeOpenAPI(tree, model);
+
+        YAMLFactory factory = new YAMLFactory();
+        factory.enable(YAMLGenerator.Feature.MINIMIZE_QUOTES);
+        factory.enable(YAMLGenerator.Feature.ALWAYS_QUOTE_NUMBERS_AS_STRINGS);
+
+        Assertions.assertEquals(new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(tree),
+                OpenApiSerializer.serialize(model, Format.JSON));
+        Assertions.assertEquals(new ObjectMapper(factory).writer().writeValueAsString(tree),
+                OpenApiSerializer.serialize(model, Format.YAML));
+    }
+
+    /**
+     * Test method for {@link OpenApiSerializer#serialize(OpenAPI, Format, boolean, OutputStream)}.
+     */
+    @Test
+    void testSerializeEverythingCompact() throws IOException, JSONException {
+        URL testResource = OpenApiParserAndSerializerTest.class.getResource("_everything.json");
+        OpenAPI impl = OpenApiParser.parse(testResource);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        OpenApiSerializer.serialize(impl, Format.JSON, false, output);
+        String compact = output.toString("UTF-8");
+
+        Assertions.assertFalse(compact.contains("\n"));
+        assertJsonEquals(loadResource(testResource), compact);
+    }
+
+    /**
+     * Test method for {@link OpenApiSerializer#serialize(OpenAPI, Format, Writer)}.
+     */
+    @Test
+    void testSerializeEverythingYamlToWriter() throws IOException {
+        URL testResource = OpenApiParserAndSerializerTest.class.getResource("_everything.yaml");
+        OpenAPI impl = OpenApiParser.parse(testResource);
+        StringWriter output = new StringWriter();
+        OpenApiSerializer.serialize(impl, Format.YAML, output);
+        assertYamlEquals(loadResource(testResource), output.toString());
+    }
+
     /**
      * Test method for {@link OpenApiParser#parse(java.net.URL)}.
      *
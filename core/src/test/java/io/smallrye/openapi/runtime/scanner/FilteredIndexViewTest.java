@@ -2,6 +2,7 @@ package io.smallrye.openapi.runtime.scanner;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Collection;
@@ -240,6 +241,54 @@ class FilteredIndexViewTest {
         assertTrue(view.accepts(DotName.createSimple("int")));
     }
 
+    @Test
+    void testAccepts_NestedPackagePrefixes() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put(OASConfig.SCAN_PACKAGES, "com.example,com.example.pkgA.internal.api");
+        properties.put(OASConfig.SCAN_EXCLUDE_PACKAGES, "com.example.pkgA,com.example.pkgA.internal");
+        OpenApiConfig config = IndexScannerTestBase.dynamicConfig(properties);
+        FilteredIndexView view = new FilteredIndexView(null, config);
+        assertTrue(view.accepts(DotName.createSimple("com.example.MyBean")));
+        assertTrue(view.accepts(DotName.createSimple("com.example.pkgB.MyBean")));
+        assertFalse(view.accepts(DotName.createSimple("com.example.pkgA.MyBean")));
+        assertFalse(view.accepts(DotName.createSimple("com.example.pkgAB.MyBean")));
+        assertFalse(view.accepts(DotName.createSimple("com.example.pkgA.internal.MyBean")));
+        assertTrue(view.accepts(DotName.createSimple("com.example.pkgA.internal.api.MyBean")));
+        assertTrue(view.accepts(DotName.createSimple("com.example.pkgA.internal.apis.MyBean")));
+        assertFalse(view.accepts(DotName.createSimple("org.example.MyBean")));
+        // Repeated decisions are served from the cache
+        assertFalse(view.accepts(DotName.createSimple("com.example.pkgA.MyBean")));
+        assertTrue(view.accepts(DotName.createSimple("com.example.pkgA.internal.api.MyBean")));
+    }
+
+    @Test
+    void testAccepts_ImpliedInclusionCached() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put(OASConfig.SCAN_EXCLUDE_PACKAGES, "com.example.pkgA");
+        OpenApiConfig config = IndexScannerTestBase.dynamicConfig(properties);
+        FilteredIndexView view = new FilteredIndexView(null, config);
+        DotName name = DotName.createSimple("com.example.pkgB.MyBean");
+        assertTrue(view.accepts(name));
+        assertFalse(view.explicitlyAccepts(name));
+        assertTrue(view.accepts(name));
+    }
+
+    @Test
+    void testGetAnnotationsCached() {
+        class Target {
+            @Parameter()
+            String value;
+        }
+
+        IndexView index = IndexScannerTestBase.indexOf(Parameter.class, Target.class);
+        FilteredIndexView view = new FilteredIndexView(index, IndexScannerTestBase.emptyConfig());
+        DotName name = DotName.createSimple(Parameter.class.getName());
+
+        Collection<AnnotationInstance> annotations = view.getAnnotations(name);
+        assertEquals(1, annotations.size());
+        assertSame(annotations, view.getAnnotations(name));
+    }
+
     @Test
     void testGetAnnotationsWithRepeatable() {
         class Target {
@@ -0,0 +1,193 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.api.models.ComponentsImpl;
+import io.smallrye.openapi.api.models.OpenAPIImpl;
+import io.smallrye.openapi.api.models.security.OAuthFlowImpl;
+import io.smallrye.openapi.api.models.security.OAuthFlowsImpl;
+import io.smallrye.openapi.api.models.security.SecuritySchemeImpl;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+import io.smallrye.openapi.runtime.io.schema.SchemaFactory;
+import io.smallrye.openapi.runtime.scanner.processor.JavaSecurityProcessor;
+import io.smallrye.openapi.runtime.scanner.spi.AnnotationScanner;
+import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
+
+class ParallelScannerTest extends IndexScannerTestBase {
+
+    static final String SCANNER_SERVICES = "META-INF/services/" + AnnotationScanner.class.getName();
+
+    @Test
+    void testScopesOfFirstPartKept() {
+        SecurityScheme scheme = new SecuritySchemeImpl()
+                .type(SecurityScheme.Type.OAUTH2)
+                .flows(new OAuthFlowsImpl().clientCredentials(new OAuthFlowImpl()));
+        OpenAPI openApi = new OpenAPIImpl().components(new ComponentsImpl().addSecurityScheme("oauth", scheme));
+        AnnotationScannerContext context = new AnnotationScannerContext(new FilteredIndexView(indexOf(), emptyConfig()), getClass().getClassLoader(),
+                Collections.emptyList(), dynamicConfig(OpenApiConstants.SCAN_PARALLELISM, "2"), openApi);
+        CountDownLatch secondCompleted = new CountDownLatch(1);
+
+        OpenAPI result = ParallelScanner.scan(context, openApi, Arrays.asList("first", "second"),
+                (partialContext, role) -> {
+                    try {
+                        if (role.equals("first")) {
+                            // The second part fills the scopes of its flow first
+                            assertTrue(secondCompleted.await(10, TimeUnit.SECONDS));
+                        }
+                        JavaSecurityProcessor.register(partialContext.getOpenApi());
+                        JavaSecurityProcessor.addDeclaredRolesToScopes(new String[] { role });
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException(e);
+                    } finally {
+                        JavaSecurityProcessor.remove();
+                        if (role.equals("second")) {
+                            secondCompleted.countDown();
+                        }
+                    }
+                    return partialContext.getOpenApi();
+                });
+
+        // As in a sequential scan, the scopes are those of the first part
+        assertSame(scheme, result.getComponents().getSecuritySchemes().get("oauth"));
+        assertEquals(Collections.singletonMap("first", "first role"), scheme.getFlows().getClientCredentials().getScopes());
+    }
+
+    @Test
+    void testParallelScannersMatchSequential(@TempDir Path directory) throws IOException {
+        Index index = indexOf(Widget.class, Gadget.class, Shared.class);
+        ClassLoader loader = scannerLoader(directory, WidgetScanner.class, GadgetScanner.class);
+
+        OpenAPI sequential = new OpenApiAnnotationScanner(emptyConfig(), loader, index).scan();
+        Map<String, String> properties = new HashMap<>();
+        properties.put(OpenApiConstants.SCAN_PARALLEL_SCANNERS, "true");
+        properties.put(OpenApiConstants.SCAN_PARALLELISM, "2");
+        OpenAPI parallel = new OpenApiAnnotationScanner(dynamicConfig(properties), loader, index).scan();
+        printToConsole(parallel);
+
+        assertEquals(3, parallel.getComponents().getSchemas().size());
+        assertEquals(OpenApiSerializer.serialize(sequential, Format.JSON), OpenApiSerializer.serialize(parallel, Format.JSON));
+    }
+
+    static ClassLoader scannerLoader(Path directory, Class<?>... scanners) throws IOException {
+        Path services = directory.resolve("scanners");
+        Files.write(services, Arrays.stream(scanners).map(Class::getName).collect(Collectors.toList()),
+                StandardCharsets.UTF_8);
+        URL servicesUrl = services.toUri().toURL();
+
+        return new ClassLoader(ParallelScannerTest.class.getClassLoader()) {
+            @Override
+            public Enumeration<URL> getResources(String name) throws IOException {
+                if (SCANNER_SERVICES.equals(name)) {
+                    return Collections.enumeration(Collections.singletonList(servicesUrl));
+                }
+                return super.getResources(name);
+            }
+        };
+    }
+
+    static class Shared {
+        public String name;
+    }
+
+    static class Widget {
+        public Shared shared;
+        public int size;
+    }
+
+    static class Gadget {
+        public Shared shared;
+        public boolean enabled;
+    }
+
+    /**
+     * Creates the schemas of the given types.
+     */
+    abstract static class TypesScanner implements AnnotationScanner {
+        private final List<Class<?>> types;
+
+        TypesScanner(Class<?>... types) {
+            this.types = Arrays.asList(types);
+        }
+
+        @Override
+        public String getName() {
+            return getClass().getSimpleName();
+        }
+
+        @Override
+        public OpenAPI scan(AnnotationScannerContext context, OpenAPI openApi) {
+            for (Class<?> type : types) {
+                SchemaFactory.typeToSchema(context, Type.create(DotName.createSimple(type.getName()), Type.Kind.CLASS),
+                        null, context.getExtensions());
+            }
+            return openApi;
+        }
+
+        @Override
+        public boolean isAsyncResponse(MethodInfo method) {
+            return false;
+        }
+
+        @Override
+        public boolean isPostMethod(MethodInfo method) {
+            return false;
+        }
+
+        @Override
+        public boolean isDeleteMethod(MethodInfo method) {
+            return false;
+        }
+
+        @Override
+        public void setContextRoot(String path) {
+        }
+
+        @Override
+        public boolean containsScannerAnnotations(List<AnnotationInstance> instances,
+                List<AnnotationScannerExtension> extensions) {
+            return false;
+        }
+    }
+
+    public static class WidgetScanner extends TypesScanner {
+        public WidgetScanner() {
+            super(Widget.class, Shared.class);
+        }
+    }
+
+    public static class GadgetScanner extends TypesScanner {
+        public GadgetScanner() {
+            super(Gadget.class, Shared.class);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.api.models.OpenAPIImpl;
+import io.smallrye.openapi.api.models.info.InfoImpl;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+
+class ScanResultCacheTest extends IndexScannerTestBase {
+
+    @Schema(name = "CachedBean")
+    static class CachedBean {
+        String name;
+    }
+
+    @Schema(name = "OtherBean")
+    static class OtherBean {
+        int value;
+    }
+
+    static OpenApiConfig config(Path directory, String... properties) {
+        Map<String, String> config = new HashMap<>();
+        config.put(OpenApiConstants.SCAN_CACHE_DIRECTORY, directory.toString());
+        for (int i = 0; i < properties.length; i += 2) {
+            config.put(properties[i], properties[i + 1]);
+        }
+        return dynamicConfig(config);
+    }
+
+    static OpenAPI scan(OpenApiConfig config, Class<?>... classes) {
+        return new OpenApiAnnotationScanner(config, indexOf(classes)).scan();
+    }
+
+    static List<Path> entries(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().collect(Collectors.toList());
+        }
+    }
+
+    @Test
+    void testScanResultReadFromCache(@TempDir Path directory) throws IOException {
+        OpenApiConfig config = config(directory);
+        OpenAPI scanned = scan(config, CachedBean.class);
+        List<Path> entries = entries(directory);
+        assertEquals(1, entries.size());
+
+        OpenAPI cached = scan(config, CachedBean.class);
+        assertEquals(OpenApiSerializer.serialize(scanned, Format.JSON), OpenApiSerializer.serialize(cached, Format.JSON));
+        assertEquals(entries, entries(directory));
+
+        // Replace the cached entry to show that the scan is skipped
+        try (OutputStream stream = new GZIPOutputStream(Files.newOutputStream(entries.get(0)))) {
+            OpenApiSerializer.serialize(new OpenAPIImpl().openapi("3.0.3").info(new InfoImpl().title("From cache")),
+                    Format.JSON, stream);
+        }
+
+        assertEquals("From cache", scan(config, CachedBean.class).getInfo().getTitle());
+    }
+
+    @Test
+    void testCorruptCacheEntryIgnored(@TempDir Path directory) throws IOException {
+        OpenApiConfig config = config(directory);
+        OpenAPI scanned = scan(config, CachedBean.class);
+        Path entry = entries(directory).get(0);
+        Files.write(entry, new byte[] { 1, 2, 3 });
+
+        OpenAPI rescanned = scan(config, CachedBean.class);
+        assertEquals(OpenApiSerializer.serialize(scanned, Format.JSON), OpenApiSerializer.serialize(rescanned, Format.JSON));
+        assertNotEquals(3, Files.size(entry));
+    }
+
+    @Test
+    void testRetainedScanProfilesNotReadFromCache(@TempDir Path directory) throws IOException {
+        scan(config(directory), CachedBean.class);
+        assertEquals(1, entries(directory).size());
+
+        scan(config(directory, OpenApiConstants.SCAN_PROFILES_RETAIN, "true"), CachedBean.class);
+        assertEquals(2, entries(directory).size());
+    }
+
+    @Test
+    void testFingerprintChanges(@TempDir Path directory) {
+        OpenApiConfig config = config(directory);
+        Index index = indexOf(CachedBean.class);
+        List<String> scanners = Collections.singletonList("JAX-RS");
+        List<AnnotationScannerExtension> extensions = Collections.emptyList();
+
+        String fingerprint = ScanResultCache.fingerprint(index, config, scanners, extensions);
+        assertEquals(fingerprint, ScanResultCache.fingerprint(indexOf(CachedBean.class), config(directory), scanners,
+                extensions));
+
+        assertNotEquals(fingerprint, ScanResultCache.fingerprint(indexOf(CachedBean.class, OtherBean.class), config,
+                scanners, extensions));
+        assertNotEquals(fingerprint, ScanResultCache.fingerprint(index,
+                config(directory, OpenApiConstants.SMALLRYE_PRIVATE_PROPERTIES_ENABLE, "false"), scanners, extensions));
+        assertNotEquals(fingerprint, ScanResultCache.fingerprint(index,
+                config(directory, OpenApiConstants.SCAN_PROFILES_RETAIN, "true"), scanners, extensions));
+        assertNotEquals(fingerprint, ScanResultCache.fingerprint(index,
+                config(directory, OpenApiConstants.SCAN_REFLECTIVE_FALLBACK_DISABLE, "true"), scanners, extensions));
+        assertNotEquals(fingerprint, ScanResultCache.fingerprint(index, config, Collections.singletonList("Spring"), extensions));
+    }
+
+    @Test
+    void testFingerprintJavaVersion(@TempDir Path directory) {
+        OpenApiConfig config = config(directory);
+        Index index = indexOf(CachedBean.class);
+        List<String> scanners = Collections.singletonList("JAX-RS");
+        String specificationVersion = System.getProperty("java.specification.version");
+        String fingerprint = ScanResultCache.fingerprint(index, config, scanners, Collections.emptyList());
+
+        try {
+            System.setProperty("java.specification.version", "1" + specificationVersion);
+            assertNotEquals(fingerprint, ScanResultCache.fingerprint(index, config, scanners, Collections.emptyList()));
+        } finally {
+            System.setProperty("java.specification.version", specificationVersion);
+        }
+    }
+
+    @Test
+    void testLibraryVersionWithoutManifest() throws Exception {
+        // Test classes are loaded from a directory, without a manifest
+        Path location = Paths.get(getClass().getProtectionDomain().getCodeSource().getLocation().toURI());
+        String version = ScanResultCache.LibraryVersion.version(getClass());
+
+        assertTrue(version.startsWith(location + "@"), version);
+        assertEquals(version, ScanResultCache.LibraryVersion.version(getClass()));
+    }
+}
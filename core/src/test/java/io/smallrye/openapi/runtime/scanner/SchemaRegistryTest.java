@@ -0,0 +1,117 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.jboss.jandex.Type;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.api.models.OpenAPIImpl;
+import io.smallrye.openapi.api.models.media.SchemaImpl;
+import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
+
+class SchemaRegistryTest extends IndexScannerTestBase {
+
+    static final Set<Type> NO_VIEWS = Collections.emptySet();
+
+    static AnnotationScannerContext context(OpenAPI openApi) {
+        return new AnnotationScannerContext(new FilteredIndexView(indexOf(), emptyConfig()),
+                Thread.currentThread().getContextClassLoader(), Collections.emptyList(), emptyConfig(), openApi);
+    }
+
+    static Type type(String name) {
+        return Type.create(componentize(name), Type.Kind.CLASS);
+    }
+
+    @Test
+    void testMergedPartialRegistriesNamedSequentially() {
+        OpenAPI openApi = new OpenAPIImpl();
+        SchemaRegistry registry = SchemaRegistry.newInstance(context(openApi));
+        Schema shared = new SchemaImpl().description("shared");
+        registry.register(type("test.Shared"), NO_VIEWS, shared);
+
+        SchemaRegistry partial1 = registry.fork(context(new OpenAPIImpl()));
+        SchemaRegistry partial2 = registry.fork(context(new OpenAPIImpl()));
+
+        Schema widgetA = new SchemaImpl().description("a");
+        partial1.register(type("test.a.Widget"), NO_VIEWS, widgetA);
+
+        Schema widgetB = new SchemaImpl().description("b");
+        Schema widgetBRef = partial2.register(type("test.b.Widget"), NO_VIEWS, widgetB);
+        Schema holder = new SchemaImpl().addProperty("widget", widgetBRef)
+                .addProperty("shared", partial2.lookupRef(type("test.Shared"), NO_VIEWS));
+        partial2.register(type("test.b.Holder"), NO_VIEWS, holder);
+
+        registry.merge(partial1);
+        registry.merge(partial2);
+
+        assertEquals(4, openApi.getComponents().getSchemas().size());
+        assertSame(shared, openApi.getComponents().getSchemas().get("Shared"));
+        assertSame(widgetA, openApi.getComponents().getSchemas().get("Widget"));
+        assertSame(widgetB, openApi.getComponents().getSchemas().get("Widget1"));
+        assertSame(holder, openApi.getComponents().getSchemas().get("Holder"));
+        assertEquals("#/components/schemas/Widget1", holder.getProperties().get("widget").getRef());
+        assertEquals("#/components/schemas/Shared", holder.getProperties().get("shared").getRef());
+        assertEquals("#/components/schemas/Widget1", registry.lookupRef(type("test.b.Widget"), NO_VIEWS).getRef());
+    }
+
+    @Test
+    void testMergedPartialRegistryReusesExistingName() {
+        OpenAPI openApi = new OpenAPIImpl();
+        SchemaRegistry registry = SchemaRegistry.newInstance(context(openApi));
+
+        OpenAPI partialModel2 = new OpenAPIImpl();
+        SchemaRegistry partial1 = registry.fork(context(new OpenAPIImpl()));
+        SchemaRegistry partial2 = registry.fork(context(partialModel2));
+
+        Schema widget1 = new SchemaImpl().description("first");
+        partial1.register(type("test.Widget"), NO_VIEWS, widget1);
+        Schema widget2 = new SchemaImpl().description("second");
+        partial2.register(type("test.Widget"), NO_VIEWS, widget2);
+
+        registry.merge(partial1);
+        registry.merge(partial2);
+
+        // The schema registered first is kept, as in a sequential scan
+        assertEquals(1, openApi.getComponents().getSchemas().size());
+        assertSame(widget1, openApi.getComponents().getSchemas().get("Widget"));
+        assertNull(partialModel2.getComponents().getSchemas().get("Widget"));
+    }
+
+    @Test
+    void testMergedPartialRegistryCompletesReference() {
+        OpenAPI openApi = new OpenAPIImpl();
+        AnnotationScannerContext context = new AnnotationScannerContext(
+                new FilteredIndexView(indexOf(Referenced.class), emptyConfig()),
+                Thread.currentThread().getContextClassLoader(), Collections.emptyList(), emptyConfig(), openApi);
+        SchemaRegistry registry = SchemaRegistry.newInstance(context);
+        Type referenced = Type.create(componentize(Referenced.class.getName()), Type.Kind.CLASS);
+
+        try {
+            SchemaRegistry.registerReference(referenced, NO_VIEWS, null, new SchemaImpl());
+        } finally {
+            SchemaRegistry.remove();
+        }
+        assertTrue(registry.hasRef(referenced, NO_VIEWS));
+        assertNull(registry.lookupSchema(referenced, NO_VIEWS));
+
+        SchemaRegistry partial = registry.fork(context(new OpenAPIImpl()));
+        Schema schema = new SchemaImpl().description("referenced");
+        partial.register(referenced, NO_VIEWS, schema);
+
+        registry.merge(partial);
+
+        assertSame(schema, openApi.getComponents().getSchemas().get("Referenced"));
+        assertSame(schema, registry.lookupSchema(referenced, NO_VIEWS));
+    }
+
+    static class Referenced {
+    }
+}
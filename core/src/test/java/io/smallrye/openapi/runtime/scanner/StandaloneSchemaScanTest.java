@@ -33,6 +33,8 @@ import org.junit.jupiter.api.Test;
 
 import com.fasterxml.jackson.annotation.JsonUnwrapped;
 
+import io.smallrye.openapi.api.constants.OpenApiConstants;
+
 import test.io.smallrye.openapi.runtime.scanner.dataobject.SingleAnnotatedConstructorArgument;
 
 class StandaloneSchemaScanTest extends IndexScannerTestBase {
@@ -60,6 +62,18 @@ class StandaloneSchemaScanTest extends IndexScannerTestBase {
 
     }
 
+    @Test
+    void testInheritanceAnyOfParallel() throws Exception {
+        Index index = indexOf(Reptile.class, Lizard.class, Snake.class, Turtle.class);
+        OpenApiAnnotationScanner scanner = new OpenApiAnnotationScanner(
+                dynamicConfig(OpenApiConstants.SCAN_PARALLEL_SCHEMAS, "true"), index);
+
+        OpenAPI result = scanner.scan();
+
+        printToConsole(result);
+        assertJsonEquals("components.schemas.inheritance.json", result);
+    }
+
     /****************************************************************/
 
     static class Cat {
@@ -365,6 +379,26 @@ class StandaloneSchemaScanTest extends IndexScannerTestBase {
         assertJsonEquals("components.schemas.nested-parameterized-collection-types.json", result);
     }
 
+    @Test
+    void testNestedCollectionSchemasParallel() throws IOException, JSONException {
+        Index index = indexOf(CollectionBean.class,
+                EntryBean.class,
+                MultivaluedCollection.class,
+                MultivaluedMap.class,
+                Collection.class,
+                ArrayList.class,
+                HashMap.class,
+                List.class,
+                Map.class,
+                Set.class,
+                UUID.class);
+        OpenApiAnnotationScanner scanner = new OpenApiAnnotationScanner(
+                dynamicConfig(OpenApiConstants.SCAN_PARALLEL_SCHEMAS, "true"), index);
+        OpenAPI result = scanner.scan();
+        printToConsole(result);
+        assertJsonEquals("components.schemas.nested-parameterized-collection-types.json", result);
+    }
+
     @Schema
     static class CollectionBean {
         @Schema(description = "In-line schema, `additionalProperties` array `items` reference `EntryBean`")
@@ -0,0 +1,73 @@
+package io.smallrye.openapi.runtime.scanner.dataobject;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.ParameterizedType;
+import org.jboss.jandex.Type;
+import org.jboss.jandex.WildcardType;
+import org.junit.jupiter.api.Test;
+
+class TypeCanonicalizerTest {
+
+    static final DotName LIST = DotName.createSimple(List.class.getName());
+    static final DotName MAP = DotName.createSimple(Map.class.getName());
+    static final DotName STRING = DotName.createSimple(String.class.getName());
+    static final AnnotationInstance NOT_NULL = AnnotationInstance.create(DotName.createSimple("test.NotNull"), null,
+            Collections.emptyList());
+
+    static Type string() {
+        return Type.create(STRING, Type.Kind.CLASS);
+    }
+
+    static Type annotatedString() {
+        return Type.createWithAnnotations(STRING, Type.Kind.CLASS, new AnnotationInstance[] { NOT_NULL });
+    }
+
+    static Type listOf(Type argument) {
+        return ParameterizedType.create(LIST, new Type[] { argument }, null);
+    }
+
+    @Test
+    void testEqualTypesShareInstance() {
+        TypeCanonicalizer canonicalizer = new TypeCanonicalizer();
+        Type first = ParameterizedType.create(MAP, new Type[] { string(), listOf(string()) }, null);
+        Type second = ParameterizedType.create(MAP, new Type[] { string(), listOf(string()) }, null);
+
+        assertSame(first, canonicalizer.canonical(first));
+        assertSame(first, canonicalizer.canonical(second));
+        assertSame(first, canonicalizer.canonical(second));
+        assertSame(first, canonicalizer.keyType(second));
+        assertNull(canonicalizer.canonical(null));
+    }
+
+    @Test
+    void testTypeAnnotationsIgnoredForKeys() {
+        TypeCanonicalizer canonicalizer = new TypeCanonicalizer();
+        Type plain = string();
+        Type annotated = annotatedString();
+
+        assertNotSame(canonicalizer.canonical(plain), canonicalizer.canonical(annotated));
+        assertSame(canonicalizer.keyType(plain), canonicalizer.keyType(annotated));
+
+        // Annotations of the type arguments are significant
+        assertNotSame(canonicalizer.keyType(listOf(plain)), canonicalizer.keyType(listOf(annotated)));
+    }
+
+    @Test
+    void testWildcardBounds() {
+        TypeCanonicalizer canonicalizer = new TypeCanonicalizer();
+        Type extendsString = listOf(WildcardType.create(string(), true));
+        Type superString = listOf(WildcardType.create(string(), false));
+
+        assertSame(canonicalizer.keyType(extendsString), canonicalizer.keyType(listOf(WildcardType.create(string(), true))));
+        assertNotSame(canonicalizer.keyType(extendsString), canonicalizer.keyType(superString));
+    }
+}
@@ -3,10 +3,17 @@ package io.smallrye.openapi.runtime.scanner.dataobject;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -14,6 +21,9 @@ import java.util.Map.Entry;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonView;
+
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 import org.jboss.jandex.AnnotationInstance;
@@ -27,9 +37,12 @@ import org.junit.jupiter.params.provider.CsvSource;
 
 import io.smallrye.openapi.api.OpenApiConfig;
 import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.api.models.OpenAPIImpl;
 import io.smallrye.openapi.runtime.io.schema.SchemaConstant;
+import io.smallrye.openapi.runtime.scanner.FilteredIndexView;
 import io.smallrye.openapi.runtime.scanner.IndexScannerTestBase;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
+import io.smallrye.openapi.runtime.scanner.spi.ScanListener;
 import io.smallrye.openapi.runtime.util.TypeUtil;
 
 /**
@@ -763,4 +776,68 @@ class TypeResolverTests extends IndexScannerTestBase {
                 .method("get").returnType());
         assertEquals(componentize(TestForClassWithGenericInterfaceClasses.Apple.class.getName()), resolved.name());
     }
+
+    static class TestPropertyModelCachedClasses {
+        static class Views {
+            static class Summary {
+            }
+
+            static class Full extends Summary {
+            }
+        }
+
+        static class Base {
+            @JsonView(Views.Summary.class)
+            String id;
+            @JsonView(Views.Full.class)
+            String audit;
+        }
+
+        static class Holder {
+            Base base;
+            @JsonIgnoreProperties("audit")
+            Base partial;
+        }
+    }
+
+    @Test
+    void testPropertyModelCached() {
+        final ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        final Map<ScanListener.Counter, Integer> counts = new EnumMap<>(ScanListener.Counter.class);
+        ScanListener listener = new ScanListener() {
+            @Override
+            public void count(Counter counter) {
+                counts.merge(counter, 1, Integer::sum);
+            }
+        };
+        AnnotationScannerContext context = new AnnotationScannerContext(
+                new FilteredIndexView(indexOf(TestPropertyModelCachedClasses.Base.class,
+                        TestPropertyModelCachedClasses.Holder.class), emptyConfig()),
+                loader, Collections.emptyList(), emptyConfig(), new OpenAPIImpl(), listener);
+        ClassInfo baseKlazz = context.getIndex()
+                .getClassByName(componentize(TestPropertyModelCachedClasses.Base.class.getName()));
+        ClassInfo holderKlazz = context.getIndex()
+                .getClassByName(componentize(TestPropertyModelCachedClasses.Holder.class.getName()));
+        Type base = Type.create(baseKlazz.name(), Type.Kind.CLASS);
+
+        Map<String, TypeResolver> properties = TypeResolver.getAllFields(context, base, baseKlazz, holderKlazz.field("base"));
+        assertSame(properties, TypeResolver.getAllFields(context, base, baseKlazz, holderKlazz.field("base")));
+        assertSame(properties, TypeResolver.getAllFields(context, base, baseKlazz, null));
+        assertThrows(UnsupportedOperationException.class, () -> properties.remove("id"));
+        assertFalse(properties.get("audit").isIgnored());
+
+        Map<String, TypeResolver> partial = TypeResolver.getAllFields(context, base, baseKlazz,
+                holderKlazz.field("partial"));
+        assertNotSame(properties, partial);
+        assertTrue(partial.get("audit").isIgnored());
+
+        context.getJsonViews().add(Type.create(
+                componentize(TestPropertyModelCachedClasses.Views.Summary.class.getName()), Type.Kind.CLASS));
+        Map<String, TypeResolver> summary = TypeResolver.getAllFields(context, base, baseKlazz, null);
+        assertNotSame(properties, summary);
+        assertEquals(Arrays.asList("id"), new ArrayList<>(summary.keySet()));
+
+        assertEquals(2, counts.get(ScanListener.Counter.PROPERTY_MODEL_HITS));
+        assertEquals(3, counts.get(ScanListener.Counter.PROPERTY_MODEL_MISSES));
+    }
 }
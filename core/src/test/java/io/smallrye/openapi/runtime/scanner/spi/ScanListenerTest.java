@@ -0,0 +1,187 @@
+package io.smallrye.openapi.runtime.scanner.spi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Type;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.OpenApiDocument;
+import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.api.models.OpenAPIImpl;
+import io.smallrye.openapi.runtime.OpenApiProcessor;
+import io.smallrye.openapi.runtime.scanner.IndexScannerTestBase;
+import io.smallrye.openapi.runtime.scanner.LogCapture;
+import io.smallrye.openapi.runtime.scanner.OpenApiAnnotationScanner;
+import io.smallrye.openapi.runtime.scanner.spi.ScanListener.Counter;
+import io.smallrye.openapi.runtime.scanner.spi.ScanListener.Measurement;
+
+class ScanListenerTest extends IndexScannerTestBase {
+
+    @RegisterExtension
+    LogCapture logs = new LogCapture(ScanListener.class.getPackage().getName());
+
+    public static class RecordingListener implements ScanListener {
+        static final List<RecordingListener> instances = Collections.synchronizedList(new ArrayList<>());
+
+        final List<String> phases = Collections.synchronizedList(new ArrayList<>());
+        final List<Type> types = Collections.synchronizedList(new ArrayList<>());
+        final Map<Counter, Integer> counts = Collections.synchronizedMap(new EnumMap<>(Counter.class));
+        boolean completed;
+
+        public RecordingListener() {
+            instances.add(this);
+        }
+
+        @Override
+        public void phase(String phase, Measurement measurement) {
+            phases.add(phase);
+        }
+
+        @Override
+        public void type(Type type, Measurement measurement) {
+            types.add(type);
+        }
+
+        @Override
+        public void count(Counter counter) {
+            counts.merge(counter, 1, Integer::sum);
+        }
+
+        @Override
+        public void completed() {
+            completed = true;
+        }
+    }
+
+    public static class NoopFilter implements OASFilter {
+    }
+
+    @Schema(name = "Parent")
+    static class Parent {
+        Child first;
+        Child second;
+    }
+
+    @Schema(name = "Child")
+    static class Child {
+        String name;
+    }
+
+    @BeforeEach
+    void clearInstances() {
+        RecordingListener.instances.clear();
+    }
+
+    static OpenApiConfig config(String listener) {
+        Map<String, String> properties = new HashMap<>();
+        properties.put(OpenApiConstants.SCAN_LISTENER, listener);
+        return dynamicConfig(properties);
+    }
+
+    @Test
+    void testNoListenerConfigured() {
+        assertSame(ScanListener.NOOP, ScanListener.of(emptyConfig(), getClass().getClassLoader()));
+        assertEquals(0, ScanListener.NOOP.start().stop().getDurationNanos());
+    }
+
+    @Test
+    void testInvalidListener() {
+        OpenApiConfig config = config(NoopFilter.class.getName());
+        ClassLoader loader = getClass().getClassLoader();
+        assertThrows(RuntimeException.class, () -> ScanListener.of(config, loader));
+    }
+
+    @Test
+    void testScanMeasured() {
+        new OpenApiAnnotationScanner(config(RecordingListener.class.getName()), indexOf(Parent.class, Child.class)).scan();
+
+        assertEquals(1, RecordingListener.instances.size());
+        RecordingListener listener = RecordingListener.instances.get(0);
+
+        assertEquals(Arrays.asList(ScanListener.PHASE_PACKAGE_DEFINITIONS, ScanListener.PHASE_CLASS_SCHEMAS,
+                ScanListener.PHASE_SORT), listener.phases);
+        assertTrue(listener.types.contains(Type.create(DotName.createSimple(Parent.class.getName()), Type.Kind.CLASS)));
+        assertEquals(2, listener.counts.get(Counter.SCHEMAS_REGISTERED));
+        assertEquals(2, listener.counts.get(Counter.TYPES_VISITED));
+        assertTrue(listener.counts.get(Counter.SCHEMA_REGISTRY_HITS) > 0);
+        assertTrue(listener.completed);
+    }
+
+    @Test
+    void testInitializationMeasured() {
+        OpenApiDocument document = OpenApiDocument.newInstance();
+        document.config(config(RecordingListener.class.getName()));
+        document.modelFromStaticFile(new OpenAPIImpl());
+        document.filter(new NoopFilter());
+        document.initialize();
+
+        assertEquals(1, RecordingListener.instances.size());
+        RecordingListener listener = RecordingListener.instances.get(0);
+
+        assertEquals(Arrays.asList(ScanListener.PHASE_MERGE, ScanListener.PHASE_FILTER_PREFIX + NoopFilter.class.getName(),
+                ScanListener.PHASE_CONFIG), listener.phases);
+        assertTrue(listener.completed);
+    }
+
+    @Test
+    void testListenerSharedByBuilder() {
+        OpenApiProcessor.builder()
+                .config(config(RecordingListener.class.getName()))
+                .index(indexOf(Parent.class, Child.class))
+                .filter(new NoopFilter())
+                .build();
+
+        assertEquals(1, RecordingListener.instances.size());
+        RecordingListener listener = RecordingListener.instances.get(0);
+
+        assertEquals(Arrays.asList(ScanListener.PHASE_PACKAGE_DEFINITIONS, ScanListener.PHASE_CLASS_SCHEMAS,
+                ScanListener.PHASE_SORT, ScanListener.PHASE_MERGE,
+                ScanListener.PHASE_FILTER_PREFIX + NoopFilter.class.getName(), ScanListener.PHASE_CONFIG), listener.phases);
+        assertTrue(listener.completed);
+    }
+
+    @Test
+    void testSummaryLogged() {
+        OpenAPI result = new OpenApiAnnotationScanner(config(LoggingScanListener.class.getName()),
+                indexOf(Parent.class, Child.class)).scan();
+
+        assertEquals(2, result.getComponents().getSchemas().size());
+        String summary = logs.assertLogContaining("OpenAPI scan measurements").getMessage();
+        assertTrue(summary.contains(ScanListener.PHASE_CLASS_SCHEMAS + ": "), summary);
+        assertTrue(summary.contains("Slowest types (of 1):\n    " + Parent.class.getName() + ": "), summary);
+        assertTrue(summary.contains("schemas-registered=2"), summary);
+    }
+
+    @Test
+    void testSummaryRetainsSlowest() {
+        LoggingScanListener listener = new LoggingScanListener();
+        int reported = LoggingScanListener.SLOWEST * 3;
+
+        for (int i = 0; i < reported; i++) {
+            listener.type(Type.create(DotName.createSimple("Type" + i), Type.Kind.CLASS), new Measurement().stop());
+        }
+
+        String summary = listener.summary();
+        String slowest = summary.substring(summary.indexOf("Slowest types (of " + reported + "):"),
+                summary.indexOf("\n  Counts:"));
+        assertEquals(LoggingScanListener.SLOWEST, slowest.split("\n    ").length - 1, summary);
+    }
+}
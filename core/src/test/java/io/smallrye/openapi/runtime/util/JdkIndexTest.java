@@ -0,0 +1,56 @@
+package io.smallrye.openapi.runtime.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexView;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JdkIndexTest {
+
+    static Set<DotName> names(IndexView index) {
+        return index.getKnownClasses().stream().map(ClassInfo::name).collect(Collectors.toSet());
+    }
+
+    @Test
+    void testGeneratedIndexReadable(@TempDir Path output) throws IOException {
+        JdkIndex.main(new String[] { output.toString() });
+
+        Path resource = output.resolve(JdkIndex.class.getPackage().getName().replace('.', '/')).resolve(JdkIndex.RESOURCE);
+        IndexView generated;
+
+        try (InputStream stream = Files.newInputStream(resource)) {
+            generated = new IndexReader(stream).read();
+        }
+
+        assertEquals(JdkIndex.CLASSES.length, generated.getKnownClasses().size());
+        assertEquals(names(JdkIndex.create()), names(generated));
+        assertNotNull(generated.getClassByName(DotName.createSimple(java.util.List.class.getName())));
+    }
+
+    @Test
+    void testResourceKeyedByFeatureVersion() {
+        assertEquals("jdk-8.idx", JdkIndex.resource("1.8"));
+        assertEquals("jdk-17.idx", JdkIndex.resource("17"));
+    }
+
+    @Test
+    void testIndexLoadedOnce() {
+        IndexView index = JdkIndex.get();
+
+        assertSame(index, JdkIndex.get());
+        assertEquals(names(JdkIndex.create()), names(index));
+    }
+}
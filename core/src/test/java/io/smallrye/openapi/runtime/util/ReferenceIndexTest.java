@@ -0,0 +1,81 @@
+package io.smallrye.openapi.runtime.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.api.models.ComponentsImpl;
+import io.smallrye.openapi.api.models.OpenAPIImpl;
+import io.smallrye.openapi.api.models.media.SchemaImpl;
+import io.smallrye.openapi.api.models.parameters.ParameterImpl;
+
+class ReferenceIndexTest {
+
+    @Test
+    void testComponentsResolved() {
+        Schema schema = new SchemaImpl();
+        Parameter parameter = new ParameterImpl().name("id");
+        OpenAPI openAPI = new OpenAPIImpl().components(new ComponentsImpl()
+                .addSchema("MySchema", schema)
+                .addParameter("MyParam", parameter));
+
+        assertSame(schema, ModelUtil.getComponent(openAPI, "#/components/schemas/MySchema"));
+        assertSame(parameter, ModelUtil.getComponent(openAPI, "#/components/parameters/MyParam"));
+        assertSame(parameter, ModelUtil.dereference(openAPI, new ParameterImpl().ref("MyParam")));
+        assertNull(ModelUtil.getComponent(openAPI, "#/components/schemas/MyParam"));
+        assertNull(ModelUtil.getComponent(openAPI, "#/components/unknown/MySchema"));
+        assertNull(ModelUtil.getComponent(openAPI, "https://example.com/schemas/MySchema"));
+        assertNull(ModelUtil.getComponent(new OpenAPIImpl(), "#/components/schemas/MySchema"));
+    }
+
+    @Test
+    void testIndexRebuiltWhenComponentsModified() {
+        OpenAPI openAPI = new OpenAPIImpl().components(new ComponentsImpl());
+        ReferenceIndex index = ReferenceIndex.of(openAPI);
+
+        assertSame(index, ReferenceIndex.of(openAPI));
+        assertNull(ModelUtil.getComponent(openAPI, "#/components/schemas/Added"));
+
+        Schema added = new SchemaImpl();
+        openAPI.getComponents().addSchema("Added", added);
+        assertNotSame(index, ReferenceIndex.of(openAPI));
+        assertSame(added, ModelUtil.getComponent(openAPI, "#/components/schemas/Added"));
+
+        Schema replaced = new SchemaImpl();
+        openAPI.getComponents().setSchemas(Collections.singletonMap("Added", replaced));
+        assertSame(replaced, ModelUtil.getComponent(openAPI, "#/components/schemas/Added"));
+
+        openAPI.getComponents().removeSchema("Added");
+        assertNull(ModelUtil.getComponent(openAPI, "#/components/schemas/Added"));
+    }
+
+    @Test
+    void testSchemaReferences() {
+        Schema self = new SchemaImpl().ref("#/components/schemas/Node");
+        OpenAPI openAPI = new OpenAPIImpl().components(new ComponentsImpl()
+                .addSchema("Node", new SchemaImpl()
+                        .addProperty("next", self)
+                        .addProperty("previous", self)
+                        .addProperty("values", new SchemaImpl()
+                                .items(new SchemaImpl().ref("#/components/schemas/Value")))
+                        .addAllOf(new SchemaImpl().ref("#/components/schemas/Base")))
+                .addSchema("Value", new SchemaImpl()));
+
+        ReferenceIndex index = ReferenceIndex.of(openAPI);
+        // Only references of direct children, the nested reference to Value is not included
+        assertEquals(Arrays.asList("#/components/schemas/Base", "#/components/schemas/Node", "#/components/schemas/Node"),
+                index.getSchemaReferences("Node"));
+        assertSame(index.getSchemaReferences("Node"), index.getSchemaReferences("Node"));
+        assertEquals(Collections.emptyList(), index.getSchemaReferences("Value"));
+        assertEquals(Collections.emptyList(), index.getSchemaReferences("Missing"));
+    }
+}
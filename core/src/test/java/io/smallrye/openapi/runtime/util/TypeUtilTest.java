@@ -0,0 +1,91 @@
+package io.smallrye.openapi.runtime.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Type;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.runtime.scanner.IndexScannerTestBase;
+import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
+
+class TypeUtilTest {
+
+    interface Marker {
+    }
+
+    interface Named extends Marker {
+    }
+
+    static class Base implements Named {
+    }
+
+    static class Derived extends Base implements Serializable {
+        private static final long serialVersionUID = 1L;
+    }
+
+    @SuppressWarnings("serial")
+    static class NotIndexed extends ArrayList<String> {
+    }
+
+    /**
+     * Fails the test when the scan attempts to load a class.
+     */
+    static class FailingClassLoader extends ClassLoader {
+        FailingClassLoader() {
+            super(null);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            throw new AssertionError("Unexpected loading of class " + name);
+        }
+    }
+
+    static Type type(Class<?> klazz) {
+        return Type.create(DotName.createSimple(klazz.getName()), Type.Kind.CLASS);
+    }
+
+    static AnnotationScannerContext context(OpenApiConfig config, ClassLoader loader) {
+        return new AnnotationScannerContext(IndexScannerTestBase.indexOf(Marker.class, Named.class, Base.class, Derived.class),
+                loader, config);
+    }
+
+    @Test
+    void testIndexedHierarchyWithoutClassLoading() {
+        AnnotationScannerContext context = context(IndexScannerTestBase.emptyConfig(), new FailingClassLoader());
+
+        assertTrue(TypeUtil.isA(context, type(Derived.class), type(Marker.class)));
+        assertTrue(TypeUtil.isA(context, type(Derived.class), type(Base.class)));
+        assertTrue(TypeUtil.isA(context, type(Named.class), type(Marker.class)));
+        assertTrue(TypeUtil.isA(context, type(List.class), type(Collection.class)));
+        assertFalse(TypeUtil.isA(context, type(Base.class), type(Derived.class)));
+        assertFalse(TypeUtil.isA(context, type(Marker.class), type(Named.class)));
+    }
+
+    @Test
+    void testReflectiveFallback() {
+        AnnotationScannerContext context = context(IndexScannerTestBase.emptyConfig(), getClass().getClassLoader());
+
+        assertTrue(TypeUtil.isA(context, type(NotIndexed.class), type(Collection.class)));
+        assertTrue(TypeUtil.isA(context, type(Derived.class), type(Serializable.class)));
+    }
+
+    @Test
+    void testReflectiveFallbackDisabled() {
+        OpenApiConfig config = IndexScannerTestBase.dynamicConfig(OpenApiConstants.SCAN_REFLECTIVE_FALLBACK_DISABLE, true);
+        AnnotationScannerContext context = context(config, new FailingClassLoader());
+
+        assertFalse(TypeUtil.isA(context, type(NotIndexed.class), type(Collection.class)));
+        assertTrue(TypeUtil.isA(context, type(Derived.class), type(Serializable.class)));
+        assertTrue(TypeUtil.isA(context, type(Derived.class), type(Marker.class)));
+    }
+}
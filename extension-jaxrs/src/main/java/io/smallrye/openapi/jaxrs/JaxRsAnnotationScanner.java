@@ -43,12 +43,14 @@ import io.smallrye.openapi.runtime.io.parameter.ParameterReader;
 import io.smallrye.openapi.runtime.io.response.ResponseReader;
 import io.smallrye.openapi.runtime.scanner.AnnotationScannerExtension;
 import io.smallrye.openapi.runtime.scanner.FilteredIndexView;
+import io.smallrye.openapi.runtime.scanner.ParallelScanner;
 import io.smallrye.openapi.runtime.scanner.ResourceParameters;
 import io.smallrye.openapi.runtime.scanner.dataobject.AugmentedIndexView;
 import io.smallrye.openapi.runtime.scanner.dataobject.TypeResolver;
 import io.smallrye.openapi.runtime.scanner.processor.JavaSecurityProcessor;
 import io.smallrye.openapi.runtime.scanner.spi.AbstractAnnotationScanner;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
+import io.smallrye.openapi.runtime.scanner.spi.ScanListener.Measurement;
 import io.smallrye.openapi.runtime.util.JandexUtil;
 import io.smallrye.openapi.runtime.util.ModelUtil;
 
@@ -65,6 +67,17 @@ public class JaxRsAnnotationScanner extends AbstractAnnotationScanner {
 
     private final Deque<JaxRsSubResourceLocator> subResourceStack = new LinkedList<>();
 
+    public JaxRsAnnotationScanner() {
+    }
+
+    /**
+     * Copy constructor, used to process resource classes in parallel with a
+     * separate sub-resource stack for each task.
+     */
+    private JaxRsAnnotationScanner(JaxRsAnnotationScanner other) {
+        super(other);
+    }
+
     @Override
     public String getName() {
         return "JAX-RS";
@@ -226,14 +239,69 @@ public class JaxRsAnnotationScanner extends AbstractAnnotationScanner {
         resourceClasses.addAll(getJaxRsResourceClasses(context));
         resourceClasses.addAll(getConfigurationResourceClasses(context));
 
+        if (resourceClasses.size() > 1 && context.getConfig().parallelResourcesEnable()
+                && !ParallelScanner.declaresSecuritySchemes(context.getIndex(),
+                        classInfo -> isProcessedBeforeResources(context, classInfo))) {
+            processResourceClassesInParallel(context, openApi, new ArrayList<>(resourceClasses));
+            return;
+        }
+
         for (ClassInfo resourceClass : resourceClasses) {
+            Measurement measurement = context.getScanListener().start();
             TypeResolver resolver = TypeResolver.forClass(context, resourceClass, null);
             context.getResolverStack().push(resolver);
             processResourceClass(context, openApi, resourceClass, null);
             context.getResolverStack().pop();
+            context.getScanListener().resourceClass(getName(), resourceClass, measurement.stop());
         }
     }
 
+    /**
+     * Check whether a class is processed before the resource classes, i.e. whether it is a
+     * JAX-RS application or a <code>package-info</code> class.
+     */
+    private static boolean isProcessedBeforeResources(final AnnotationScannerContext context, ClassInfo classInfo) {
+        return classInfo.name().withoutPackagePrefix().equals("package-info")
+                || JaxRsConstants.APPLICATION.stream()
+                        .map(context.getIndex()::getAllKnownSubclasses)
+                        .flatMap(Collection::stream)
+                        .anyMatch(application -> application.name().equals(classInfo.name()));
+    }
+
+    /**
+     * Process the resource classes concurrently. The classes are split into contiguous
+     * groups, each processed by a separate scanner instance with its own context, partial
+     * model, and schema registry. The results are merged in the same order the classes
+     * would have been processed sequentially. Not used when a resource class declares a
+     * security scheme, the scheme must be visible to the classes processed after it.
+     *
+     * @param context the scanning context
+     * @param openApi the OpenAPI model being processed
+     * @param resourceClasses the resource classes to process
+     */
+    private void processResourceClassesInParallel(final AnnotationScannerContext context,
+            OpenAPI openApi,
+            List<ClassInfo> resourceClasses) {
+
+        // The partial results are merged into openApi
+        ParallelScanner.scan(context, openApi, ParallelScanner.partition(context.getConfig(), resourceClasses),
+                (partialContext, group) -> {
+                    JaxRsAnnotationScanner scanner = new JaxRsAnnotationScanner(this);
+                    CurrentScannerInfo.register(scanner);
+
+                    for (ClassInfo resourceClass : group) {
+                        Measurement measurement = partialContext.getScanListener().start();
+                        TypeResolver resolver = TypeResolver.forClass(partialContext, resourceClass, null);
+                        partialContext.getResolverStack().push(resolver);
+                        scanner.processResourceClass(partialContext, partialContext.getOpenApi(), resourceClass, null);
+                        partialContext.getResolverStack().pop();
+                        partialContext.getScanListener().resourceClass(getName(), resourceClass, measurement.stop());
+                    }
+
+                    return partialContext.getOpenApi();
+                });
+    }
+
     /**
      * Processing a single JAX-RS resource class (annotated with @Path).
      *
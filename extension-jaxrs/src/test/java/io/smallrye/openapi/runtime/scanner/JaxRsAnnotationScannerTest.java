@@ -33,9 +33,11 @@ import io.smallrye.openapi.api.OpenApiConfig;
 import io.smallrye.openapi.api.OpenApiDocument;
 import io.smallrye.openapi.api.constants.OpenApiConstants;
 import io.smallrye.openapi.api.models.media.SchemaImpl;
+import io.smallrye.openapi.api.util.ProfileViews;
 import io.smallrye.openapi.runtime.OpenApiProcessor;
 import io.smallrye.openapi.runtime.io.Format;
 import io.smallrye.openapi.runtime.io.OpenApiParser;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
 
 /**
  * @author eric.wittmann@gmail.com
@@ -432,6 +434,30 @@ class JaxRsAnnotationScannerTest extends JaxRsDataObjectScannerTestBase {
         Assertions.assertTrue(result.getPaths().getPathItems().containsKey("/profile"));
     }
 
+    @Test
+    void testRetainedProfileViews() throws IOException {
+        Index index = indexOf(ProfileResource.class);
+        OpenAPI tagged = new OpenApiAnnotationScanner(dynamicConfig(OpenApiConstants.SCAN_PROFILES_RETAIN, "true"), index)
+                .scan();
+        ProfileViews views = new ProfileViews(tagged);
+
+        Assertions.assertEquals(Collections.singleton("external"), views.getProfiles());
+
+        OpenAPI included = new OpenApiAnnotationScanner(dynamicConfig(OpenApiConstants.SCAN_PROFILES, "external"), index)
+                .scan();
+        Assertions.assertEquals(OpenApiSerializer.serialize(included, Format.JSON),
+                OpenApiSerializer.serialize(views.view(Collections.singleton("external"), Collections.emptySet()), Format.JSON));
+
+        OpenAPI excluded = new OpenApiAnnotationScanner(dynamicConfig(OpenApiConstants.SCAN_EXCLUDE_PROFILES, "external"),
+                index).scan();
+        Assertions.assertEquals(OpenApiSerializer.serialize(excluded, Format.JSON),
+                OpenApiSerializer.serialize(views.view(Collections.emptySet(), Collections.singleton("external")), Format.JSON));
+
+        OpenAPI all = new OpenApiAnnotationScanner(emptyConfig(), index).scan();
+        Assertions.assertEquals(OpenApiSerializer.serialize(all, Format.JSON),
+                OpenApiSerializer.serialize(views.view(Collections.emptySet(), Collections.emptySet()), Format.JSON));
+    }
+
     @Path("/profile")
     static class ProfileResource {
         @GET
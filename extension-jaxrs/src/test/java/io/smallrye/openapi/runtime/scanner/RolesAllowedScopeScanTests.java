@@ -6,8 +6,20 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import jakarta.annotation.security.DeclareRoles;
+import jakarta.annotation.security.PermitAll;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import org.eclipse.microprofile.openapi.annotations.enums.SecuritySchemeType;
+import org.eclipse.microprofile.openapi.annotations.security.OAuthFlow;
+import org.eclipse.microprofile.openapi.annotations.security.OAuthFlows;
+import org.eclipse.microprofile.openapi.annotations.security.SecurityScheme;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.eclipse.microprofile.openapi.models.security.SecurityRequirement;
 import org.jboss.jandex.Index;
@@ -15,6 +27,9 @@ import org.jboss.jandex.IndexView;
 import org.junit.jupiter.api.Test;
 
 import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
 
 class RolesAllowedScopeScanTests extends IndexScannerTestBase {
 
@@ -233,4 +248,77 @@ class RolesAllowedScopeScanTests extends IndexScannerTestBase {
                 .get("oidc")
                 .getFlows());
     }
+
+    @Test
+    void testJakartaRolesAllowedParallelResources() throws IOException {
+        // The scheme is declared by the application, its flow's scopes are filled by the resource classes
+        Index index = indexOf(test.io.smallrye.openapi.runtime.scanner.jakarta.RolesAllowedApp.class,
+                test.io.smallrye.openapi.runtime.scanner.jakarta.RolesAllowedResource2.class,
+                test.io.smallrye.openapi.runtime.scanner.jakarta.RolesDeclaredResource.class,
+                test.io.smallrye.openapi.runtime.scanner.jakarta.RolesAllowedResource1.class,
+                test.io.smallrye.openapi.runtime.scanner.jakarta.NoRolesResource.class);
+        testParallelResourcesMatchSequential(index);
+    }
+
+    @Test
+    void testJakartaResourceSecuritySchemeParallelResources() throws IOException {
+        // The scheme is declared by a resource class, it must be visible to the resource classes scanned after it
+        Index index = indexOf(SchemeResource.class, AdminResource.class, UserResource.class,
+                test.io.smallrye.openapi.runtime.scanner.jakarta.RolesAllowedResource2.class);
+        OpenAPI result = testParallelResourcesMatchSequential(index);
+        assertNotNull(result.getComponents()
+                .getSecuritySchemes()
+                .get("resourceScheme")
+                .getFlows()
+                .getClientCredentials()
+                .getScopes());
+    }
+
+    OpenAPI testParallelResourcesMatchSequential(Index index) throws IOException {
+        OpenAPI sequential = new OpenApiAnnotationScanner(emptyConfig(), new FilteredIndexView(index, emptyConfig())).scan();
+        Map<String, String> properties = new HashMap<>();
+        properties.put(OpenApiConstants.SCAN_PARALLEL_RESOURCES, "true");
+        properties.put(OpenApiConstants.SCAN_PARALLELISM, "3");
+        OpenAPI parallel = new OpenApiAnnotationScanner(dynamicConfig(properties), new FilteredIndexView(index, emptyConfig())).scan();
+        printToConsole(parallel);
+
+        assertEquals(OpenApiSerializer.serialize(sequential, Format.JSON), OpenApiSerializer.serialize(parallel, Format.JSON));
+        return parallel;
+    }
+
+    @Path("/scheme")
+    @SecurityScheme(securitySchemeName = "resourceScheme", type = SecuritySchemeType.OAUTH2, flows = @OAuthFlows(clientCredentials = @OAuthFlow))
+    @DeclareRoles("reader")
+    static class SchemeResource {
+        @GET
+        @RolesAllowed("reader")
+        public String read() {
+            return null;
+        }
+    }
+
+    @Path("/admin")
+    @RolesAllowed("admin")
+    static class AdminResource {
+        @GET
+        public String get() {
+            return null;
+        }
+    }
+
+    @Path("/user")
+    static class UserResource {
+        @GET
+        @RolesAllowed({ "user", "admin" })
+        public String get() {
+            return null;
+        }
+
+        @GET
+        @Path("open")
+        @PermitAll
+        public String open() {
+            return null;
+        }
+    }
 }
@@ -1,18 +1,27 @@
 package io.smallrye.openapi.runtime.scanner;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.jboss.jandex.Index;
 import org.json.JSONException;
 import org.junit.jupiter.api.Test;
 
+import io.smallrye.openapi.api.constants.OpenApiConstants;
+
 class SubresourceScanTests extends IndexScannerTestBase {
 
     private static void test(String expectedResource, Class<?>... classes) throws IOException, JSONException {
+        test(expectedResource, new HashMap<>(), classes);
+    }
+
+    private static void test(String expectedResource, Map<String, String> config, Class<?>... classes)
+            throws IOException, JSONException {
         Index index = indexOf(classes);
-        OpenApiAnnotationScanner scanner = new OpenApiAnnotationScanner(dynamicConfig(new HashMap<>()), index);
+        OpenApiAnnotationScanner scanner = new OpenApiAnnotationScanner(dynamicConfig(config), index);
         OpenAPI result = scanner.scan();
         printToConsole(result);
         assertJsonEquals(expectedResource, result);
@@ -35,4 +44,14 @@ class SubresourceScanTests extends IndexScannerTestBase {
                 test.io.smallrye.openapi.runtime.scanner.jakarta.Sub2TestResource.class,
                 test.io.smallrye.openapi.runtime.scanner.jakarta.RecursiveLocatorResource.class);
     }
+
+    @Test
+    void testJakartaResteasyMultipartInputParallel() throws IOException, JSONException {
+        test("resource.subresources-with-params.json",
+                Collections.singletonMap(OpenApiConstants.SCAN_PARALLEL_RESOURCES, "true"),
+                test.io.smallrye.openapi.runtime.scanner.jakarta.MainTestResource.class,
+                test.io.smallrye.openapi.runtime.scanner.jakarta.Sub1TestResource.class,
+                test.io.smallrye.openapi.runtime.scanner.jakarta.Sub2TestResource.class,
+                test.io.smallrye.openapi.runtime.scanner.jakarta.RecursiveLocatorResource.class);
+    }
 }
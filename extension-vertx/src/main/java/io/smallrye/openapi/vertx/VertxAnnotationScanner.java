@@ -35,6 +35,7 @@ import io.smallrye.openapi.runtime.scanner.dataobject.TypeResolver;
 import io.smallrye.openapi.runtime.scanner.processor.JavaSecurityProcessor;
 import io.smallrye.openapi.runtime.scanner.spi.AbstractAnnotationScanner;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
+import io.smallrye.openapi.runtime.scanner.spi.ScanListener.Measurement;
 import io.smallrye.openapi.runtime.util.JandexUtil;
 import io.smallrye.openapi.runtime.util.ModelUtil;
 import io.smallrye.openapi.runtime.util.TypeUtil;
@@ -134,7 +135,9 @@ public class VertxAnnotationScanner extends AbstractAnnotationScanner {
         processScannerExtensions(context, applications);
 
         for (ClassInfo controller : applications) {
+            Measurement measurement = context.getScanListener().start();
             OpenAPI applicationOpenApi = processRouteClass(context, controller);
+            context.getScanListener().resourceClass(getName(), controller, measurement.stop());
             openApi = MergeUtil.merge(openApi, applicationOpenApi);
         }
     }
@@ -0,0 +1,75 @@
+package io.smallrye.openapi.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.openapi.api.util.FilterUtil;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiParser;
+
+/**
+ * Cost of applying a filter to a document covering the entire model, such that
+ * the filter visits every object of the model.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterBenchmark {
+
+    static class DescriptionFilter implements OASFilter {
+        @Override
+        public Operation filterOperation(Operation operation) {
+            if (operation.getDescription() == null) {
+                operation.setDescription(operation.getSummary());
+            }
+            return operation;
+        }
+
+        @Override
+        public Schema filterSchema(Schema schema) {
+            if (schema.getDescription() == null) {
+                schema.setDescription(schema.getTitle());
+            }
+            return schema;
+        }
+    }
+
+    byte[] document;
+    OpenAPI model;
+    OASFilter filter = new DescriptionFilter();
+
+    /*
+     * The filter is idempotent, the model is parsed once and filtered again by
+     * each invocation, visiting every object of the model each time.
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        document = SerializerBenchmark.readResource("/_everything.json");
+        model = OpenApiParser.parse(new ByteArrayInputStream(document), Format.JSON);
+    }
+
+    @Benchmark
+    public OpenAPI filter() {
+        return FilterUtil.applyFilter(filter, model);
+    }
+}
@@ -0,0 +1,78 @@
+package io.smallrye.openapi.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.openapi.api.util.MergeUtil;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiParser;
+
+/**
+ * Cost of merging two copies of a document covering the entire model, such that
+ * every property of every object is merged. {@code mergeReflective} uses the
+ * previous implementation ({@link ReflectiveMergeUtil}) for comparison with the
+ * accessor tables of {@link MergeUtil}.
+ *
+ * <p>
+ * Merging modifies the target, each invocation merges into a different copy of
+ * the document from a pool parsed before each iteration. An iteration is a batch
+ * of {@value #BATCH} invocations, the score is the time to merge the whole batch.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10, batchSize = MergeBenchmark.BATCH)
+@Measurement(iterations = 10, batchSize = MergeBenchmark.BATCH)
+@Fork(1)
+public class MergeBenchmark {
+
+    static final int BATCH = 100;
+
+    byte[] document;
+    OpenAPI source;
+    OpenAPI[] targets = new OpenAPI[BATCH];
+    int next;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        document = SerializerBenchmark.readResource("/_everything.json");
+        source = parse();
+    }
+
+    @Setup(Level.Iteration)
+    public void parseTargets() throws IOException {
+        for (int i = 0; i < BATCH; i++) {
+            targets[i] = parse();
+        }
+        next = 0;
+    }
+
+    OpenAPI parse() throws IOException {
+        return OpenApiParser.parse(new ByteArrayInputStream(document), Format.JSON);
+    }
+
+    @Benchmark
+    public OpenAPI merge() {
+        return MergeUtil.merge(targets[next++], source);
+    }
+
+    @Benchmark
+    public OpenAPI mergeReflective() {
+        return ReflectiveMergeUtil.merge(targets[next++], source);
+    }
+}
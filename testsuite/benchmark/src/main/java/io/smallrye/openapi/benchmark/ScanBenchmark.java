@@ -0,0 +1,104 @@
+package io.smallrye.openapi.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.eclipse.microprofile.openapi.OASConfig;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfigBuilder;
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.runtime.scanner.OpenApiAnnotationScanner;
+
+/**
+ * Cost of scanning the Jandex index of an application for annotations.
+ *
+ * <ul>
+ * <li>{@code scanSynthetic} scans an application generated by {@link SyntheticApi},
+ * of the shape given by the benchmark parameters</li>
+ * <li>{@code scanTestsuiteData} scans the classes of the {@code testsuite/data} module,
+ * an application using a broad range of JAX-RS, Jackson and Bean Validation features</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScanBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Synthetic {
+
+        @Param({ "10", "100" })
+        public int resources;
+
+        @Param({ "1", "5" })
+        public int dtoDepth;
+
+        @Param({ "1", "3" })
+        public int genericNesting;
+
+        OpenApiConfig config;
+        IndexView index;
+
+        @Setup
+        public void setup() throws IOException {
+            config = config(new HashMap<>());
+            index = SyntheticApi.index(resources, dtoDepth, genericNesting);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class TestsuiteData {
+
+        OpenApiConfig config;
+        IndexView index;
+
+        @Setup
+        public void setup() throws IOException {
+            Map<String, String> properties = new HashMap<>();
+            // Kotlin classes require the Kotlin metadata, the testsuite data is indexed without its dependencies
+            properties.put(OASConfig.SCAN_EXCLUDE_PACKAGES, "io.smallrye.openapi.testdata.kotlin");
+            config = config(properties);
+
+            try (InputStream source = ScanBenchmark.class.getResourceAsStream("/smallrye-open-api-testsuite-data.idx")) {
+                index = new IndexReader(source).read();
+            }
+        }
+    }
+
+    static OpenApiConfig config(Map<String, String> properties) {
+        return OpenApiConfig.fromConfig(new SmallRyeConfigBuilder()
+                .withSources(new PropertiesConfigSource(properties, "benchmark", ConfigSource.DEFAULT_ORDINAL))
+                .build());
+    }
+
+    @Benchmark
+    public OpenAPI scanSynthetic(Synthetic state) {
+        return new OpenApiAnnotationScanner(state.config, state.index).scan();
+    }
+
+    @Benchmark
+    public OpenAPI scanTestsuiteData(TestsuiteData state) {
+        return new OpenApiAnnotationScanner(state.config, state.index).scan();
+    }
+}
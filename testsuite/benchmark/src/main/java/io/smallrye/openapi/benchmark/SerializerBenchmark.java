@@ -0,0 +1,112 @@
+package io.smallrye.openapi.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
+
+import io.smallrye.openapi.api.models.OpenAPIImpl;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.JsonUtil;
+import io.smallrye.openapi.runtime.io.OpenApiParser;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+import io.smallrye.openapi.runtime.io.definition.DefinitionReader;
+import io.smallrye.openapi.runtime.io.definition.DefinitionWriter;
+
+/**
+ * Per-call cost of serializing and parsing a small document. The
+ * {@code *NewMapper} benchmarks create a new {@link ObjectMapper} for each call
+ * (the behavior of earlier versions) for comparison with the shared, preconfigured
+ * instances used by {@link OpenApiSerializer} and {@link OpenApiParser}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializerBenchmark {
+
+    @Param({ "JSON", "YAML" })
+    Format format;
+
+    byte[] document;
+    OpenAPI model;
+
+    @Setup
+    public void setup() throws IOException {
+        String resource = format == Format.JSON ? "/_everything.json" : "/_everything.yaml";
+
+        document = readResource(resource);
+
+        model = OpenApiParser.parse(new ByteArrayInputStream(document), format);
+    }
+
+    static byte[] readResource(String name) throws IOException {
+        try (InputStream stream = SerializerBenchmark.class.getResourceAsStream(name)) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            byte[] chunk = new byte[8192];
+            int count;
+
+            while ((count = stream.read(chunk)) > -1) {
+                buffer.write(chunk, 0, count);
+            }
+
+            return buffer.toByteArray();
+        }
+    }
+
+    @Benchmark
+    public String serialize() throws IOException {
+        return OpenApiSerializer.serialize(model, format);
+    }
+
+    @Benchmark
+    public String serializeNewMapper() throws IOException {
+        ObjectNode tree = JsonUtil.objectNode();
+        DefinitionWriter.writeOpenAPI(tree, model);
+
+        if (format == Format.JSON) {
+            return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(tree);
+        }
+
+        YAMLFactory factory = new YAMLFactory();
+        factory.enable(YAMLGenerator.Feature.MINIMIZE_QUOTES);
+        factory.enable(YAMLGenerator.Feature.ALWAYS_QUOTE_NUMBERS_AS_STRINGS);
+        return new ObjectMapper(factory).writer().writeValueAsString(tree);
+    }
+
+    @Benchmark
+    public OpenAPI parse() throws IOException {
+        return OpenApiParser.parse(new ByteArrayInputStream(document), format);
+    }
+
+    @Benchmark
+    public OpenAPI parseNewMapper() throws IOException {
+        ObjectMapper mapper = format == Format.JSON ? new ObjectMapper() : new ObjectMapper(new YAMLFactory());
+        JsonNode tree = mapper.readTree(new ByteArrayInputStream(document));
+        OpenAPI result = new OpenAPIImpl();
+        DefinitionReader.processDefinition(result, tree);
+        return result;
+    }
+}
@@ -0,0 +1,207 @@
+package io.smallrye.openapi.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+
+/**
+ * Generates and compiles a JAX-RS application of a given shape and creates its
+ * Jandex index. Each resource class has its own graph of DTO classes:
+ *
+ * <ul>
+ * <li>{@code resources} - the number of resource classes, each with four operations</li>
+ * <li>{@code dtoDepth} - the depth of the DTO graph of each resource, each DTO refers to
+ * the next level as a property, a list and a map value</li>
+ * <li>{@code genericNesting} - the number of times the response of the list operation is
+ * wrapped in a generic {@code Page<T>} type, e.g. {@code Page<Page<Dto>>} for 2</li>
+ * </ul>
+ *
+ * The application is compiled with the system Java compiler, the benchmarks must
+ * therefore run on a JDK.
+ */
+class SyntheticApi {
+
+    static final String PACKAGE = "io.smallrye.openapi.benchmark.synthetic";
+
+    private SyntheticApi() {
+    }
+
+    static Index index(int resources, int dtoDepth, int genericNesting) throws IOException {
+        List<JavaFileObject> sources = new ArrayList<>();
+        sources.add(source("Page", page()));
+
+        for (int r = 0; r < resources; r++) {
+            sources.add(source("Resource" + r, resource(r, dtoDepth, genericNesting)));
+
+            for (int d = 0; d < dtoDepth; d++) {
+                sources.add(source(dtoName(r, d), dto(r, d, dtoDepth)));
+            }
+        }
+
+        Indexer indexer = new Indexer();
+
+        for (byte[] classFile : compile(sources)) {
+            indexer.index(new ByteArrayInputStream(classFile));
+        }
+
+        return indexer.complete();
+    }
+
+    private static String dtoName(int resource, int depth) {
+        return "Dto" + resource + "_" + depth;
+    }
+
+    private static String page() {
+        return "package " + PACKAGE + ";\n"
+                + "public class Page<T> {\n"
+                + "    public int number;\n"
+                + "    public int size;\n"
+                + "    public long total;\n"
+                + "    public java.util.List<T> items;\n"
+                + "    public T first;\n"
+                + "}\n";
+    }
+
+    private static String dto(int resource, int depth, int dtoDepth) {
+        StringBuilder source = new StringBuilder();
+        source.append("package ").append(PACKAGE).append(";\n")
+                .append("@org.eclipse.microprofile.openapi.annotations.media.Schema(description = \"DTO ")
+                .append(resource).append(" at depth ").append(depth).append("\")\n")
+                .append("public class ").append(dtoName(resource, depth)).append(" {\n")
+                .append("    @org.eclipse.microprofile.openapi.annotations.media.Schema(required = true)\n")
+                .append("    public String id;\n")
+                .append("    public String name;\n")
+                .append("    public int count;\n")
+                .append("    public java.math.BigDecimal amount;\n")
+                .append("    public java.time.OffsetDateTime created;\n")
+                .append("    public java.util.List<String> tags;\n");
+
+        if (depth + 1 < dtoDepth) {
+            String next = dtoName(resource, depth + 1);
+            source.append("    public ").append(next).append(" child;\n")
+                    .append("    public java.util.List<").append(next).append("> children;\n")
+                    .append("    public java.util.Map<String, ").append(next).append("> childrenByName;\n");
+        }
+
+        return source.append("}\n").toString();
+    }
+
+    private static String resource(int resource, int dtoDepth, int genericNesting) {
+        String dto = dtoDepth > 0 ? dtoName(resource, 0) : "String";
+        String page = dto;
+
+        for (int n = 0; n < genericNesting; n++) {
+            page = "Page<" + page + ">";
+        }
+
+        return "package " + PACKAGE + ";\n"
+                + "import jakarta.ws.rs.*;\n"
+                + "import jakarta.ws.rs.core.MediaType;\n"
+                + "import org.eclipse.microprofile.openapi.annotations.Operation;\n"
+                + "import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;\n"
+                + "import org.eclipse.microprofile.openapi.annotations.tags.Tag;\n"
+                + "@Path(\"/resource" + resource + "\")\n"
+                + "@Tag(name = \"resource" + resource + "\")\n"
+                + "@Produces(MediaType.APPLICATION_JSON)\n"
+                + "@Consumes(MediaType.APPLICATION_JSON)\n"
+                + "public class Resource" + resource + " {\n"
+                + "    @GET\n"
+                + "    @Operation(summary = \"List\")\n"
+                + "    public " + page + " list(@QueryParam(\"page\") int page, @QueryParam(\"size\") int size) {\n"
+                + "        return null;\n"
+                + "    }\n"
+                + "    @GET\n"
+                + "    @Path(\"{id}\")\n"
+                + "    @Operation(summary = \"Get\")\n"
+                + "    @APIResponse(responseCode = \"404\", description = \"Not found\")\n"
+                + "    public " + dto + " get(@PathParam(\"id\") String id) {\n"
+                + "        return null;\n"
+                + "    }\n"
+                + "    @POST\n"
+                + "    @Operation(summary = \"Create\")\n"
+                + "    public " + dto + " create(" + dto + " value) {\n"
+                + "        return value;\n"
+                + "    }\n"
+                + "    @DELETE\n"
+                + "    @Path(\"{id}\")\n"
+                + "    @Operation(summary = \"Delete\")\n"
+                + "    public void delete(@PathParam(\"id\") String id) {\n"
+                + "    }\n"
+                + "}\n";
+    }
+
+    private static JavaFileObject source(String simpleName, String content) {
+        URI uri = URI.create("string:///" + PACKAGE.replace('.', '/') + '/' + simpleName + ".java");
+
+        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return content;
+            }
+        };
+    }
+
+    private static List<byte[]> compile(List<JavaFileObject> sources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+
+        if (compiler == null) {
+            throw new IllegalStateException("The benchmarks using a synthetic API must run on a JDK");
+        }
+
+        List<ByteArrayOutputStream> classFiles = new ArrayList<>();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+        try (StandardJavaFileManager standardManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            JavaFileManager manager = new ForwardingJavaFileManager<StandardJavaFileManager>(standardManager) {
+                @Override
+                public JavaFileObject getJavaFileForOutput(Location location, String className, JavaFileObject.Kind kind,
+                        FileObject sibling) {
+                    URI uri = URI.create("bytes:///" + className.replace('.', '/') + kind.extension);
+
+                    return new SimpleJavaFileObject(uri, kind) {
+                        @Override
+                        public OutputStream openOutputStream() {
+                            ByteArrayOutputStream classFile = new ByteArrayOutputStream();
+                            classFiles.add(classFile);
+                            return classFile;
+                        }
+                    };
+                }
+            };
+
+            List<String> options = Arrays.asList("-classpath", System.getProperty("java.class.path"), "-proc:none");
+            StringWriter output = new StringWriter();
+
+            if (!compiler.getTask(output, manager, diagnostics, options, null, sources).call()) {
+                throw new IllegalStateException("Compilation of the synthetic API failed: " + diagnostics.getDiagnostics());
+            }
+        }
+
+        List<byte[]> result = new ArrayList<>(classFiles.size());
+
+        for (ByteArrayOutputStream classFile : classFiles) {
+            result.add(classFile.toByteArray());
+        }
+
+        return result;
+    }
+}
@@ -11,8 +11,6 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.stream.Collectors;
 
-import org.eclipse.microprofile.config.Config;
-import org.eclipse.microprofile.config.spi.ConfigSource;
 import org.eclipse.microprofile.openapi.OASConfig;
 import org.gradle.api.file.RegularFileProperty;
 import org.gradle.api.model.ObjectFactory;
@@ -20,8 +18,6 @@ import org.gradle.api.provider.ListProperty;
 import org.gradle.api.provider.MapProperty;
 import org.gradle.api.provider.Property;
 
-import io.smallrye.config.ConfigValuePropertiesConfigSource;
-import io.smallrye.config.SmallRyeConfigBuilder;
 import io.smallrye.openapi.api.OpenApiConfig;
 import io.smallrye.openapi.api.constants.OpenApiConstants;
 
@@ -133,16 +129,10 @@ class Configs implements SmallryeOpenApiProperties {
         encoding = objects.property(String.class).convention(ext.getEncoding());
     }
 
-    OpenApiConfig asOpenApiConfig() {
-        Config config = new SmallRyeConfigBuilder()
-                .withSources(
-                        new ConfigValuePropertiesConfigSource(getProperties(), "maven-plugin", ConfigSource.DEFAULT_ORDINAL))
-                .build();
-
-        return OpenApiConfig.fromConfig(config);
-    }
-
-    private Map<String, String> getProperties() {
+    /**
+     * @return the configuration properties to create the {@link OpenApiConfig} from
+     */
+    Map<String, String> getProperties() {
         // First check if the configProperties is set, if so, load that.
         Map<String, String> cp = new HashMap<>();
         File propertiesFile = configProperties.getAsFile().getOrElse(null);
@@ -63,10 +63,9 @@ public class SmallryeOpenApiPlugin implements Plugin<Project> {
                     t.setGroup("build");
                     t.setDescription("Smallrye OpenAPI generator");
                     t.dependsOn(sourceSet.getCompileJavaTaskName());
-                    t.getInputs().files(sourceSet.getAllSource().getSourceDirectories());
+                    // Classes, resources and dependencies are declared by the task itself
                     t.getInputs().files(sourceSet.getOutput().getDirs()).withPathSensitivity(
                             PathSensitivity.RELATIVE);
-                    t.getInputs().files(configProvider).withPathSensitivity(PathSensitivity.RELATIVE);
                 });
 
         project.getTasks().named(sourceSet.getJarTaskName(), Jar.class)
@@ -0,0 +1,321 @@
+package io.smallrye.openapi.gradleplugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.UnsupportedCharsetException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.gradle.api.GradleException;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
+import org.gradle.api.provider.MapProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.workers.WorkAction;
+import org.gradle.workers.WorkParameters;
+import org.jboss.jandex.IndexView;
+
+import io.smallrye.config.ConfigValuePropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfigBuilder;
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.OpenApiDocument;
+import io.smallrye.openapi.runtime.OpenApiProcessor;
+import io.smallrye.openapi.runtime.OpenApiStaticFile;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+import io.smallrye.openapi.runtime.scanner.OpenApiAnnotationScanner;
+
+/**
+ * Schema generation, submitted by {@link SmallryeOpenApiTask} to the Gradle worker API.
+ *
+ * <p>
+ * The work action runs with classloader isolation, the isolated classloader only contains the
+ * classes of the plugin. The project's classes and its dependencies are added by a child
+ * classloader, from which model readers and filters of the project are loaded. The child
+ * classloader delegates to its parent first, so that the plugin's own versions of the OpenAPI API
+ * and implementation are used even when the project depends on other versions.
+ */
+public abstract class SmallryeOpenApiWorkAction implements WorkAction<SmallryeOpenApiWorkAction.Parameters> {
+
+    private static final Logger LOGGER = Logging.getLogger(SmallryeOpenApiWorkAction.class);
+
+    private static final String META_INF_OPENAPI_YAML = "META-INF/openapi.yaml";
+    private static final String WEB_INF_CLASSES_META_INF_OPENAPI_YAML = "WEB-INF/classes/META-INF/openapi.yaml";
+    private static final String META_INF_OPENAPI_YML = "META-INF/openapi.yml";
+    private static final String WEB_INF_CLASSES_META_INF_OPENAPI_YML = "WEB-INF/classes/META-INF/openapi.yml";
+    private static final String META_INF_OPENAPI_JSON = "META-INF/openapi.json";
+    private static final String WEB_INF_CLASSES_META_INF_OPENAPI_JSON = "WEB-INF/classes/META-INF/openapi.json";
+
+    public interface Parameters extends WorkParameters {
+
+        /**
+         * @return the directories of the project's classes
+         */
+        ConfigurableFileCollection getClassesDirs();
+
+        /**
+         * @return the dependencies of the project, used to load its model reader and filter
+         */
+        ConfigurableFileCollection getClasspath();
+
+        /**
+         * @return the dependencies to index, empty when scanning dependencies is disabled
+         */
+        ConfigurableFileCollection getDependencies();
+
+        ConfigurableFileCollection getResourcesSrcDirs();
+
+        /**
+         * @return the configuration properties, see {@link Configs#getProperties()}
+         */
+        MapProperty<String, String> getProperties();
+
+        DirectoryProperty getOutputDirectory();
+
+        Property<String> getSchemaFilename();
+
+        Property<String> getEncoding();
+    }
+
+    @Override
+    public void execute() {
+        Parameters parameters = getParameters();
+
+        try {
+            IndexView index = new GradleDependencyIndexCreator(LOGGER).createIndex(parameters.getDependencies().getFiles(),
+                    parameters.getClassesDirs().getFiles());
+            OpenApiDocument schema = generateSchema(index, parameters.getResourcesSrcDirs().getFiles());
+            write(schema);
+        } catch (Exception ex) {
+            throw new GradleException(
+                    "Could not generate OpenAPI Schema",
+                    ex); // TODO allow failOnError = false ?
+        }
+    }
+
+    private OpenApiDocument generateSchema(IndexView index, Set<File> resourcesSrcDirs) throws IOException {
+        try (URLClassLoader classLoader = projectClassLoader()) {
+            return generateSchema(index, resourcesSrcDirs, classLoader);
+        }
+    }
+
+    /**
+     * Create the classloader of the project's classes and dependencies, its parent is the isolated
+     * classloader of this work action.
+     */
+    private URLClassLoader projectClassLoader() throws IOException {
+        Parameters parameters = getParameters();
+        List<URL> urls = new ArrayList<>();
+
+        for (File file : parameters.getClassesDirs().plus(parameters.getClasspath()).getFiles()) {
+            urls.add(file.toURI().toURL());
+        }
+
+        return new URLClassLoader(urls.toArray(new URL[0]), SmallryeOpenApiWorkAction.class.getClassLoader());
+    }
+
+    private OpenApiDocument generateSchema(IndexView index, Set<File> resourcesSrcDirs, ClassLoader classLoader)
+            throws IOException {
+        Config config = new SmallRyeConfigBuilder()
+                .withSources(
+                        new ConfigValuePropertiesConfigSource(getParameters().getProperties().get(), "gradle-plugin",
+                                ConfigSource.DEFAULT_ORDINAL))
+                .build();
+        OpenApiConfig openApiConfig = OpenApiConfig.fromConfig(config);
+
+        OpenAPI staticModel = generateStaticModel(openApiConfig, resourcesSrcDirs);
+        OpenAPI annotationModel = generateAnnotationModel(index, openApiConfig, classLoader);
+        OpenAPI readerModel = OpenApiProcessor.modelFromReader(openApiConfig, classLoader);
+
+        // Work actions of several projects may run concurrently, do not share the document instance
+        OpenApiDocument document = OpenApiDocument.newInstance();
+
+        document.reset();
+        document.config(openApiConfig);
+
+        if (annotationModel != null) {
+            addingModelDebug("annotations", annotationModel);
+            document.modelFromAnnotations(annotationModel);
+        }
+        if (readerModel != null) {
+            addingModelDebug("reader", readerModel);
+            document.modelFromReader(readerModel);
+        }
+        if (staticModel != null) {
+            addingModelDebug("static", staticModel);
+            document.modelFromStaticFile(staticModel);
+        }
+        document.filter(OpenApiProcessor.getFilter(openApiConfig, classLoader));
+        document.initialize();
+
+        return document;
+    }
+
+    private void addingModelDebug(String from, OpenAPI model) {
+        LOGGER.debug("Adding model from {}...", from);
+        nullSafeMap("callbacks", from, java.util.Optional.ofNullable(model.getComponents()).map(Components::getCallbacks));
+        nullSafeMap("examples", from, java.util.Optional.ofNullable(model.getComponents()).map(Components::getExamples));
+        nullSafeMap("headers", from, java.util.Optional.ofNullable(model.getComponents()).map(Components::getHeaders));
+        nullSafeMap("links", from, java.util.Optional.ofNullable(model.getComponents()).map(Components::getLinks));
+        nullSafeMap("parameters", from, java.util.Optional.ofNullable(model.getComponents()).map(Components::getParameters));
+        nullSafeMap("request bodies", from,
+                java.util.Optional.ofNullable(model.getComponents()).map(Components::getRequestBodies));
+        nullSafeMap("responses", from, java.util.Optional.ofNullable(model.getComponents()).map(Components::getResponses));
+        nullSafeMap("schemas", from, java.util.Optional.ofNullable(model.getComponents()).map(Components::getSchemas));
+        nullSafeMap("security schemes", from,
+                java.util.Optional.ofNullable(model.getComponents()).map(Components::getSecuritySchemes));
+        nullSafeColl("servers", from, java.util.Optional.ofNullable(model.getServers()));
+        nullSafeMap("path items", from, java.util.Optional.ofNullable(model.getPaths()).map(
+                org.eclipse.microprofile.openapi.models.Paths::getPathItems));
+        nullSafeColl("security", from, java.util.Optional.ofNullable(model.getSecurity()));
+        nullSafeColl("tags", from, java.util.Optional.ofNullable(model.getTags()));
+        nullSafeMap("extensions", from, java.util.Optional.ofNullable(model.getExtensions()));
+    }
+
+    private void nullSafeMap(String what, String from, java.util.Optional<Map<?, ?>> collection) {
+        nullSafe(what, from, collection.map(Map::size));
+    }
+
+    private void nullSafeColl(String what, String from, java.util.Optional<Collection<?>> collection) {
+        nullSafe(what, from, collection.map(Collection::size));
+    }
+
+    private void nullSafe(String what, String from, java.util.Optional<Integer> collection) {
+        LOGGER.debug("Adding {} {} from {}", collection.map(Object::toString).orElse("<no>"), what, from);
+    }
+
+    private OpenAPI generateAnnotationModel(IndexView indexView, OpenApiConfig openApiConfig,
+            ClassLoader classLoader) {
+        OpenApiAnnotationScanner openApiAnnotationScanner = new OpenApiAnnotationScanner(openApiConfig,
+                classLoader, indexView);
+        return openApiAnnotationScanner.scan();
+    }
+
+    private OpenAPI generateStaticModel(OpenApiConfig openApiConfig, Set<File> resourcesSrcDirs) throws IOException {
+        Path staticFile = getStaticFile(resourcesSrcDirs);
+        if (staticFile != null) {
+            try (InputStream is = Files.newInputStream(staticFile)) {
+                try (OpenApiStaticFile openApiStaticFile = new OpenApiStaticFile(is,
+                        getFormat(staticFile))) {
+                    return OpenApiProcessor.modelFromStaticFile(openApiConfig, openApiStaticFile);
+                }
+            }
+        }
+        return null;
+    }
+
+    private Path getStaticFile(Set<File> resourcesSrcDirs) {
+        Path staticFile = resourcesSrcDirs
+                .stream()
+                .map(this::getStaticFile)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+        return staticFile;
+    }
+
+    private Path getStaticFile(File dir) {
+        LOGGER.debug("Checking for static file in {}", dir);
+        Path classesPath = dir.toPath();
+        if (Files.exists(classesPath)) {
+            Path resourcePath = Paths.get(classesPath.toString(), META_INF_OPENAPI_YAML);
+            if (Files.exists(resourcePath)) {
+                return resourcePath;
+            }
+            resourcePath = Paths.get(classesPath.toString(), WEB_INF_CLASSES_META_INF_OPENAPI_YAML);
+            if (Files.exists(resourcePath)) {
+                return resourcePath;
+            }
+            resourcePath = Paths.get(classesPath.toString(), META_INF_OPENAPI_YML);
+            if (Files.exists(resourcePath)) {
+                return resourcePath;
+            }
+            resourcePath = Paths.get(classesPath.toString(), WEB_INF_CLASSES_META_INF_OPENAPI_YML);
+            if (Files.exists(resourcePath)) {
+                return resourcePath;
+            }
+            resourcePath = Paths.get(classesPath.toString(), META_INF_OPENAPI_JSON);
+            if (Files.exists(resourcePath)) {
+                return resourcePath;
+            }
+            resourcePath = Paths.get(classesPath.toString(), WEB_INF_CLASSES_META_INF_OPENAPI_JSON);
+            if (Files.exists(resourcePath)) {
+                return resourcePath;
+            }
+        }
+        return null;
+    }
+
+    private Format getFormat(Path path) {
+        if (path.endsWith(".json")) {
+            return Format.JSON;
+        }
+        return Format.YAML;
+    }
+
+    private void write(OpenApiDocument schema) throws GradleException {
+        File outputDirectory = getParameters().getOutputDirectory().get().getAsFile();
+
+        try {
+            String yaml = OpenApiSerializer.serialize(schema.get(), Format.YAML);
+            String json = OpenApiSerializer.serialize(schema.get(), Format.JSON);
+            Path directory = outputDirectory.toPath();
+
+            if (!Files.exists(directory)) {
+                Files.createDirectories(directory);
+            }
+
+            Charset charset;
+            try {
+                charset = Charset.forName(getParameters().getEncoding().get().trim());
+            } catch (IllegalCharsetNameException e) {
+                throw new GradleException("encoding parameter does not define a legal charset name", e);
+            } catch (UnsupportedCharsetException e) {
+                throw new GradleException("encoding parameter does not define a supported charset", e);
+            }
+
+            writeSchemaFile(directory, "yaml", yaml.getBytes(charset));
+
+            writeSchemaFile(directory, "json", json.getBytes(charset));
+
+            LOGGER.info("Wrote the schema files to {}", outputDirectory.getAbsolutePath());
+        } catch (IOException e) {
+            throw new GradleException("Can't write the result", e);
+        }
+    }
+
+    private void writeSchemaFile(Path directory, String type, byte[] contents) throws IOException {
+        Path file = Paths.get(directory.toString(), getParameters().getSchemaFilename().get() + "." + type);
+        if (!Files.exists(file.getParent())) {
+            Files.createDirectories(file.getParent());
+        }
+        if (!Files.exists(file)) {
+            Files.createFile(file);
+        }
+        Files.write(
+                file,
+                contents,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+}
@@ -17,7 +17,9 @@ import org.gradle.api.Project;
 import org.gradle.api.Task;
 import org.gradle.api.provider.Provider;
 import org.gradle.testfixtures.ProjectBuilder;
+import org.gradle.testkit.runner.BuildResult;
 import org.gradle.testkit.runner.GradleRunner;
+import org.gradle.testkit.runner.TaskOutcome;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
@@ -151,7 +153,29 @@ class SmallryeOpenApiPluginTest {
         smokeProject(buildDir, true, "quarkusBuild");
     }
 
+    @Test
+    void outputsFromBuildCache(@TempDir Path buildDir) throws Exception {
+        writeSmokeProject(buildDir, false);
+
+        runGradleTask(buildDir, SmallryeOpenApiPlugin.TASK_NAME);
+        runGradleTask(buildDir, "clean");
+        BuildResult result = runGradleTask(buildDir, SmallryeOpenApiPlugin.TASK_NAME);
+
+        assertThat(result.task(":" + SmallryeOpenApiPlugin.TASK_NAME).getOutcome()).isEqualTo(TaskOutcome.FROM_CACHE);
+        checkGeneratedFiles(buildDir);
+    }
+
     void smokeProject(Path buildDir, boolean withQuarkus, String taskName) throws Exception {
+        writeSmokeProject(buildDir, withQuarkus);
+
+        runGradleTask(buildDir, taskName);
+
+        checkGeneratedFiles(buildDir);
+
+        checkJarContents(buildDir);
+    }
+
+    private static void writeSmokeProject(Path buildDir, boolean withQuarkus) throws IOException {
         Files.write(buildDir.resolve("settings.gradle"),
                 singletonList("rootProject.name = 'smoke-test-project'"));
 
@@ -217,12 +241,6 @@ class SmallryeOpenApiPluginTest {
                         "        return \"foo\";",
                         "    }",
                         "}"));
-
-        runGradleTask(buildDir, taskName);
-
-        checkGeneratedFiles(buildDir);
-
-        checkJarContents(buildDir);
     }
 
     private static void checkJarContents(Path buildDir) throws Exception {
@@ -267,8 +285,8 @@ class SmallryeOpenApiPluginTest {
         assertThat(paths.get("/mypath").get("get").get("operationId").asText()).isEqualTo("dummyThing");
     }
 
-    private static void runGradleTask(Path buildDir, String taskName) {
-        GradleRunner.create()
+    private static BuildResult runGradleTask(Path buildDir, String taskName) {
+        return GradleRunner.create()
                 .withPluginClasspath()
                 .withProjectDir(buildDir.toFile())
                 .withArguments(
@@ -8,21 +8,26 @@ import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.charset.Charset;
 import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
 import java.nio.charset.UnsupportedCharsetException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.DependencyResolutionRequiredException;
 import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecution;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugins.annotations.Component;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
@@ -92,6 +97,32 @@ public class GenerateSchemaMojo extends AbstractMojo {
     @Parameter(defaultValue = "false", property = "scanDependenciesDisable")
     private boolean scanDependenciesDisable;
 
+    /**
+     * Directory where the indexes of dependency jars are stored, so that later builds do not index the same jar
+     * again. Indexes are stored per artifact and checksum of the jar file.
+     */
+    @Parameter(defaultValue = "${settings.localRepository}/.cache/smallrye-open-api/index", property = "dependencyIndexCacheDirectory")
+    private File dependencyIndexCacheDirectory;
+
+    /**
+     * Disable storing the indexes of dependency jars in the {@code dependencyIndexCacheDirectory}.
+     */
+    @Parameter(defaultValue = "false", property = "dependencyIndexCacheDisable")
+    private boolean dependencyIndexCacheDisable;
+
+    /**
+     * Index dependency jars that contain a {@code META-INF/jandex.idx} rather than using the shipped index, which
+     * may not include all classes of the jar.
+     */
+    @Parameter(defaultValue = "false", property = "dependencyIndexShippedDisable")
+    private boolean dependencyIndexShippedDisable;
+
+    /**
+     * Maximum number of dependency jars indexed in parallel. Defaults to the number of available processors.
+     */
+    @Parameter(property = "dependencyIndexThreads")
+    private Integer dependencyIndexThreads;
+
     /**
      * Attach the built OpenAPI schema as build artifact.
      */
@@ -249,6 +280,14 @@ public class GenerateSchemaMojo extends AbstractMojo {
     @Parameter(property = "scanResourceClasses")
     private Map<String, String> scanResourceClasses;
 
+    /**
+     * Disable the up-to-date check. Unless disabled, the schema files are not generated again when the module's
+     * classes and resources, the dependencies, the configuration properties and the parameters of this plugin are
+     * unchanged since the previous generation.
+     */
+    @Parameter(defaultValue = "false", property = "upToDateCheckDisable")
+    private boolean upToDateCheckDisable;
+
     @Component
     private MavenDependencyIndexCreator mavenDependencyIndexCreator;
 
@@ -258,14 +297,37 @@ public class GenerateSchemaMojo extends AbstractMojo {
     @Parameter(defaultValue = "${project}", required = true, readonly = true)
     private MavenProject mavenProject;
 
+    @Parameter(defaultValue = "${mojoExecution}", required = true, readonly = true)
+    private MojoExecution mojoExecution;
+
+    @Parameter(defaultValue = "${plugin.version}", required = true, readonly = true)
+    private String pluginVersion;
+
     @Override
     public void execute() throws MojoExecutionException {
         if (!skip) {
             try {
+                String fingerprint = upToDateCheckDisable || outputDirectory == null ? null : fingerprint();
+
+                if (fingerprint != null && isUpToDate(fingerprint)) {
+                    getLog().info("The schema files in " + outputDirectory.getAbsolutePath() + " are up to date");
+                    attachSchemaFile(getSchemaFile(outputDirectory.toPath(), "yaml"));
+                    attachSchemaFile(getSchemaFile(outputDirectory.toPath(), "json"));
+                    return;
+                }
+
                 IndexView index = mavenDependencyIndexCreator.createIndex(mavenProject, scanDependenciesDisable,
-                        includeDependenciesScopes, includeDependenciesTypes);
+                        includeDependenciesScopes, includeDependenciesTypes, getDependencyIndexCacheDirectory(),
+                        !dependencyIndexShippedDisable,
+                        dependencyIndexThreads != null ? dependencyIndexThreads : Runtime.getRuntime().availableProcessors());
                 OpenApiDocument schema = generateSchema(index);
                 write(schema);
+
+                if (fingerprint != null) {
+                    Path fingerprintFile = getFingerprintFile();
+                    Files.createDirectories(fingerprintFile.getParent());
+                    Files.write(fingerprintFile, fingerprint.getBytes(StandardCharsets.UTF_8));
+                }
             } catch (Exception ex) {
                 getLog().error(ex);
                 throw new MojoExecutionException("Could not generate OpenAPI Schema", ex); // TODO allow failOnError = false ?
@@ -273,6 +335,75 @@ public class GenerateSchemaMojo extends AbstractMojo {
         }
     }
 
+    /**
+     * Fingerprint of everything the generated schema depends on: the module's classes and
+     * resources, the dependencies that are indexed or on the compile classpath, the configuration
+     * properties and the parameters of this plugin.
+     */
+    private String fingerprint() throws IOException {
+        InputFingerprint fingerprint = new InputFingerprint()
+                .add("pluginVersion", pluginVersion)
+                .add("outputDirectory", outputDirectory.getAbsolutePath())
+                .add("schemaFilename", schemaFilename)
+                .add("encoding", encoding)
+                .add("defaultCharset", Charset.defaultCharset().name())
+                .add("scanDependenciesDisable", scanDependenciesDisable)
+                .add("includeDependenciesScopes", includeDependenciesScopes)
+                .add("includeDependenciesTypes", includeDependenciesTypes)
+                .add("dependencyIndexShippedDisable", dependencyIndexShippedDisable)
+                .add("systemPropertyVariables", systemPropertyVariables)
+                .add("properties", getProperties())
+                .addFiles("classes", Paths.get(mavenProject.getBuild().getOutputDirectory()));
+
+        List<Artifact> artifacts = mavenProject.getArtifacts()
+                .stream()
+                .filter(this::isSchemaInput)
+                .sorted(Comparator.comparing(Artifact::getId))
+                .collect(Collectors.toList());
+
+        for (Artifact artifact : artifacts) {
+            fingerprint.addArtifact(artifact);
+        }
+
+        return fingerprint.build();
+    }
+
+    /**
+     * Whether the artifact may be indexed or is on the compile classpath used to load the model
+     * reader, filters and other classes given by the configuration.
+     */
+    private boolean isSchemaInput(Artifact artifact) {
+        String scope = artifact.getScope();
+
+        return scope == null
+                || Artifact.SCOPE_COMPILE.equals(scope)
+                || Artifact.SCOPE_PROVIDED.equals(scope)
+                || Artifact.SCOPE_SYSTEM.equals(scope)
+                || includeDependenciesScopes.contains(scope);
+    }
+
+    private boolean isUpToDate(String fingerprint) throws IOException {
+        Path fingerprintFile = getFingerprintFile();
+        Path directory = outputDirectory.toPath();
+
+        return Files.isRegularFile(fingerprintFile)
+                && Files.isRegularFile(getSchemaFile(directory, "yaml"))
+                && Files.isRegularFile(getSchemaFile(directory, "json"))
+                && fingerprint.equals(new String(Files.readAllBytes(fingerprintFile), StandardCharsets.UTF_8));
+    }
+
+    private Path getFingerprintFile() {
+        return Paths.get(mavenProject.getBuild().getDirectory(), "smallrye-open-api",
+                mojoExecution.getExecutionId() + "-" + schemaFilename + ".fingerprint");
+    }
+
+    private Path getDependencyIndexCacheDirectory() {
+        if (dependencyIndexCacheDisable || dependencyIndexCacheDirectory == null) {
+            return null;
+        }
+        return dependencyIndexCacheDirectory.toPath();
+    }
+
     private OpenApiDocument generateSchema(IndexView index) throws IOException, DependencyResolutionRequiredException {
         if (systemPropertyVariables != null) {
             systemPropertyVariables.forEach(System::setProperty);
@@ -483,8 +614,12 @@ public class GenerateSchemaMojo extends AbstractMojo {
         }
     }
 
+    private Path getSchemaFile(Path directory, String type) {
+        return Paths.get(directory.toString(), schemaFilename + "." + type);
+    }
+
     private void writeSchemaFile(Path directory, String type, byte[] contents) throws IOException {
-        Path file = Paths.get(directory.toString(), schemaFilename + "." + type);
+        Path file = getSchemaFile(directory, type);
         if (!Files.exists(file)) {
             Files.createFile(file);
         }
@@ -494,7 +629,13 @@ public class GenerateSchemaMojo extends AbstractMojo {
                 StandardOpenOption.CREATE,
                 StandardOpenOption.TRUNCATE_EXISTING);
 
+        attachSchemaFile(file);
+    }
+
+    private void attachSchemaFile(Path file) {
         if (attachArtifacts) {
+            String fileName = file.getFileName().toString();
+            String type = fileName.substring(fileName.lastIndexOf('.') + 1);
             mavenProjectHelper.attachArtifact(mavenProject, type, schemaFilename, file.toFile());
         }
     }
@@ -0,0 +1,109 @@
+package io.smallrye.openapi.mavenplugin;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.maven.artifact.Artifact;
+
+import io.smallrye.openapi.runtime.util.Sha256;
+
+/**
+ * SHA-256 digest of the inputs of a schema generation. Every value is added
+ * together with its name, so that a value moved from one input to another
+ * results in a different fingerprint.
+ *
+ * <p>
+ * File content is not read: a released artifact is identified by its id alone,
+ * files of snapshot artifacts and directories by their size and modification time.
+ * </p>
+ */
+class InputFingerprint {
+
+    private final Sha256 digest = new Sha256();
+
+    InputFingerprint add(String name, Object value) {
+        update(name);
+        update(String.valueOf(value));
+        return this;
+    }
+
+    InputFingerprint add(String name, Map<String, String> values) {
+        update(name);
+        if (values != null) {
+            new TreeMap<>(values).forEach((key, value) -> {
+                update(key);
+                update(value);
+            });
+        }
+        update("");
+        return this;
+    }
+
+    /**
+     * Add a dependency, identified by its id when released or by the size and
+     * modification time of its file(s) when it is a snapshot or a directory (e.g.
+     * the classes of another module of the reactor).
+     */
+    InputFingerprint addArtifact(Artifact artifact) throws IOException {
+        update(artifact.getId());
+        update(artifact.getScope());
+
+        Path path = artifact.getFile() != null ? artifact.getFile().toPath() : null;
+
+        if (artifact.isSnapshot() || path == null || !Files.isRegularFile(path)) {
+            addFiles("files", path);
+        }
+
+        return this;
+    }
+
+    /**
+     * Add the size and modification time of a file, or the relative paths, sizes and
+     * modification times of all files of a directory. A path that does not exist is
+     * added as such.
+     */
+    InputFingerprint addFiles(String name, Path path) throws IOException {
+        update(name);
+
+        if (path == null || !Files.exists(path)) {
+            update("-");
+        } else if (Files.isDirectory(path)) {
+            List<Path> files;
+            try (Stream<Path> stream = Files.walk(path)) {
+                files = stream.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+            }
+            for (Path file : files) {
+                update(path.relativize(file).toString());
+                updateAttributes(file);
+            }
+        } else {
+            updateAttributes(path);
+        }
+
+        return this;
+    }
+
+    String build() {
+        return digest.hex();
+    }
+
+    private void update(String value) {
+        if (value == null) {
+            digest.update("-1:");
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update(Integer.toString(bytes.length)).update((byte) ':').update(bytes);
+    }
+
+    private void updateAttributes(Path file) throws IOException {
+        update(Files.size(file) + ":" + Files.getLastModifiedTime(file).toMillis());
+    }
+}
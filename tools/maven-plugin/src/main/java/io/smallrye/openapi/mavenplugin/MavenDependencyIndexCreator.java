@@ -1,20 +1,31 @@
 package io.smallrye.openapi.mavenplugin;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.jar.JarFile;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
 
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.project.MavenProject;
@@ -24,6 +35,8 @@ import org.codehaus.plexus.logging.Logger;
 import org.jboss.jandex.CompositeIndex;
 import org.jboss.jandex.Index;
 import org.jboss.jandex.IndexView;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
 import org.jboss.jandex.Indexer;
 import org.jboss.jandex.JarIndexer;
 import org.jboss.jandex.Result;
@@ -31,9 +44,13 @@ import org.jboss.jandex.Result;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 
+import io.smallrye.openapi.runtime.util.Sha256;
+
 @Component(role = MavenDependencyIndexCreator.class, instantiationStrategy = "singleton")
 public class MavenDependencyIndexCreator {
 
+    private static final String JANDEX_INDEX = "META-INF/jandex.idx";
+
     private final Cache<String, IndexView> indexCache = CacheBuilder.newBuilder().build();
 
     private final Set<String> ignoredArtifacts = new HashSet<>();
@@ -70,10 +87,45 @@ public class MavenDependencyIndexCreator {
         ignoredArtifacts.add("org.apache.httpcomponents");
     }
 
+    MavenDependencyIndexCreator(Logger logger) {
+        this();
+        this.logger = logger;
+    }
+
     public IndexView createIndex(MavenProject mavenProject, boolean scanDependenciesDisable,
             List<String> includeDependenciesScopes, List<String> includeDependenciesTypes) throws Exception {
+        return createIndex(mavenProject, scanDependenciesDisable, includeDependenciesScopes, includeDependenciesTypes, null,
+                true, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Create the index of the project's classes and of its dependencies. Dependency jars
+     * are indexed in parallel, a jar containing a {@code META-INF/jandex.idx} is not indexed
+     * again and the index of every other jar is stored in the {@code cacheDirectory}, to be
+     * read by later builds instead of indexing the jar again.
+     *
+     * <p>
+     * The index shipped with a jar is used as is. It may have been created with a filter
+     * by the jar's build and then omit some of the jar's classes, which would then not be
+     * scanned. Such jars are indexed when {@code useShippedIndexes} is false.
+     * </p>
+     *
+     * @param mavenProject the project
+     * @param scanDependenciesDisable whether the dependencies are excluded from the index
+     * @param includeDependenciesScopes scopes of the dependencies to index
+     * @param includeDependenciesTypes types of the dependencies to index
+     * @param cacheDirectory directory of the persistent index cache, null to disable it
+     * @param useShippedIndexes whether the {@code META-INF/jandex.idx} of a jar is used
+     *        instead of indexing the jar
+     * @param threads maximum number of jars indexed in parallel
+     * @return the index
+     * @throws Exception when indexing fails unexpectedly
+     */
+    public IndexView createIndex(MavenProject mavenProject, boolean scanDependenciesDisable,
+            List<String> includeDependenciesScopes, List<String> includeDependenciesTypes, Path cacheDirectory,
+            boolean useShippedIndexes, int threads) throws Exception {
 
-        List<Map.Entry<Artifact, Duration>> indexDurations = new ArrayList<>();
+        List<Map.Entry<Artifact, Duration>> indexDurations = Collections.synchronizedList(new ArrayList<>());
 
         List<Artifact> artifacts = new ArrayList<>();
         artifacts.add(mavenProject.getArtifact());
@@ -81,30 +133,47 @@ public class MavenDependencyIndexCreator {
             artifacts.addAll(mavenProject.getArtifacts());
         }
 
+        List<Artifact> jarArtifacts = new ArrayList<>();
         List<IndexView> indexes = new ArrayList<>();
         for (Artifact artifact : artifacts) {
             if (isIgnored(artifact, includeDependenciesScopes, includeDependenciesTypes)) {
                 continue;
             }
 
-            try {
-                if (artifact.getFile().isDirectory()) {
-                    // Don't' cache local worskpace artifacts. Incremental compilation in IDE's would otherwise use the cached index instead of new one.
-                    // Right now, support for incremental compilation inside eclipse is blocked by: https://github.com/eclipse-m2e/m2e-core/issues/364#issuecomment-939987848
-                    // target/classes
+            if (artifact.getFile().isDirectory()) {
+                // Don't' cache local worskpace artifacts. Incremental compilation in IDE's would otherwise use the cached index instead of new one.
+                // Right now, support for incremental compilation inside eclipse is blocked by: https://github.com/eclipse-m2e/m2e-core/issues/364#issuecomment-939987848
+                // target/classes
+                try {
                     indexes.add(indexModuleClasses(artifact));
-                } else if (artifact.getFile().getName().endsWith(".jar")) {
-                    IndexView artifactIndex = timeAndCache(indexDurations, artifact, () -> {
-                        Result result = JarIndexer.createJarIndex(artifact.getFile(), new Indexer(),
-                                false, false, false);
-                        return result.getIndex();
-                    });
-                    indexes.add(artifactIndex);
+                } catch (IOException e) {
+                    logger.error("Can't compute index of " + artifact.getFile().getAbsolutePath() + ", skipping", e);
                 }
-            } catch (IOException | ExecutionException e) {
-                logger.error("Can't compute index of " + artifact.getFile().getAbsolutePath() + ", skipping", e);
+            } else if (artifact.getFile().getName().endsWith(".jar")) {
+                jarArtifacts.add(artifact);
             }
+        }
+
+        if (!jarArtifacts.isEmpty()) {
+            ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, jarArtifacts.size())));
+
+            try {
+                List<Future<IndexView>> jarIndexes = new ArrayList<>(jarArtifacts.size());
+
+                for (Artifact artifact : jarArtifacts) {
+                    jarIndexes.add(executor.submit(
+                            () -> indexJar(indexDurations, artifact, cacheDirectory, useShippedIndexes)));
+                }
 
+                for (Future<IndexView> jarIndex : jarIndexes) {
+                    IndexView artifactIndex = getIndex(jarIndex);
+                    if (artifactIndex != null) {
+                        indexes.add(artifactIndex);
+                    }
+                }
+            } finally {
+                executor.shutdownNow();
+            }
         }
 
         printIndexDurations(indexDurations);
@@ -112,6 +181,110 @@ public class MavenDependencyIndexCreator {
         return CompositeIndex.create(indexes);
     }
 
+    private IndexView indexJar(List<Map.Entry<Artifact, Duration>> indexDurations, Artifact artifact, Path cacheDirectory,
+            boolean useShippedIndexes) throws Exception {
+        try {
+            return timeAndCache(indexDurations, artifact, () -> {
+                File jar = artifact.getFile();
+                Index index = useShippedIndexes ? readJarIndex(jar) : null;
+
+                if (index == null) {
+                    index = cacheDirectory != null ? readOrCreateCachedIndex(artifact, cacheDirectory) : createJarIndex(jar);
+                }
+
+                return index;
+            });
+        } catch (IOException | ExecutionException e) {
+            logger.error("Can't compute index of " + artifact.getFile().getAbsolutePath() + ", skipping", e);
+            return null;
+        }
+    }
+
+    private static IndexView getIndex(Future<IndexView> jarIndex) throws Exception {
+        try {
+            return jarIndex.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw e;
+        }
+    }
+
+    private static Index createJarIndex(File jar) throws IOException {
+        Result result = JarIndexer.createJarIndex(jar, new Indexer(), false, false, false);
+        return result.getIndex();
+    }
+
+    /**
+     * Read the index shipped with the jar, if present.
+     *
+     * @return the index of the jar, or null if the jar does not contain an index
+     */
+    private Index readJarIndex(File jar) throws IOException {
+        try (JarFile jarFile = new JarFile(jar)) {
+            ZipEntry entry = jarFile.getEntry(JANDEX_INDEX);
+
+            if (entry == null) {
+                return null;
+            }
+
+            try (InputStream input = jarFile.getInputStream(entry)) {
+                return new IndexReader(input).read();
+            } catch (IOException | IllegalArgumentException e) {
+                logger.debug("Can't read " + JANDEX_INDEX + " of " + jar.getAbsolutePath() + ", indexing the jar", e);
+                return null;
+            }
+        }
+    }
+
+    private Index readOrCreateCachedIndex(Artifact artifact, Path cacheDirectory) throws IOException {
+        Path cached = cacheDirectory.resolve(buildGAVCTString(artifact).replaceAll("[^A-Za-z0-9._-]", "_")
+                + "-" + checksum(artifact.getFile().toPath()) + ".idx");
+
+        if (Files.isRegularFile(cached)) {
+            try (InputStream input = Files.newInputStream(cached)) {
+                return new IndexReader(input).read();
+            } catch (IOException | IllegalArgumentException e) {
+                logger.debug("Can't read cached index " + cached + ", indexing the jar again", e);
+            }
+        }
+
+        Index index = createJarIndex(artifact.getFile());
+
+        try {
+            writeCachedIndex(index, cached);
+        } catch (IOException e) {
+            logger.warn("Can't write cached index " + cached + ": " + e.getMessage());
+        }
+
+        return index;
+    }
+
+    private static void writeCachedIndex(Index index, Path cached) throws IOException {
+        Files.createDirectories(cached.getParent());
+        // Write to a temporary file first, builds running concurrently never read a partially written index
+        Path temp = Files.createTempFile(cached.getParent(), cached.getFileName().toString(), ".tmp");
+
+        try {
+            try (OutputStream output = Files.newOutputStream(temp)) {
+                new IndexWriter(output).write(index);
+            }
+            try {
+                Files.move(temp, cached, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, cached, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static String checksum(Path file) throws IOException {
+        return new Sha256().update(file).hex();
+    }
+
     private void printIndexDurations(List<Map.Entry<Artifact, Duration>> indexDurations) {
         if (logger.isDebugEnabled()) {
             indexDurations.sort(Map.Entry.comparingByValue());
@@ -48,4 +48,23 @@ public class BasicIT extends SchemaTestBase {
 
         testSchema(result, schemaConsumer);
     }
+
+    /**
+     * The schema is generated before and after compiling the project's classes, then once more
+     * without any change. Only the last execution finds the schema files up to date.
+     */
+    @MavenTest
+    @MavenGoal("${project.groupId}:${project.artifactId}:${project.version}:generate-schema")
+    @MavenGoal("compile")
+    @MavenGoal("${project.groupId}:${project.artifactId}:${project.version}:generate-schema")
+    @MavenGoal("${project.groupId}:${project.artifactId}:${project.version}:generate-schema")
+    void up_to_date(MavenExecutionResult result) throws IOException {
+        assertThat(result).isSuccessful()
+                .out()
+                .info()
+                .filteredOn(line -> line.contains("are up to date"))
+                .hasSize(1);
+
+        testSchema(result, schema -> assertEquals("Up to date", schema.getInfo().getTitle()));
+    }
 }
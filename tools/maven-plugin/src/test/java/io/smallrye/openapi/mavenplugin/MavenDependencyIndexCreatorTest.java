@@ -0,0 +1,165 @@
+package io.smallrye.openapi.mavenplugin;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.logging.Logger;
+import org.codehaus.plexus.logging.console.ConsoleLogger;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.IndexWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MavenDependencyIndexCreatorTest {
+
+    static class JarClass {
+    }
+
+    static class OtherClass {
+    }
+
+    static final DotName JAR_CLASS = DotName.createSimple(JarClass.class.getName());
+    static final DotName OTHER_CLASS = DotName.createSimple(OtherClass.class.getName());
+
+    static MavenDependencyIndexCreator creator() {
+        return new MavenDependencyIndexCreator(new ConsoleLogger(Logger.LEVEL_WARN, "test"));
+    }
+
+    static String resourceName(Class<?> klazz) {
+        return klazz.getName().replace('.', '/') + ".class";
+    }
+
+    static void write(JarOutputStream jar, String name, Class<?> klazz) throws IOException {
+        jar.putNextEntry(new JarEntry(name));
+        try (InputStream input = klazz.getClassLoader().getResourceAsStream(resourceName(klazz))) {
+            byte[] buffer = new byte[8192];
+            int count;
+            while ((count = input.read(buffer)) > -1) {
+                jar.write(buffer, 0, count);
+            }
+        }
+        jar.closeEntry();
+    }
+
+    static Path jar(Path directory, Index shippedIndex) throws IOException {
+        Path jar = directory.resolve("dependency.jar");
+
+        try (JarOutputStream output = new JarOutputStream(Files.newOutputStream(jar))) {
+            write(output, resourceName(JarClass.class), JarClass.class);
+
+            if (shippedIndex != null) {
+                output.putNextEntry(new JarEntry("META-INF/jandex.idx"));
+                new IndexWriter(output).write(shippedIndex);
+                output.closeEntry();
+            }
+        }
+
+        return jar;
+    }
+
+    static MavenProject project(Path directory, Path jar) throws IOException {
+        DefaultArtifact projectArtifact = new DefaultArtifact("test", "project", "1.0", null, "jar", null,
+                new DefaultArtifactHandler("jar"));
+        projectArtifact.setFile(Files.createDirectories(directory.resolve("classes")).toFile());
+
+        DefaultArtifact dependency = new DefaultArtifact("test", "dependency", "1.0", Artifact.SCOPE_COMPILE, "jar", null,
+                new DefaultArtifactHandler("jar"));
+        dependency.setFile(jar.toFile());
+
+        MavenProject project = new MavenProject();
+        project.setArtifact(projectArtifact);
+        project.setArtifacts(Collections.singleton(dependency));
+        return project;
+    }
+
+    static IndexView createIndex(MavenProject project, Path cacheDirectory, boolean useShippedIndexes) throws Exception {
+        return creator().createIndex(project, false, Collections.singletonList(Artifact.SCOPE_COMPILE),
+                Collections.singletonList("jar"), cacheDirectory, useShippedIndexes, 2);
+    }
+
+    static List<Path> entries(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return Collections.emptyList();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().collect(Collectors.toList());
+        }
+    }
+
+    static void writeIndex(Path file, Class<?> klazz) throws IOException {
+        try (OutputStream output = Files.newOutputStream(file)) {
+            new IndexWriter(output).write(Index.of(klazz));
+        }
+    }
+
+    @Test
+    void testCachedIndexRead(@TempDir Path directory) throws Exception {
+        Path cache = directory.resolve("cache");
+        MavenProject project = project(directory, jar(directory, null));
+
+        IndexView index = createIndex(project, cache, true);
+        assertNotNull(index.getClassByName(JAR_CLASS));
+        List<Path> entries = entries(cache);
+        assertEquals(1, entries.size());
+
+        // Replace the cached index to show that the jar is not indexed again
+        writeIndex(entries.get(0), OtherClass.class);
+
+        index = createIndex(project, cache, true);
+        assertNull(index.getClassByName(JAR_CLASS));
+        assertNotNull(index.getClassByName(OTHER_CLASS));
+        assertEquals(entries, entries(cache));
+    }
+
+    @Test
+    void testCorruptCachedIndexReplaced(@TempDir Path directory) throws Exception {
+        Path cache = directory.resolve("cache");
+        MavenProject project = project(directory, jar(directory, null));
+
+        createIndex(project, cache, true);
+        Path entry = entries(cache).get(0);
+        Files.write(entry, new byte[] { 1, 2, 3 });
+
+        IndexView index = createIndex(project, cache, true);
+        assertNotNull(index.getClassByName(JAR_CLASS));
+        assertEquals(Collections.singletonList(entry), entries(cache));
+        assertTrue(Files.size(entry) > 3);
+    }
+
+    @Test
+    void testShippedIndexUsed(@TempDir Path directory) throws Exception {
+        Path cache = directory.resolve("cache");
+        // The shipped index does not describe the content of the jar, e.g. it was created with a filter
+        MavenProject project = project(directory, jar(directory, Index.of(OtherClass.class)));
+
+        IndexView index = createIndex(project, cache, true);
+        assertNull(index.getClassByName(JAR_CLASS));
+        assertNotNull(index.getClassByName(OTHER_CLASS));
+        assertTrue(entries(cache).isEmpty());
+
+        index = createIndex(project, cache, false);
+        assertNotNull(index.getClassByName(JAR_CLASS));
+        assertNull(index.getClassByName(OTHER_CLASS));
+        assertEquals(1, entries(cache).size());
+    }
+}
@@ -1,6 +1,7 @@
 package io.smallrye.openapi.ui;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -8,10 +9,13 @@ import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Creates an index html based on some options
@@ -33,6 +37,27 @@ public class IndexHtmlCreator {
 
     public static byte[] createIndexHtml(Map<String, String> urls, String urlsPrimaryName, Map<Option, String> options)
             throws IOException {
+        return render(urls, urlsPrimaryName, options).getBytes().clone();
+    }
+
+    /**
+     * Creates the index html, compressed using gzip. The compressed content is
+     * retained with the rendered index html, subsequent calls using the same
+     * options do not compress the content again.
+     *
+     * @param urls the urls of the documents, may be null
+     * @param urlsPrimaryName name of the document selected initially, may be null
+     * @param options the options, may be null
+     * @return the gzip compressed index html
+     * @throws IOException when the template can not be read
+     */
+    public static byte[] createIndexHtmlGzip(Map<String, String> urls, String urlsPrimaryName, Map<Option, String> options)
+            throws IOException {
+        return render(urls, urlsPrimaryName, options).getGzipBytes().clone();
+    }
+
+    private static Rendered render(Map<String, String> urls, String urlsPrimaryName, Map<Option, String> options)
+            throws IOException {
         // First add the default that is not overridden
         options = populateDefaults(options);
         // Next sort out the url/urls
@@ -42,79 +67,233 @@ public class IndexHtmlCreator {
         // Add Preauth section
         addPreauthorizeSection(options);
 
-        try (InputStream input = IndexHtmlCreator.class.getClassLoader()
-                .getResourceAsStream("META-INF/resources/template/index.html");
-                InputStreamReader streamreader = new InputStreamReader(input, StandardCharsets.UTF_8);
-                BufferedReader reader = new BufferedReader(streamreader);
-                StringWriter writer = new StringWriter()) {
-
-            String str;
-            while ((str = reader.readLine()) != null) {
-                str = replace(str, urls, urlsPrimaryName, options);
-                if (str != null) {
-                    writer.write(str + "\n");
-                }
+        // The urls are only rendered via the url section, the options determine the result
+        Map<Option, String> key = new EnumMap<>(options);
+        Rendered rendered;
+
+        synchronized (RENDERED) {
+            rendered = RENDERED.get(key);
+        }
+
+        if (rendered == null) {
+            rendered = new Rendered(template().render(key));
+
+            synchronized (RENDERED) {
+                RENDERED.put(key, rendered);
             }
-            String result = writer.toString();
-            return result.getBytes(StandardCharsets.UTF_8);
         }
+
+        return rendered;
     }
 
-    private static String replace(String line, Map<String, String> urls, String urlsPrimaryName, Map<Option, String> options) {
-        if (line.contains(VAR_BEGIN)) {
-            Option variableOption = getVariable(line);
-            if (variableOption != null) {
-                if (options != null && options.containsKey(variableOption)) {
-                    String replacement = options.get(variableOption);
-                    if (replacement == null) {
-                        // Special case for oauth2RedirectUrl
-                        if (!variableOption.equals(Option.oauth2RedirectUrl)) {
-                            // You want to remove this line
-                            return null;
-                        }
-                        // Use a harmless default value for oauth2RedirectUrl.
-                        replacement = "-";
-                    }
-                    // Some properties can be boolean or String, if String we need to add '
-                    replacement = replacement.trim();
-                    if (BOOLEAN_OR_STRING_KEYS.contains(variableOption)) {
-                        if (!replacement.equals("true") && !replacement.equals("false")) {
-                            replacement = "'" + replacement + "'";
-                        }
-                    }
-                    // Some properties can be a String or a function, if String we need to add '
-                    replacement = replacement.trim();
-                    if (STRING_OR_FUNCTION_KEYS.contains(variableOption)) {
-                        if (!replacement.startsWith("function")) {
-                            replacement = "'" + replacement + "'";
+    private static Template template() throws IOException {
+        Template result = template;
+
+        if (result == null) {
+            synchronized (IndexHtmlCreator.class) {
+                result = template;
+
+                if (result == null) {
+                    try (InputStream input = IndexHtmlCreator.class.getClassLoader().getResourceAsStream(TEMPLATE)) {
+                        if (input == null) {
+                            throw new IOException("Template not found: " + TEMPLATE);
                         }
+                        result = new Template(new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)));
                     }
-                    // Some properties are string arrays, and we need to add the ' per element
-                    if (STRING_ARRAY_KEYS.contains(variableOption)) {
-                        List<String> newArray = new ArrayList<>();
-                        String[] parts = replacement.replace("[", "").replace("]", "").split(",");
-                        for (String part : parts) {
-                            newArray.add("'" + part.trim() + "'");
+                    template = result;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Format the value of an option for the template.
+     *
+     * @return the formatted value, or null when lines using the option are to be removed
+     */
+    private static String replacement(Option variableOption, String replacement) {
+        if (replacement == null) {
+            // Special case for oauth2RedirectUrl
+            if (!variableOption.equals(Option.oauth2RedirectUrl)) {
+                // You want to remove this line
+                return null;
+            }
+            // Use a harmless default value for oauth2RedirectUrl.
+            replacement = "-";
+        }
+        // Some properties can be boolean or String, if String we need to add '
+        replacement = replacement.trim();
+        if (BOOLEAN_OR_STRING_KEYS.contains(variableOption)) {
+            if (!replacement.equals("true") && !replacement.equals("false")) {
+                replacement = "'" + replacement + "'";
+            }
+        }
+        // Some properties can be a String or a function, if String we need to add '
+        replacement = replacement.trim();
+        if (STRING_OR_FUNCTION_KEYS.contains(variableOption)) {
+            if (!replacement.startsWith("function")) {
+                replacement = "'" + replacement + "'";
+            }
+        }
+        // Some properties are string arrays, and we need to add the ' per element
+        if (STRING_ARRAY_KEYS.contains(variableOption)) {
+            List<String> newArray = new ArrayList<>();
+            String[] parts = replacement.replace("[", "").replace("]", "").split(",");
+            for (String part : parts) {
+                newArray.add("'" + part.trim() + "'");
+            }
+            replacement = Arrays.toString(newArray.toArray(new String[] {}));
+        }
+        return replacement;
+    }
+
+    /**
+     * The template parsed into its lines, each line being a sequence of literal
+     * text and variables.
+     */
+    static final class Template {
+        // Value of an option without a value, lines using the option are omitted
+        private static final byte[] OMITTED = new byte[0];
+
+        private final List<Object[]> lines = new ArrayList<>();
+
+        Template(BufferedReader reader) throws IOException {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(parse(line));
+            }
+        }
+
+        /**
+         * @return the segments of the line, either a literal {@code byte[]} or an {@link Option}
+         */
+        private static Object[] parse(String line) {
+            List<Object> segments = new ArrayList<>();
+            int literalStart = 0;
+            int begin;
+
+            while ((begin = line.indexOf(VAR_BEGIN, literalStart)) > -1) {
+                int end = line.indexOf(VAR_END, begin + VAR_BEGIN.length());
+
+                if (end < 0) {
+                    break;
+                }
+
+                Option variable = getVariable(line.substring(begin + VAR_BEGIN.length(), end));
+
+                if (variable != null) {
+                    segments.add(line.substring(literalStart, begin).getBytes(StandardCharsets.UTF_8));
+                    segments.add(variable);
+                    literalStart = end + VAR_END.length();
+                } else {
+                    // Quitly fall through (maybe you want the var there ?)
+                    segments.add(line.substring(literalStart, end + VAR_END.length()).getBytes(StandardCharsets.UTF_8));
+                    literalStart = end + VAR_END.length();
+                }
+            }
+
+            segments.add((line.substring(literalStart) + "\n").getBytes(StandardCharsets.UTF_8));
+            return segments.toArray();
+        }
+
+        private static Option getVariable(String name) {
+            try {
+                return Option.valueOf(name);
+            } catch (IllegalArgumentException iae) {
+                return null;
+            }
+        }
+
+        /**
+         * Render the template in a single pass over its segments. A line is
+         * omitted when an option it uses has no value, variables not present in
+         * the options are left as they are.
+         */
+        byte[] render(Map<Option, String> options) {
+            Map<Option, byte[]> values = new EnumMap<>(Option.class);
+            List<byte[]> chunks = new ArrayList<>();
+            int length = 0;
+
+            for (Object[] line : lines) {
+                int lineStart = chunks.size();
+                int lineLength = 0;
+                boolean omitted = false;
+
+                for (Object segment : line) {
+                    byte[] chunk;
+
+                    if (segment instanceof Option) {
+                        Option option = (Option) segment;
+
+                        if (options.containsKey(option)) {
+                            chunk = values.computeIfAbsent(option, o -> {
+                                String value = replacement(o, options.get(o));
+                                return value != null ? value.getBytes(StandardCharsets.UTF_8) : OMITTED;
+                            });
+                            if (chunk == OMITTED) {
+                                omitted = true;
+                                break;
+                            }
+                        } else {
+                            chunk = (VAR_BEGIN + option + VAR_END).getBytes(StandardCharsets.UTF_8);
                         }
-                        replacement = Arrays.toString(newArray.toArray(new String[] {}));
+                    } else {
+                        chunk = (byte[]) segment;
                     }
 
-                    line = line.replace(VAR_BEGIN + variableOption + VAR_END, replacement);
+                    chunks.add(chunk);
+                    lineLength += chunk.length;
+                }
+
+                if (omitted) {
+                    chunks.subList(lineStart, chunks.size()).clear();
+                } else {
+                    length += lineLength;
                 }
-                // Check if there is more varibles
-                return replace(line, urls, urlsPrimaryName, options);
             }
+
+            byte[] result = new byte[length];
+            int offset = 0;
+
+            for (byte[] chunk : chunks) {
+                System.arraycopy(chunk, 0, result, offset, chunk.length);
+                offset += chunk.length;
+            }
+
+            return result;
         }
-        return line;
     }
 
-    private static Option getVariable(String line) {
-        try {
-            String stringValue = line.substring(line.indexOf(VAR_BEGIN) + 2, line.indexOf(VAR_END));
-            return Option.valueOf(stringValue);
-        } catch (IllegalArgumentException iae) {
-            // Quitly fall through (maybe you want the var there ?)
-            return null;
+    /**
+     * A rendered index html, with its gzip compressed form created on first use.
+     */
+    static final class Rendered {
+        private final byte[] bytes;
+        private volatile byte[] gzipBytes;
+
+        Rendered(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        byte[] getBytes() {
+            return bytes;
+        }
+
+        byte[] getGzipBytes() throws IOException {
+            byte[] result = gzipBytes;
+
+            if (result == null) {
+                ByteArrayOutputStream buffer = new ByteArrayOutputStream(bytes.length / 3);
+                try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+                    gzip.write(bytes);
+                }
+                result = buffer.toByteArray();
+                gzipBytes = result;
+            }
+
+            return result;
         }
     }
 
@@ -272,6 +451,21 @@ public class IndexHtmlCreator {
     private static final String VAR_BEGIN = "${";
     private static final String VAR_END = "}";
 
+    private static final String TEMPLATE = "META-INF/resources/template/index.html";
+    private static volatile Template template;
+
+    // Most recently rendered index html, per distinct options
+    private static final int RENDERED_MAX_SIZE = 16;
+    private static final Map<Map<Option, String>, Rendered> RENDERED = new LinkedHashMap<Map<Option, String>, Rendered>(
+            RENDERED_MAX_SIZE, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Map<Option, String>, Rendered> eldest) {
+            return size() > RENDERED_MAX_SIZE;
+        }
+    };
+
     private static final Map<Option, String> DEFAULT_OPTIONS = new HashMap<>();
     private static final String DEFAULT_URLS_PRIMARY_NAME = "Default";
     private static final String URL_FORMAT = "url: '%s'";
@@ -1,12 +1,18 @@
 package io.smallrye.openapi.ui;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.Test;
 
@@ -214,4 +220,37 @@ class IndexCreatorTest {
 
         assertTrue(html.contains("var oar"), "Missing declaration of 'oar'");
     }
+
+    @Test
+    void testRenderedIndexHtmlNotShared() throws IOException {
+        Map<Option, String> options = new HashMap<>();
+        options.put(Option.title, "Shared Title");
+
+        byte[] first = IndexHtmlCreator.createIndexHtml(new HashMap<>(options));
+        Arrays.fill(first, (byte) 0);
+        byte[] second = IndexHtmlCreator.createIndexHtml(new HashMap<>(options));
+
+        assertNotSame(first, second);
+        assertTrue(new String(second).contains("<title>Shared Title</title>"));
+    }
+
+    @Test
+    void testCreateGzip() throws IOException {
+        Map<Option, String> options = new HashMap<>();
+        options.put(Option.title, "Compressed Title");
+
+        byte[] indexHtml = IndexHtmlCreator.createIndexHtml(null, null, new HashMap<>(options));
+        byte[] gzipped = IndexHtmlCreator.createIndexHtmlGzip(null, null, new HashMap<>(options));
+
+        ByteArrayOutputStream uncompressed = new ByteArrayOutputStream();
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            byte[] buffer = new byte[1024];
+            int count;
+            while ((count = input.read(buffer)) > -1) {
+                uncompressed.write(buffer, 0, count);
+            }
+        }
+
+        assertArrayEquals(indexHtml, uncompressed.toByteArray());
+    }
 }